@@ -90,6 +90,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final TimingsCategory timings = new TimingsCategory();
 
+    @Setting
+    @Comment("Configuration options related to the asynchronous scheduler")
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     public final WorldCategory world = new WorldCategory();
 
@@ -0,0 +1,54 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+/**
+ * An immutable, flattened copy of the {@link CommonConfig} options that are
+ * read on hot paths, such as by the phase tracker on every phase switch.
+ *
+ * <p>A new snapshot is published by
+ * {@link org.spongepowered.common.applaunch.config.core.SpongeConfigs#getCommonSnapshot()}
+ * whenever the common configuration is loaded or updated, so reading an
+ * option is a single field access.</p>
+ */
+public final class CommonConfigSnapshot {
+
+    public final boolean phaseTrackerVerbose;
+    public final boolean phaseTrackerVerboseErrors;
+    public final boolean captureAsyncSpawningEntities;
+    public final boolean generateStackTracePerPhase;
+    public final int maximumPrintedRunawayCounts;
+    public final boolean reportNullSourceBlocksOnNeighborNotifications;
+
+    public CommonConfigSnapshot(final CommonConfig config) {
+        final PhaseTrackerCategory phaseTracker = config.phaseTracker;
+        this.phaseTrackerVerbose = phaseTracker.verbose;
+        this.phaseTrackerVerboseErrors = phaseTracker.verboseErrors;
+        this.captureAsyncSpawningEntities = phaseTracker.captureAsyncSpawningEntities;
+        this.generateStackTracePerPhase = phaseTracker.generateStackTracePerPhase;
+        this.maximumPrintedRunawayCounts = phaseTracker.maximumPrintedRunawayCounts;
+        this.reportNullSourceBlocksOnNeighborNotifications = phaseTracker.reportNullSourceBlocksOnNeighborNotifications;
+    }
+}
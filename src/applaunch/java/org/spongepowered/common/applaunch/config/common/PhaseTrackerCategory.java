@@ -29,7 +29,9 @@
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @ConfigSerializable
@@ -141,6 +143,17 @@ public final class PhaseTrackerCategory {
              + "https://github.com/Epoxide-Software/Enchanting-Plus/pull/135\n")
     public final Map<String, Boolean> autoFixNullSourceBlockProvidingBlockEntities = new HashMap<>();
 
+    @Setting("lightweight-event-listener-plugins")
+    @Comment("The ids of plugins whose event listeners do not need to be tracked\n"
+             + "while they handle an event. Their listeners are called without pushing\n"
+             + "the plugin onto the cause stack, without entering a plugin phase and\n"
+             + "without per listener timings, which is considerably cheaper for events\n"
+             + "that are posted very often, such as movement. Events posted and blocks\n"
+             + "changed by these listeners are attributed to whatever caused the event\n"
+             + "they are handling instead of the plugin.\n"
+             + "Only applies to listeners registered after the configuration is loaded.")
+    public final List<String> lightweightEventListenerPlugins = new ArrayList<>();
+
     private boolean isVanilla() {
         return SpongeConfigs.getPluginEnvironment().getBlackboard().get(SpongeConfigs.IS_VANILLA_PLATFORM).orElse(true);
     }
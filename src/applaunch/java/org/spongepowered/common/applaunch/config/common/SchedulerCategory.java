@@ -0,0 +1,51 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("bounded-async-pool")
+    @Comment("If 'true', asynchronous tasks are run on a bounded work-stealing \n"
+           + "pool instead of a pool which creates a new thread whenever all \n"
+           + "existing threads are busy. This avoids creating and tearing down \n"
+           + "hundreds of threads when plugins submit bursts of blocking tasks.")
+    public boolean boundedAsyncPool = false;
+
+    @Setting("async-pool-threads")
+    @Comment("The number of threads of the bounded async pool. \n"
+           + "If set to '0', the number of available processors is used.")
+    public int asyncPoolThreads = 0;
+
+    @Setting("max-concurrent-tasks-per-plugin")
+    @Comment("The maximum number of asynchronous tasks of a single plugin that \n"
+           + "may run at the same time, further tasks are queued until one of \n"
+           + "them completes. If set to '0', there is no limit.")
+    public int maxConcurrentTasksPerPlugin = 0;
+}
@@ -24,8 +24,9 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
-import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 import java.util.Collections;
 import java.util.List;
@@ -50,4 +51,9 @@ public final class TimingsCategory {
 
     @Setting("history-length")
     public int historyLength = 3600;
+
+    @Setting("export-directory")
+    @Comment("The directory, relative to the game directory, that '/sponge timings export' writes\n"
+           + "reports and the offline report viewer to.")
+    public String exportDirectory = "timings";
 }
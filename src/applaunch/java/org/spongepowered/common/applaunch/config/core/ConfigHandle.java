@@ -40,12 +40,15 @@
 import org.spongepowered.configurate.serialize.SerializationException;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 
@@ -107,6 +110,7 @@ private static <T> ObjectMapper.Mutable<T> mutableMapper(final T instance) {
     protected final ObjectMapper.Mutable<T> mapper;
     protected final T instance;
     protected @MonotonicNonNull CommentedConfigurationNode node;
+    private final List<Consumer<? super T>> updateListeners = new CopyOnWriteArrayList<>();
 
     protected ConfigHandle(final T instance) {
         this.mapper = ConfigHandle.mutableMapper(instance);
@@ -135,8 +139,25 @@ public T get() {
         return this.instance;
     }
 
+    /**
+     * Adds a listener that is called with the configuration whenever it is
+     * (re)loaded or updated through {@link #updateAndSave(UnaryOperator)}.
+     *
+     * @param listener The listener
+     */
+    public void addUpdateListener(final Consumer<? super T> listener) {
+        this.updateListeners.add(requireNonNull(listener, "listener"));
+    }
+
+    protected final void notifyUpdated() {
+        for (final Consumer<? super T> listener : this.updateListeners) {
+            listener.accept(this.instance);
+        }
+    }
+
     public CompletableFuture<T> updateAndSave(final UnaryOperator<T> updater) {
         final T updated = requireNonNull(updater, "updater").apply(this.instance);
+        this.notifyUpdated();
         return ConfigHandle.asyncFailableFuture(() -> {
             // TODO: Force one save at a time
             this.save();
@@ -152,6 +173,7 @@ void load() throws ConfigurateException {
         this.node = this.loader.load();
         this.doVersionUpdate();
         this.mapper.load(this.instance, this.node);
+        this.notifyUpdated();
         this.doSave();
     }
 
@@ -29,6 +29,7 @@
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.common.CommonConfigSnapshot;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationOptions;
@@ -86,6 +87,7 @@ public final class SpongeConfigs {
     private static Path configDir;
 
     private static ConfigHandle<CommonConfig> sponge;
+    private static volatile @MonotonicNonNull CommonConfigSnapshot commonSnapshot;
 
     public static void initialize(final PluginEnvironment environment) {
         if (SpongeConfigs.environment != null) {
@@ -125,7 +127,10 @@ public static ConfigHandle<CommonConfig> getCommon() {
                     // Load global config first so we can migrate over old settings
                     SpongeConfigs.splitFiles();
                     // Then load the actual configuration based on the new file
-                    SpongeConfigs.sponge = SpongeConfigs.create(new CommonConfig(), CommonConfig.FILE_NAME);
+                    final ConfigHandle<CommonConfig> common = SpongeConfigs.create(new CommonConfig(), CommonConfig.FILE_NAME);
+                    SpongeConfigs.commonSnapshot = new CommonConfigSnapshot(common.get());
+                    common.addUpdateListener(config -> SpongeConfigs.commonSnapshot = new CommonConfigSnapshot(config));
+                    SpongeConfigs.sponge = common;
                 }
             } finally {
                 SpongeConfigs.initLock.unlock();
@@ -134,6 +139,22 @@ public static ConfigHandle<CommonConfig> getCommon() {
         return SpongeConfigs.sponge;
     }
 
+    /**
+     * Get an immutable snapshot of the global configuration options that are
+     * read on hot paths. The snapshot is replaced whenever the global
+     * configuration is reloaded or updated.
+     *
+     * @return global config snapshot
+     */
+    public static CommonConfigSnapshot getCommonSnapshot() {
+        final CommonConfigSnapshot snapshot = SpongeConfigs.commonSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        SpongeConfigs.getCommon();
+        return SpongeConfigs.commonSnapshot;
+    }
+
 
     // Config-internal
     // everything below here should (mostly) not be directly accessed
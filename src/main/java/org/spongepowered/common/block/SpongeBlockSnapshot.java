@@ -72,7 +72,8 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
 
     private final BlockState blockState;
     private final ResourceKey worldKey;
-    private final Vector3i pos;
+    // Created lazily when the snapshot was built from a BlockPos
+    @MonotonicNonNull private Vector3i pos;
     @Nullable final CompoundNBT compound;
     // Internal use only
     private final BlockPos blockPos;
@@ -83,8 +84,13 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     SpongeBlockSnapshot(final SpongeBlockSnapshotBuilder builder) {
         this.blockState = Objects.requireNonNull(builder.blockState);
         this.worldKey = Objects.requireNonNull(builder.worldKey);
-        this.pos = Objects.requireNonNull(builder.coordinates);
-        this.blockPos = VecHelper.toBlockPos(this.pos);
+        if (builder.blockPos != null) {
+            this.blockPos = builder.blockPos;
+            this.pos = builder.coordinates;
+        } else {
+            this.pos = Objects.requireNonNull(builder.coordinates);
+            this.blockPos = VecHelper.toBlockPos(this.pos);
+        }
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
@@ -113,13 +119,16 @@ public ResourceKey getWorld() {
 
     @Override
     public Vector3i getPosition() {
+        if (this.pos == null) {
+            this.pos = VecHelper.toVector3i(this.blockPos);
+        }
         return this.pos;
     }
 
     @Override
     public Optional<ServerLocation> getLocation() {
         return this.getServerWorld()
-                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.pos));
+                .map(world -> ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, this.getPosition()));
     }
 
     @Override
@@ -141,7 +150,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
         // this way we guarantee an exit.
         try (final PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext(PhaseTracker.SERVER)) {
             context.buildAndSwitch();
-            final BlockPos pos = VecHelper.toBlockPos(this.pos);
+            final BlockPos pos = this.blockPos;
             if (!World.isInWorldBounds(pos)) { // Invalid position. Inline this check
                 return false;
             }
@@ -189,7 +198,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                         }
                         printer.add()
                             .add("Desired World: " + this.worldKey)
-                            .add("Position: " + this.pos)
+                            .add("Position: " + this.blockPos)
                             .add("Desired BlockState: " + this.blockState);
                         printer.add();
                         printer.log(SpongeCommon.getLogger(), Level.ERROR);
@@ -267,7 +276,7 @@ public Optional<CompoundNBT> getCompound() {
     public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = SpongeBlockSnapshotBuilder.pooled();
         builder.blockState(this.blockState)
-               .position(this.pos);
+               .position(this.blockPos);
         if (this.world != null && this.world.get() != null) {
             builder.world(this.world.get());
         } else {
@@ -330,7 +339,7 @@ public boolean equals(final Object o) {
         final SpongeBlockSnapshot that = (SpongeBlockSnapshot) o;
         return this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
-               Objects.equals(this.pos, that.pos) &&
+               Objects.equals(this.blockPos, that.blockPos) &&
                Objects.equals(this.compound, that.compound);
     }
 
@@ -339,7 +348,7 @@ public int hashCode() {
         return Objects
             .hash(this.blockState,
                 this.worldKey,
-                this.pos,
+                this.blockPos,
                 this.changeFlag,
                 this.compound);
     }
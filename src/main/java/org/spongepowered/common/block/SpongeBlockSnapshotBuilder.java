@@ -27,6 +27,7 @@
 import net.minecraft.block.Blocks;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.server.ServerWorld;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.ResourceKey;
@@ -43,9 +44,11 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
+import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -79,7 +82,8 @@ public static SpongeBlockSnapshotBuilder pooled() {
     ResourceKey worldKey;
     @Nullable UUID creatorUniqueId;
     @Nullable UUID notifierUniqueId;
-    Vector3i coordinates;
+    @Nullable Vector3i coordinates;
+    @Nullable BlockPos blockPos;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundNBT compound;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
@@ -106,7 +110,7 @@ public SpongeBlockSnapshotBuilder world(final ResourceKey key) {
     
     public SpongeBlockSnapshotBuilder world(final ServerWorld world) {
         this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) Objects.requireNonNull(world)).getKey();
-        this.worldRef = new WeakReference<>(world);
+        this.worldRef = ((TrackedWorldBridge) world).bridge$weakReference();
         return this;
     }
 
@@ -127,6 +131,7 @@ public SpongeBlockSnapshotBuilder blockState(final net.minecraft.block.BlockStat
     @NonNull
     public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         this.coordinates = Objects.requireNonNull(position);
+        this.blockPos = null;
         if (this.compound != null) {
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
@@ -135,6 +140,25 @@ public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         return this;
     }
 
+    /**
+     * Sets the position from an immutable {@link BlockPos}, the
+     * {@link Vector3i} position of the built snapshot is only created
+     * when it is requested.
+     *
+     * @param pos The immutable position
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder position(final BlockPos pos) {
+        this.blockPos = Objects.requireNonNull(pos);
+        this.coordinates = null;
+        if (this.compound != null) {
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, pos.getX());
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, pos.getY());
+            this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z, pos.getZ());
+        }
+        return this;
+    }
+
     @Override
     public BlockSnapshot.@NonNull Builder from(@NonNull final ServerLocation location) {
         return this.from(location.createSnapshot());
@@ -190,6 +214,7 @@ public SpongeBlockSnapshotBuilder from(final BlockSnapshot holder) {
             this.notifierUniqueId = holder.getNotifier().get();
         }
         this.coordinates = holder.getPosition();
+        this.blockPos = null;
         return this;
     }
 
@@ -200,7 +225,8 @@ public SpongeBlockSnapshotBuilder from(final SpongeBlockSnapshot snapshot) {
         this.worldKey = snapshot.getWorld();
         this.worldRef = snapshot.world;
         this.compound = snapshot.compound;
-        this.coordinates = snapshot.getPosition();
+        this.blockPos = snapshot.getBlockPos();
+        this.coordinates = null;
         this.flag = snapshot.getChangeFlag();
         return this;
     }
@@ -219,6 +245,9 @@ public UUID getCreatorUniqueId() {
     }
 
     public Vector3i getCoordinates() {
+        if (this.coordinates == null && this.blockPos != null) {
+            this.coordinates = VecHelper.toVector3i(this.blockPos);
+        }
         return this.coordinates;
     }
 
@@ -244,6 +273,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.creatorUniqueId = null;
         this.notifierUniqueId = null;
         this.coordinates = null;
+        this.blockPos = null;
         this.manipulators = null;
         this.compound = null;
         this.flag = null;
@@ -35,17 +35,19 @@
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
-import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataStore;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.Queries;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.data.persistence.datastore.SpongeCustomDataStore;
 import org.spongepowered.common.util.Constants;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -54,12 +56,17 @@
 public interface CustomDataHolderBridge {
 
     static void serializeCustomData(final DataCompoundHolder object) {
-        CompoundNBT compound = object.data$getCompound();
         if (!(object instanceof CustomDataHolderBridge)) {
             return;
         }
+        final CustomDataHolderBridge bridge = (CustomDataHolderBridge) object;
+        final CompoundNBT compound = object.data$getCompound();
+        if (bridge.bridge$isCustomDataSyncedTo(compound)) {
+            // Nothing changed since our data was last written to this compound
+            return;
+        }
 
-        final DataManipulator.Mutable manipulator = ((CustomDataHolderBridge) object).bridge$getManipulator();
+        final DataManipulator.Mutable manipulator = bridge.bridge$getManipulator();
         final DataHolder dataHolder = (DataHolder) object;
         final Type dataHolderType = dataHolder.getClass();
 
@@ -67,18 +74,44 @@ static void serializeCustomData(final DataCompoundHolder object) {
                 .map(key -> SpongeDataManager.getDatastoreRegistry().getDataStore(key, dataHolderType))
                 .collect(Collectors.toSet());
 
-        final DataContainer dataContainer = NBTTranslator.INSTANCE.translate(compound);
-        dataContainer.remove(DataQuery.of(Constants.Forge.FORGE_DATA, Constants.Sponge.SPONGE_DATA, Constants.Sponge.CUSTOM_MANIPULATOR_TAG_LIST));
-        if (!dataStores.isEmpty()) {
-            for (DataStore dataStore : dataStores) {
+        // Plugin data is written straight into its own entry of the manipulator list
+        final ListNBT manipulatorList = new ListNBT();
+        final List<DataStore> viewDataStores = new ArrayList<>();
+        for (final DataStore dataStore : dataStores) {
+            if (dataStore instanceof SpongeCustomDataStore && ((SpongeCustomDataStore) dataStore).isPluginData()) {
+                ((SpongeCustomDataStore) dataStore).serializeCustomData(manipulator).ifPresent(manipulatorList::add);
+            } else {
+                viewDataStores.add(dataStore);
+            }
+        }
+        // Start from an empty list, whatever the view stores write into it is kept and the plugin entries are added on top
+        object.data$getSpongeData().remove(Constants.Sponge.CUSTOM_MANIPULATOR_TAG_LIST);
+        if (!viewDataStores.isEmpty()) {
+            // Anything else may write anywhere, so it still needs the whole compound as a view
+            final DataContainer dataContainer = NBTTranslator.INSTANCE.translate(compound);
+            for (final DataStore dataStore : viewDataStores) {
                 dataStore.serialize(manipulator, dataContainer);
             }
+            compound.merge(NBTTranslator.INSTANCE.translate(dataContainer));
         }
-        final CompoundNBT serialized = NBTTranslator.INSTANCE.translate(dataContainer);
-        compound.merge(serialized); // TODO does this work?
 
         final CompoundNBT spongeData = object.data$getSpongeData();
-        final List<DataView> failedData = ((CustomDataHolderBridge) object).bridge$getFailedData();
+        final ListNBT combinedList = spongeData.getList(Constants.Sponge.CUSTOM_MANIPULATOR_TAG_LIST, Constants.NBT.TAG_COMPOUND);
+        if (!manipulatorList.isEmpty()) {
+            final Set<String> pluginIds = new HashSet<>();
+            for (int i = 0; i < manipulatorList.size(); i++) {
+                pluginIds.add(manipulatorList.getCompound(i).getString(Constants.Sponge.MANIPULATOR_ID));
+            }
+            // The plugin entry is the current one should a view store have written an entry for the same data
+            combinedList.removeIf(entry -> pluginIds.contains(((CompoundNBT) entry).getString(Constants.Sponge.MANIPULATOR_ID)));
+            combinedList.addAll(manipulatorList);
+        }
+        if (!combinedList.isEmpty()) {
+            spongeData.put(Constants.Sponge.CUSTOM_MANIPULATOR_TAG_LIST, combinedList);
+        } else {
+            spongeData.remove(Constants.Sponge.CUSTOM_MANIPULATOR_TAG_LIST);
+        }
+        final List<DataView> failedData = bridge.bridge$getFailedData();
         if (!failedData.isEmpty()) {
             final ListNBT failedList = new ListNBT();
             for (final DataView failedDatum : failedData) {
@@ -88,6 +121,7 @@ static void serializeCustomData(final DataCompoundHolder object) {
         } else {
             spongeData.remove(Constants.Sponge.FAILED_CUSTOM_DATA);
         }
+        bridge.bridge$markCustomDataSyncedTo(object.data$getCompound());
     }
 
     static void deserializeCustomData(final DataCompoundHolder object) {
@@ -103,37 +137,45 @@ static void deserializeCustomData(final DataCompoundHolder object) {
             return;
         }
         // There is some data present
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
-        final DataView spongeData = allData.getView(Constants.Forge.ROOT).flatMap(forgeData -> forgeData.getView(Constants.Sponge.SPONGE_ROOT)).get();
-        // Update data
-        final List<DataView> updatedDataViews = spongeData.getViewList(Constants.Sponge.CUSTOM_MANIPULATOR_LIST).get()
-                        .stream().map(CustomDataHolderBridge::updateDataViewForDataManipulator).collect(Collectors.toList());
-        spongeData.set(Constants.Sponge.CUSTOM_MANIPULATOR_LIST, updatedDataViews);
-
+        final CustomDataHolderBridge bridge = (CustomDataHolderBridge) object;
         final Class<? extends DataHolder> typeToken = object.getClass().asSubclass(DataHolder.class);
-        // Find DataStores
-        final List<DataStore> dataStores = new ArrayList<>();
+        final SpongeDataManager dataManager = (SpongeDataManager) Sponge.getGame().getDataManager();
+        final List<DataStore> viewDataStores = new ArrayList<>();
         final ImmutableList.Builder<DataView> failed = ImmutableList.builder();
-        for (DataView dataView : updatedDataViews) {
-            final Optional<DataStore> dataStore = dataView.getString(Constants.Sponge.DATA_ID)
-                    .flatMap(id -> ((SpongeDataManager) Sponge.getGame().getDataManager()).getDataStore(ResourceKey.resolve(id), typeToken));
-            if (dataStore.isPresent()) {
-                dataStores.add(dataStore.get());
-            } else {
+        for (int i = 0; i < list.size(); i++) {
+            final CompoundNBT manipulatorCompound = list.getCompound(i);
+            // Only outdated entries need to go through the content updaters as a view
+            final int version = manipulatorCompound.contains(Constants.Sponge.CONTENT_VERSION, Constants.NBT.TAG_ANY_NUMERIC)
+                    ? manipulatorCompound.getInt(Constants.Sponge.CONTENT_VERSION) : 1;
+            @Nullable final DataView updatedView = version == Constants.Sponge.CURRENT_CUSTOM_DATA ? null
+                    : CustomDataHolderBridge.updateDataViewForDataManipulator(NBTTranslator.INSTANCE.translate(manipulatorCompound));
+            final Optional<String> id = updatedView != null ? updatedView.getString(Constants.Sponge.DATA_ID)
+                    : Optional.of(manipulatorCompound.getString(Constants.Sponge.MANIPULATOR_ID)).filter(key -> !key.isEmpty());
+            final Optional<DataStore> dataStore = id.flatMap(key -> dataManager.getDataStore(ResourceKey.resolve(key), typeToken));
+            if (!dataStore.isPresent()) {
                 // If no datastore was found add this to failed data
-                failed.add(dataView);
+                failed.add(updatedView != null ? updatedView : NBTTranslator.INSTANCE.translate(manipulatorCompound));
+            } else if (dataStore.get() instanceof SpongeCustomDataStore && ((SpongeCustomDataStore) dataStore.get()).isPluginData()) {
+                final DataView manipulatorData = updatedView != null
+                        ? updatedView.getView(Constants.Sponge.MANIPULATOR_DATA).orElseGet(DataContainer::createNew)
+                        : NBTTranslator.INSTANCE.translate(manipulatorCompound.getCompound(Constants.Sponge.CUSTOM_DATA));
+                final DataManipulator.Mutable manipulator = DataManipulator.mutableOf();
+                ((SpongeCustomDataStore) dataStore.get()).deserializeCustomData(manipulator, manipulatorData);
+                // Set data in CustomDataHolderBridge
+                bridge.bridge$mergeDeserialized(manipulator);
+            } else {
+                viewDataStores.add(dataStore.get());
             }
         }
 
-
-        for (DataStore dataStore : dataStores) {
-            // Deserialize to Manipulator
-            final DataManipulator.Mutable manipulator = dataStore.deserialize(allData);
-            // Set data in CustomDataHolderBridge
-            ((CustomDataHolderBridge) object).bridge$mergeDeserialized(manipulator);
+        if (!viewDataStores.isEmpty()) {
+            final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+            for (final DataStore dataStore : viewDataStores) {
+                bridge.bridge$mergeDeserialized(dataStore.deserialize(allData));
+            }
         }
 
-        ((CustomDataHolderBridge) object).bridge$addFailedData(failed.build());
+        bridge.bridge$addFailedData(failed.build());
 
         CustomDataHolderBridge.syncCustomToTag(object);
     }
@@ -190,6 +232,7 @@ static DataView updateDataViewForDataManipulator(final DataView dataView) {
             builder.replace(immutableValue);
         }
         manipulator.set(key, value);
+        this.bridge$markCustomDataDirty();
         builder.success(manipulator.getValue(key).get().asImmutable());
 
         CustomDataHolderBridge.syncCustomToTag(this);
@@ -202,6 +245,7 @@ static DataView updateDataViewForDataManipulator(final DataView dataView) {
         final Optional<? extends Value<E>> value = manipulator.getValue(key);
         if (value.isPresent()) {
             manipulator.remove(key);
+            this.bridge$markCustomDataDirty();
         }
         CustomDataHolderBridge.syncCustomToTag(this);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
@@ -211,8 +255,33 @@ static DataView updateDataViewForDataManipulator(final DataView dataView) {
     DataManipulator.Mutable bridge$getManipulator();
 
     default void bridge$addFailedData(ImmutableList<DataView> failedData) {
-        this.bridge$getFailedData().addAll(failedData);
+        if (!failedData.isEmpty()) {
+            this.bridge$getFailedData().addAll(failedData);
+            this.bridge$markCustomDataDirty();
+        }
     }
 
     List<DataView> bridge$getFailedData();
+
+    /**
+     * Marks the custom data of this holder as changed, so the next sync
+     * writes it to the compound again.
+     */
+    void bridge$markCustomDataDirty();
+
+    /**
+     * Gets whether the custom data is unchanged since it was last written
+     * to the given compound.
+     *
+     * @param compound The compound currently held
+     * @return True if writing the custom data again can be skipped
+     */
+    boolean bridge$isCustomDataSyncedTo(@Nullable CompoundNBT compound);
+
+    /**
+     * Records that the custom data was just written to the given compound.
+     *
+     * @param compound The compound written to
+     */
+    void bridge$markCustomDataSyncedTo(@Nullable CompoundNBT compound);
 }
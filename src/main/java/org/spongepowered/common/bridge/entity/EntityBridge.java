@@ -36,6 +36,7 @@
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
 import org.spongepowered.common.world.portal.PlatformTeleporter;
+import org.spongepowered.common.world.region.MovementRegionIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Optional;
@@ -76,6 +77,25 @@ public interface EntityBridge {
 
     void bridge$setTransient(boolean value);
 
+    /**
+     * Gets the movement regions of the world this entity was in when its
+     * position was last reported to them.
+     *
+     * @return The movement regions, or null if not reported to any
+     */
+    @Nullable MovementRegionIndex bridge$getLastMovementRegions();
+
+    /**
+     * Gets the block, packed as by {@link BlockPos#asLong(int, int, int)},
+     * this entity was in when its position was last reported to the
+     * {@link #bridge$getLastMovementRegions() movement regions}.
+     *
+     * @return The packed block position
+     */
+    long bridge$getLastMovementRegionBlock();
+
+    void bridge$setLastMovementRegionPosition(@Nullable MovementRegionIndex regions, long block);
+
     boolean bridge$dismountRidingEntity(DismountType type);
 
     Optional<TeleportationRepositioner.Result> bridge$determineExitPortal(ServerWorld targetWorld, BlockPos targetPosition, boolean targetIsNether,
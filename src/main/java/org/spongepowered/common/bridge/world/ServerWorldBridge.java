@@ -33,6 +33,8 @@
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.weather.WeatherType;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.region.MovementRegionIndex;
+import org.spongepowered.common.world.storage.OwnerIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 public interface ServerWorldBridge {
@@ -62,4 +64,8 @@ public interface ServerWorldBridge {
     RegistryHolder bridge$registries();
 
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
+
+    OwnerIndex bridge$getOwnerIndex();
+
+    MovementRegionIndex bridge$getMovementRegions();
 }
@@ -41,8 +41,10 @@
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.WorldPipeline;
 
+import java.lang.ref.WeakReference;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A specialized {@link WorldBridge} or {@link ServerWorldBridge}
@@ -53,6 +55,23 @@ public interface TrackedWorldBridge {
 
     boolean bridge$forceSpawnEntity(Entity entity);
 
+    /**
+     * Gets a weak reference to this world that is shared by all snapshots
+     * and transactions captured in it, so that capturing does not need to
+     * create a new reference every time.
+     *
+     * @return The shared weak reference
+     */
+    WeakReference<ServerWorld> bridge$weakReference();
+
+    /**
+     * Gets a supplier of this world backed by {@link #bridge$weakReference()},
+     * the supplier throws if the world has been dereferenced.
+     *
+     * @return The shared world supplier
+     */
+    Supplier<ServerWorld> bridge$weakSupplier();
+
     net.minecraft.world.Explosion tracker$triggerInternalExplosion(Explosion explosion, Function<? super net.minecraft.world.Explosion,
         ? extends PhaseContext<?>> contextCreator);
 
@@ -25,6 +25,7 @@
 package org.spongepowered.common.bridge.world.chunk;
 
 import net.minecraft.block.Block;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkPrimer;
@@ -34,16 +35,11 @@
 import org.spongepowered.common.entity.PlayerTracker;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
-
     Optional<User> bridge$getBlockCreator(BlockPos pos);
 
     Optional<UUID> bridge$getBlockCreatorUUID(BlockPos pos);
@@ -59,9 +55,22 @@ public interface ChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    /**
+     * Writes the block creators and notifiers of this chunk, if any, to the
+     * level compound of the serialized chunk.
+     *
+     * @param compound The chunk's level compound
+     */
+    void bridge$writeBlockOwnership(CompoundNBT compound);
+
+    void bridge$readBlockOwnership(CompoundNBT compound);
+
+    /**
+     * Gives back the world wide owner indices held by the block creators and
+     * notifiers of this chunk. Called once the chunk has been unloaded, after
+     * its last save.
+     */
+    void bridge$releaseBlockOwnership();
 
     void bridge$setNeighbor(Direction direction, Chunk neighbor);
 
@@ -31,6 +31,7 @@
 import net.minecraft.world.server.ServerWorld;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.world.SerializationBehavior;
+import org.spongepowered.common.config.inheritable.EntityCollisionTable;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
@@ -89,5 +90,7 @@ public interface ServerWorldInfoBridge {
 
     void bridge$configAdapter(InheritableConfigHandle<WorldConfig> adapter);
 
+    EntityCollisionTable bridge$entityCollisionTable();
+
     void bridge$populateFromDimension(Dimension dimension);
 }
@@ -71,6 +71,16 @@ public static boolean canUse(
         }
     }
 
+    public static String getPermission(
+            final CommandDispatcher<CommandSource> dispatcher,
+            final CommandNode<CommandSource> node) {
+        final Supplier<String> supplier = SpongeNodePermissionCache.PERMISSION_MAP.get(node);
+        if (supplier == null) {
+            return SpongeNodePermissionCache.createFromNode(dispatcher, node);
+        }
+        return supplier.get();
+    }
+
     public static String createFromNode(
             final CommandDispatcher<CommandSource> dispatcher,
             final CommandNode<CommandSource> node) {
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.brigadier.tree;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import net.minecraft.command.ISuggestionProvider;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A client command tree that is built once and then handed out to every player that may use the same nodes.
+ *
+ * <p>Nodes are shared between the trees it is copied to, except for those that redirect back to the root (such as
+ * {@code /execute run}), or lead to such a node. Those are copied for each tree so their redirects point to the root
+ * of the tree that is sent, rather than to the root of the template.</p>
+ */
+public final class SuggestionTreeTemplate {
+
+    private final RootCommandNode<ISuggestionProvider> root;
+    private final Set<CommandNode<ISuggestionProvider>> leadingToRoot;
+
+    public SuggestionTreeTemplate(final RootCommandNode<ISuggestionProvider> root) {
+        this.root = root;
+        this.leadingToRoot = SuggestionTreeTemplate.findNodesLeadingToRoot(root);
+    }
+
+    public boolean hasChild(final String name) {
+        return this.root.getChild(name) != null;
+    }
+
+    public void copyTo(final CommandNode<ISuggestionProvider> target) {
+        final Map<CommandNode<ISuggestionProvider>, CommandNode<ISuggestionProvider>> copies = new IdentityHashMap<>();
+        copies.put(this.root, target);
+        for (final CommandNode<ISuggestionProvider> child : this.root.getChildren()) {
+            target.addChild(this.copy(child, copies));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CommandNode<ISuggestionProvider> copy(final CommandNode<ISuggestionProvider> node,
+            final Map<CommandNode<ISuggestionProvider>, CommandNode<ISuggestionProvider>> copies) {
+        if (!this.leadingToRoot.contains(node)) {
+            return node;
+        }
+        final CommandNode<ISuggestionProvider> existing = copies.get(node);
+        if (existing != null) {
+            return existing;
+        }
+        final ArgumentBuilder<ISuggestionProvider, ?> builder = node.createBuilder();
+        final CommandNode<ISuggestionProvider> redirect = node.getRedirect();
+        if (redirect != null) {
+            // Like fillUsableCommands, a redirect can only point to a node that has been created already, which holds for
+            // redirects to the root and to parent nodes. Anything else keeps pointing into the template.
+            builder.forward(copies.getOrDefault(redirect, redirect), node.getRedirectModifier(), node.isFork());
+        }
+        final CommandNode<ISuggestionProvider> copy;
+        if (builder instanceof RequiredArgumentBuilder) {
+            copy = new SuggestionArgumentNode<>((RequiredArgumentBuilder) builder);
+        } else {
+            copy = builder.build();
+        }
+        copies.put(node, copy);
+        for (final CommandNode<ISuggestionProvider> child : node.getChildren()) {
+            copy.addChild(this.copy(child, copies));
+        }
+        return copy;
+    }
+
+    private static Set<CommandNode<ISuggestionProvider>> findNodesLeadingToRoot(final RootCommandNode<ISuggestionProvider> root) {
+        final Set<CommandNode<ISuggestionProvider>> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<CommandNode<ISuggestionProvider>> toVisit = new ArrayDeque<>(root.getChildren());
+        while (!toVisit.isEmpty()) {
+            final CommandNode<ISuggestionProvider> node = toVisit.pop();
+            if (node != root && nodes.add(node)) {
+                toVisit.addAll(node.getChildren());
+                if (node.getRedirect() != null) {
+                    toVisit.add(node.getRedirect());
+                }
+            }
+        }
+
+        // Redirects may form cycles (/execute as <targets> goes back to /execute), so spread until nothing changes
+        final Set<CommandNode<ISuggestionProvider>> leadingToRoot = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (final CommandNode<ISuggestionProvider> node : nodes) {
+                if (!leadingToRoot.contains(node) && SuggestionTreeTemplate.leadsTo(node, root, leadingToRoot)) {
+                    leadingToRoot.add(node);
+                    changed = true;
+                }
+            }
+        }
+        return leadingToRoot;
+    }
+
+    private static boolean leadsTo(final CommandNode<ISuggestionProvider> node, final RootCommandNode<ISuggestionProvider> root,
+            final Set<CommandNode<ISuggestionProvider>> leadingToRoot) {
+        final CommandNode<ISuggestionProvider> redirect = node.getRedirect();
+        if (redirect == root || redirect != null && leadingToRoot.contains(redirect)) {
+            return true;
+        }
+        for (final CommandNode<ISuggestionProvider> child : node.getChildren()) {
+            if (leadingToRoot.contains(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
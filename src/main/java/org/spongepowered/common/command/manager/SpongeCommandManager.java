@@ -118,6 +118,7 @@ public final class SpongeCommandManager implements CommandManager {
 
     private boolean isResetting = false;
     private boolean hasStarted = false;
+    private int commandTreeVersion = 0;
 
     @Inject
     public SpongeCommandManager(final Game game, final Provider<SpongeCommand> spongeCommand) {
@@ -232,6 +233,7 @@ public CommandMapping registerAliasWithNamespacing(
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeVersion++;
         return mapping;
     }
 
@@ -562,7 +564,18 @@ public Collection<CommandNode<ISuggestionProvider>> getNonBrigadierSuggestions(f
         return suggestions;
     }
 
+    /**
+     * Gets a number that changes whenever commands are registered or reset,
+     * used to tell when client command trees built earlier are out of date.
+     *
+     * @return The version of the command tree
+     */
+    public int getCommandTreeVersion() {
+        return this.commandTreeVersion;
+    }
+
     public void reset() {
+        this.commandTreeVersion++;
         if (this.hasStarted) {
             this.isResetting = true;
             Sponge.getGame().registries().registry(RegistryTypes.COMMAND_REGISTRAR).streamEntries().forEach(entry -> entry.value().reset());
@@ -50,6 +50,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
 import org.spongepowered.plugin.PluginContainer;
 import org.spongepowered.plugin.metadata.PluginContributor;
 import org.spongepowered.plugin.metadata.PluginMetadata;
@@ -65,6 +66,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -130,6 +132,13 @@ public Command.Parameterized createSpongeCommand() {
                 .child(pluginsInfoCommand, "info")
                 .build();
 
+        // /sponge scheduler
+        final Command.Parameterized schedulerCommand = Command.builder()
+                .setPermission("sponge.command.scheduler")
+                .setShortDescription(Component.text("Displays the queue depth and latency of asynchronous tasks per plugin."))
+                .setExecutor(this::schedulerExecutor)
+                .build();
+
         // /sponge timings
         final Command.Parameterized timingsCommand = this.timingsSubcommand();
 
@@ -163,6 +172,7 @@ public Command.Parameterized createSpongeCommand() {
                 .child(chunksCommand, "chunks")
                 .child(heapCommand, "heap")
                 .child(pluginsCommand, "plugins")
+                .child(schedulerCommand, "scheduler")
                 .child(timingsCommand, "timings")
                 .child(tpsCommand, "tps")
                 .child(versionCommand, "version")
@@ -355,6 +365,16 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(Command.builder()
+                        .setExecutor(context -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                context.sendMessage(Identity.nil(), Component.text("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.generateLocalReport(context.getCause().getAudience());
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(Command.builder()
                         .setExecutor(context -> {
                             Timings.setTimingsEnabled(true);
@@ -404,6 +424,46 @@ private CommandResult pluginsRefreshSubcommandExecutor(final CommandContext cont
                 .build();
     }
 
+    private CommandResult schedulerExecutor(final CommandContext context) {
+        final List<Component> metrics = SpongeCommon.getAsyncScheduler().getTaskMetrics().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    final AsyncTaskExecutor.Metrics pluginMetrics = entry.getValue();
+                    return Component.text()
+                            .append(Component.text(entry.getKey(), NamedTextColor.GREEN))
+                            .append(Component.text(": queued "))
+                            .append(Component.text(pluginMetrics.getQueueDepth(), NamedTextColor.LIGHT_PURPLE))
+                            .append(Component.text(", running "))
+                            .append(Component.text(pluginMetrics.getRunning(), NamedTextColor.LIGHT_PURPLE))
+                            .append(Component.text(", completed "))
+                            .append(Component.text(pluginMetrics.getCompleted(), NamedTextColor.LIGHT_PURPLE))
+                            .append(Component.newline())
+                            .append(SpongeCommand.INDENT_COMPONENT)
+                            .append(Component.text("Wait mean: "))
+                            .append(this.nanosToMillis(pluginMetrics.getAverageWaitNanos()))
+                            .append(Component.text(", max: "))
+                            .append(this.nanosToMillis(pluginMetrics.getMaxWaitNanos()))
+                            .append(Component.text(", Run mean: "))
+                            .append(this.nanosToMillis(pluginMetrics.getAverageRunNanos()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        SpongeCommon.getGame().getServiceProvider()
+                .paginationService()
+                .builder()
+                .contents(metrics)
+                .title(Component.text("Asynchronous Tasks", NamedTextColor.WHITE))
+                .padding(Component.text("-", NamedTextColor.WHITE))
+                .sendTo(context.getCause().getAudience());
+
+        return CommandResult.success();
+    }
+
+    private Component nanosToMillis(final long nanos) {
+        return Component.text(SpongeCommand.THREE_DECIMAL_DIGITS_FORMATTER.format(nanos * 1.0E-6D) + "ms", NamedTextColor.RED);
+    }
+
     private CommandResult tpsExecutor(final CommandContext context) {
          final List<Component> tps = new ArrayList<>();
           // Uncomment when per-world TPS is in and working.
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import net.minecraft.entity.EntityType;
+import net.minecraft.item.Item;
+import net.minecraft.util.registry.Registry;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+
+import java.util.Arrays;
+
+/**
+ * The resolved maximum collisions of every entity and item type in a world.
+ *
+ * <p>Values are resolved from the world's {@link EntityCollisionCategory} the
+ * first time a type is seen and are then answered by a lookup on the type's
+ * registry id. The whole table is discarded when the backing configuration is
+ * loaded again.</p>
+ */
+public final class EntityCollisionTable {
+
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private final InheritableConfigHandle<WorldConfig> config;
+    private int generation;
+    private int[] entityTypes = new int[0];
+    private int[] itemTypes = new int[0];
+
+    public EntityCollisionTable(final InheritableConfigHandle<WorldConfig> config) {
+        this.config = config;
+        this.generation = config.generation();
+    }
+
+    public int getMaxCollisions(final EntityType<?> type) {
+        this.checkGeneration();
+        final int id = Registry.ENTITY_TYPE.getId(type);
+        if (id < 0) {
+            return this.resolve(this.entityKey(type));
+        }
+        if (id >= this.entityTypes.length) {
+            this.entityTypes = EntityCollisionTable.grow(this.entityTypes, id);
+        }
+        int max = this.entityTypes[id];
+        if (max == EntityCollisionTable.UNRESOLVED) {
+            max = this.resolve(this.entityKey(type));
+            this.entityTypes[id] = max;
+        }
+        return max;
+    }
+
+    public int getMaxCollisions(final Item item) {
+        this.checkGeneration();
+        final int id = Registry.ITEM.getId(item);
+        if (id < 0) {
+            return this.resolve(this.itemKey(item));
+        }
+        if (id >= this.itemTypes.length) {
+            this.itemTypes = EntityCollisionTable.grow(this.itemTypes, id);
+        }
+        int max = this.itemTypes[id];
+        if (max == EntityCollisionTable.UNRESOLVED) {
+            max = this.resolve(this.itemKey(item));
+            this.itemTypes[id] = max;
+        }
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResourceKey entityKey(final EntityType<?> type) {
+        return Sponge.getGame().registries().registry(RegistryTypes.ENTITY_TYPE)
+                .valueKey((org.spongepowered.api.entity.EntityType<?>) type);
+    }
+
+    private ResourceKey itemKey(final Item item) {
+        return Sponge.getGame().registries().registry(RegistryTypes.ITEM_TYPE).valueKey((ItemType) item);
+    }
+
+    private void checkGeneration() {
+        final int generation = this.config.generation();
+        if (generation != this.generation) {
+            this.generation = generation;
+            this.entityTypes = new int[0];
+            this.itemTypes = new int[0];
+        }
+    }
+
+    private static int[] grow(final int[] table, final int id) {
+        final int[] grown = Arrays.copyOf(table, Math.max(id + 1, table.length * 2));
+        Arrays.fill(grown, table.length, grown.length, EntityCollisionTable.UNRESOLVED);
+        return grown;
+    }
+
+    private int resolve(final ResourceKey key) {
+        final EntityCollisionCategory category = this.config.get().entityCollision;
+        final EntityCollisionCategory.ModSubCategory mod = this.config.getOrCreateValue(s -> s.entityCollision.mods.get(key.getNamespace()),
+                c -> {
+                    // TODO: save after populating?
+                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(key.getNamespace());
+                    c.entityCollision.mods.put(key.getNamespace(), globalCollision);
+                    globalCollision.entities.put(key.getValue(), category.maxEntitiesWithinAABB);
+                }, category.autoPopulate);
+
+        int max = category.maxEntitiesWithinAABB;
+        if (mod == null) {
+            return max;
+        }
+        if (!mod.enabled) {
+            return -1;
+        }
+        // check mod overrides
+        if (mod.entityDefault != null) {
+            max = mod.entityDefault;
+        }
+        // entity overrides
+        final Integer entityMax = mod.entities.get(key.getValue());
+        if (entityMax != null) {
+            max = entityMax;
+        } else if (category.autoPopulate && max > 0) {
+            // TODO(zml): Populate better
+            SpongeConfigs.getCommon().save();
+        }
+        return max;
+    }
+
+}
@@ -46,6 +46,11 @@
      */
     private CommentedConfigurationNode mergedNode;
 
+    /**
+     * Incremented every time this configuration is loaded.
+     */
+    private volatile int generation;
+
     public InheritableConfigHandle(final T instance, final @Nullable InheritableConfigHandle<?> parent) {
         super(instance);
         this.parent = parent;
@@ -99,9 +104,20 @@ public void load() throws ConfigurateException {
 
         // populate the config object
         this.mapper.load(this.instance, this.mergedNode);
+        this.generation++;
         this.doSave();
     }
 
+    /**
+     * Gets a counter which changes every time this configuration is loaded,
+     * allowing values derived from it to be discarded on reload.
+     *
+     * @return The load generation
+     */
+    public int generation() {
+        return this.generation;
+    }
+
     public void doSave() throws ConfigurateException {
         if (!this.isAttached()) {
             return;
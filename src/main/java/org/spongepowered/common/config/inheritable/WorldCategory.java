@@ -50,4 +50,12 @@ public final class WorldCategory {
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
+
+    @Setting("spawn-chunk-radius")
+    @Comment("The radius, in chunks, of the region around spawn that is loaded before the world \n"
+        + "is considered ready. Only chunks strictly within the radius are waited on, so the \n"
+        + "default of 11 prepares a 21x21 chunk area as Vanilla does. Lowering this speeds up \n"
+        + "loading worlds, such as minigame instances, that do not need a large spawn area. \n"
+        + "Valid values are between 1 and 32.")
+    public int spawnChunkRadius = 11;
 }
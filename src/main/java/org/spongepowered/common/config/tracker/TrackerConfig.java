@@ -27,6 +27,7 @@
 import org.spongepowered.common.applaunch.config.core.Config;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 public final class TrackerConfig implements Config {
@@ -60,4 +61,10 @@ public final class TrackerConfig implements Config {
 
     @Setting("block-entity")
     public final BlockEntityTrackerCategory blockEntity = new BlockEntityTrackerCategory();
+
+    @Setting("elide-unobserved-ticks")
+    @Comment("If 'true', entities and block entities without a creator or notifier are ticked without\n"
+            + "a tick phase of their own while no plugin listens to block change, neighbor notification,\n"
+            + "spawn, drop or explosion events. (Default: true)")
+    public boolean elideUnobservedTicks = true;
 }
@@ -40,11 +40,15 @@
 
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
 public final class SpongeKey<V extends Value<E>, E> extends AbstractResourceKeyed implements Key<V> {
 
+    private static final AtomicInteger keyCounter = new AtomicInteger();
+
+    private final int index;
     private final Type valueType;
     private final Type elementType;
     private final Comparator<? super E> elementComparator;
@@ -58,6 +62,7 @@ public SpongeKey(final ResourceKey key, final Type valueType, final Type element
             final BiPredicate<? super E, ? super E> elementIncludesTester, final Supplier<E> defaultValueSupplier) {
         super(key);
 
+        this.index = SpongeKey.keyCounter.getAndIncrement();
         this.valueType = valueType;
         this.elementType = elementType;
         this.elementComparator = elementComparator;
@@ -104,4 +109,24 @@ public Supplier<E> getDefaultValueSupplier() {
     public EmptyDataProvider<V, E> getEmptyDataProvider() {
         return this.emptyDataProvider;
     }
+
+    /**
+     * Gets the dense index of this key, every key gets the next index when
+     * it's constructed. Used to look up per key data in arrays.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the number of keys that have been constructed so far, all
+     * {@link #getIndex() indices} are smaller than this number.
+     *
+     * @return The number of keys
+     */
+    public static int getKeyCount() {
+        return SpongeKey.keyCounter.get();
+    }
 }
@@ -24,11 +24,17 @@
  */
 package org.spongepowered.common.data.persistence.datastore;
 
+import net.minecraft.nbt.CompoundNBT;
 import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.util.Tuple;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Map;
@@ -38,15 +44,72 @@
 
 public final class SpongeCustomDataStore extends SpongeDataStore {
 
-    private ResourceKey key;
+    @Nullable private final ResourceKey key;
+    private final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> customQueriesByKey;
 
-    public SpongeCustomDataStore(ResourceKey key, final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> queriesByKey,
+    public SpongeCustomDataStore(@Nullable final ResourceKey key, final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> queriesByKey,
+            final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> customQueriesByKey,
             final Collection<Type> tokens) {
         super(queriesByKey, tokens);
         this.key = key;
+        this.customQueriesByKey = customQueriesByKey;
     }
 
+    @Nullable
     public ResourceKey getCustomDataKey() {
         return this.key;
     }
+
+    /**
+     * Gets whether this store only writes to its own entry of the custom
+     * manipulator list, which allows holders to read and write that entry
+     * as nbt without translating their whole compound.
+     *
+     * @return True if this store holds plugin data
+     */
+    public boolean isPluginData() {
+        return this.key != null;
+    }
+
+    /**
+     * Serializes the values of this store into a custom manipulator list
+     * entry, holding the content version, data id and manipulator data.
+     *
+     * @param dataManipulator The manipulator to serialize from
+     * @return The entry, if any value of this store was present
+     */
+    @SuppressWarnings(value = {"unchecked", "rawtypes"})
+    public Optional<CompoundNBT> serializeCustomData(final DataManipulator dataManipulator) {
+        if (this.key == null) {
+            return Optional.empty();
+        }
+        final DataContainer internalData = DataContainer.createNew();
+        for (final Map.Entry<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> entry : this.customQueriesByKey.entrySet()) {
+            final BiConsumer serializer = entry.getValue().getFirst();
+            dataManipulator.get((Key) entry.getKey()).ifPresent(value -> serializer.accept(internalData, value));
+        }
+        if (internalData.isEmpty()) {
+            return Optional.empty();
+        }
+        final CompoundNBT manipulatorCompound = new CompoundNBT();
+        manipulatorCompound.putInt(Constants.Sponge.CONTENT_VERSION, Constants.Sponge.CURRENT_CUSTOM_DATA);
+        manipulatorCompound.putString(Constants.Sponge.MANIPULATOR_ID, this.key.toString());
+        manipulatorCompound.put(Constants.Sponge.CUSTOM_DATA, NBTTranslator.INSTANCE.translate(internalData));
+        return Optional.of(manipulatorCompound);
+    }
+
+    /**
+     * Deserializes the values of this store from the manipulator data of
+     * its custom manipulator list entry.
+     *
+     * @param dataManipulator The manipulator to deserialize into
+     * @param manipulatorData The manipulator data of the entry
+     */
+    @SuppressWarnings(value = {"unchecked", "rawtypes"})
+    public void deserializeCustomData(final DataManipulator.Mutable dataManipulator, final DataView manipulatorData) {
+        for (final Map.Entry<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> entry : this.customQueriesByKey.entrySet()) {
+            final Function<DataView, Optional<?>> deserializer = entry.getValue().getSecond();
+            deserializer.apply(manipulatorData).ifPresent(value -> dataManipulator.set((Key) entry.getKey(), value));
+        }
+    }
 }
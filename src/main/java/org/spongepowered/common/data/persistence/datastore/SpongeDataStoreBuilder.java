@@ -68,6 +68,7 @@ public final class SpongeDataStoreBuilder implements DataStore.Builder, DataStor
         DataStore.Builder.EndStep {
 
     private final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> serializers = new IdentityHashMap<>();
+    private final Map<Key<?>, Tuple<BiConsumer<DataView, ?>, Function<DataView, Optional<?>>>> customSerializers = new IdentityHashMap<>();
     private final List<Type> dataHolderTypes = new ArrayList<>();
     @Nullable private ResourceKey key;
 
@@ -180,6 +181,7 @@ public List<Type> getDataHolderTypes() {
     @SuppressWarnings("rawtypes")
     public <T, V extends Value<T>> SpongeDataStoreBuilder key(final Key<V> key, final BiConsumer<DataView, T> serializer, final Function<DataView, Optional<T>> deserializer) {
         if (this.key != null) {
+            this.customSerializers.put(key, (Tuple) Tuple.of(serializer, deserializer));
             this.serializers.put(key, (Tuple) Tuple.of(new CustomDataSerializer<>(serializer, this.key.toString()), new CustomDataDeserializer<>(deserializer, this.key.toString())));
         } else {
             this.serializers.put(key, (Tuple) Tuple.of(serializer, deserializer));
@@ -191,6 +193,7 @@ public <T, V extends Value<T>> SpongeDataStoreBuilder key(final Key<V> key, fina
     @Override
     public DataStore.Builder reset() {
         this.serializers.clear();
+        this.customSerializers.clear();
         this.dataHolderTypes.clear();
         this.key = null;
         return this;
@@ -226,7 +229,8 @@ public SpongeDataStoreBuilder vanillaData() {
 
     @Override
     public DataStore build() {
-        return new SpongeCustomDataStore(this.key, ImmutableMap.copyOf(this.serializers), ImmutableList.copyOf(this.dataHolderTypes));
+        return new SpongeCustomDataStore(this.key, ImmutableMap.copyOf(this.serializers), ImmutableMap.copyOf(this.customSerializers),
+                ImmutableList.copyOf(this.dataHolderTypes));
     }
 
     public DataStore buildVanillaDataStore() {
@@ -40,10 +40,10 @@
 import org.spongepowered.common.data.provider.item.stack.ItemStackDataProviders;
 import org.spongepowered.common.data.provider.nbt.NBTDataProviders;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -51,37 +51,25 @@
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
+    /**
+     * The resolved {@link DataProvider}s of a single data holder type, indexed
+     * by {@link SpongeKey#getIndex()}. Providers are resolved lazily, the first
+     * time a key is looked up for the holder type.
+     */
+    private static final class DispatchTable {
 
         final Class<?> holderType;
+        volatile DataProvider<?, ?>[] providers;
 
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
+        DispatchTable(final Class<?> holderType) {
             this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
+            this.providers = new DataProvider<?, ?>[SpongeKey.getKeyCount()];
         }
 
     }
+
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
@@ -94,8 +82,33 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
     }
 
     @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
+    private DataProvider<?,?> loadProvider(final Key<?> key, final Class<?> holderType) {
+        return this.buildDelegate((Key<Value<Object>>) key, provider -> DataProviderRegistry.filterHolderType(provider, holderType));
+    }
+
+    private DispatchTable getDispatchTable(final Class<?> holderType) {
+        final DispatchTable table = this.dispatchTables.get(holderType);
+        if (table != null) {
+            return table;
+        }
+        final DispatchTable newTable = new DispatchTable(holderType);
+        final DispatchTable existing = this.dispatchTables.putIfAbsent(holderType, newTable);
+        return existing == null ? newTable : existing;
+    }
+
+    private DataProvider<?, ?> resolveProvider(final DispatchTable table, final SpongeKey<?, ?> key) {
+        final DataProvider<?, ?> provider = this.loadProvider(key, table.holderType);
+        synchronized (table) {
+            DataProvider<?, ?>[] providers = table.providers;
+            final int index = key.getIndex();
+            if (index >= providers.length) {
+                providers = Arrays.copyOf(providers, Math.max(index + 1, SpongeKey.getKeyCount()));
+            }
+            providers[index] = provider;
+            // Publish the array again so the store above is visible
+            table.providers = providers;
+        }
+        return provider;
     }
 
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
@@ -190,7 +203,17 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      */
     @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final DispatchTable table = this.getDispatchTable(dataHolderType);
+        final DataProvider<?, ?>[] providers = table.providers;
+        final int index = spongeKey.getIndex();
+        if (index < providers.length) {
+            final DataProvider<?, ?> provider = providers[index];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return (DataProvider<V, E>) this.resolveProvider(table, spongeKey);
     }
 
     /**
@@ -200,7 +223,7 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.getKey(), provider);
-        this.dataProviderCache.clear();
+        this.dispatchTables.clear();
         this.dataProviderLookupCache.clear();
     }
 
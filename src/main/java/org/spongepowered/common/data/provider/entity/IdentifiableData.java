@@ -31,6 +31,7 @@
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.data.provider.DataProviderRegistrator;
 import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.common.user.SpongeUserManager;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -53,7 +54,12 @@ public static void register(final DataProviderRegistrator registrator) {
                         })
                         .supports(h -> h instanceof PlayerEntity || h instanceof SpongeUser)
                     .create(Keys.LAST_DATE_PLAYED)
-                        .get(h -> ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getLastPlayed(h.getUniqueId()).orElse(null))
+                        .get(h -> {
+                            final UUID id = h.getUniqueId();
+                            // players that joined before their data was tracked are still in the known user index
+                            return ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getLastPlayed(id)
+                                    .orElseGet(() -> ((SpongeUserManager) Sponge.getServer().getUserManager()).getLastSeen(id).orElse(null));
+                        })
                         .set((h, v) -> {
                             final UUID id = h.getUniqueId();
                             final Instant played = ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getFirstJoined(id).orElse(v);
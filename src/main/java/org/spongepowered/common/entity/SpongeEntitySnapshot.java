@@ -77,6 +77,7 @@ public class SpongeEntitySnapshot implements EntitySnapshot, SpongeImmutableData
         this.compound = builder.compound == null ? null : builder.compound.copy();
         if (builder.manipulator != null) {
             ((CustomDataHolderBridge) this).bridge$getManipulator().copyFrom(builder.manipulator);
+            ((CustomDataHolderBridge) this).bridge$markCustomDataDirty();
         }
 
         this.worldKey = builder.worldKey;
@@ -77,14 +77,16 @@
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.service.server.permission.BridgeSubject;
 import org.spongepowered.common.service.server.permission.SubjectHelper;
+import org.spongepowered.common.user.SpongeUserManager;
+import org.spongepowered.common.user.UserDataWriter;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MissingImplementationException;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -178,6 +180,8 @@ public void initialize() {
 
         final SaveFormat.LevelSave storageSource = ((MinecraftServerAccessor) Sponge.getServer()).accessor$storageSource();
         final File file = storageSource.getLevelPath(FolderName.PLAYER_DATA_DIR).resolve(this.profile.getId().toString() + ".dat").toFile();
+        // A previous save of this user may still be on its way to the disk
+        SpongeUser.getDataWriter().await(this.profile.getId());
         if (!file.exists()) {
             return;
         }
@@ -290,11 +294,7 @@ public void writeCompound(final CompoundNBT compound) {
 
         final CompoundNBT forgeCompound = compound.getCompound(Constants.Forge.FORGE_DATA);
         final CompoundNBT spongeCompound = forgeCompound.getCompound(Constants.Sponge.SPONGE_DATA);
-        spongeCompound.remove(Constants.Sponge.User.USER_SPAWN_LIST);
-        spongeCompound.remove(Constants.Sponge.Entity.IS_VANISHED);
-        spongeCompound.remove(Constants.Sponge.Entity.IS_INVISIBLE);
-        spongeCompound.remove(Constants.Sponge.Entity.VANISH_UNTARGETABLE);
-        spongeCompound.remove(Constants.Sponge.Entity.VANISH_UNCOLLIDEABLE);
+        SpongeUser.clearUserData(spongeCompound);
 
         final ListNBT spawns = new ListNBT();
         for (final Map.Entry<ResourceKey, RespawnLocation> entry : this.spawnLocations.entrySet()) {
@@ -491,26 +491,60 @@ public void markDirty() {
         }
     }
 
-    public void save() {
+    /**
+     * Queues the data of this user to be written to its player file and
+     * releases the loaded data.
+     *
+     * @return A future completing once the data is on disk
+     */
+    public CompletableFuture<Void> save() {
         Preconditions.checkState(this.isInitialized(), "User {} is not initialized", this.profile.getId());
 
         final SaveFormat.LevelSave storageSource = ((MinecraftServerAccessor) Sponge.getServer()).accessor$storageSource();
-        final File file = storageSource.getLevelPath(FolderName.PLAYER_DATA_DIR).resolve(this.getUniqueId() + ".dat").toFile();
-        CompoundNBT compound;
-        try {
-            compound = CompressedStreamTools.readCompressed(new FileInputStream(file));
-        } catch (final IOException ignored) {
-            // Nevermind
-            compound = new CompoundNBT();
-        }
-        this.writeCompound(compound);
-        try (final FileOutputStream out = new FileOutputStream(file)) {
-            CompressedStreamTools.writeCompressed(compound, out);
-            SpongeUser.dirtyUsers.remove(this);
-            this.invalidate();
-        } catch (final IOException e) {
-            SpongeCommon.getLogger().warn("Failed to save user file [{}]!", file, e);
+        final Path file = storageSource.getLevelPath(FolderName.PLAYER_DATA_DIR).resolve(this.getUniqueId() + ".dat");
+        // Only our own data is written here, it is merged into the existing file by the writer
+        final CompoundNBT snapshot = new CompoundNBT();
+        this.writeCompound(snapshot);
+        SpongeUser.dirtyUsers.remove(this);
+        this.invalidate();
+        return SpongeUser.getDataWriter().write(this.getUniqueId(), file, snapshot);
+    }
+
+    /**
+     * Merges user data written by {@link #writeCompound(CompoundNBT)} into an
+     * empty compound into existing player data, with the same result as
+     * writing it into the existing data directly.
+     *
+     * @param compound The existing player data
+     * @param snapshot The user data
+     */
+    public static void mergeSnapshot(final CompoundNBT compound, final CompoundNBT snapshot) {
+        for (final String key : snapshot.getAllKeys()) {
+            if (!key.equals(Constants.Forge.FORGE_DATA)) {
+                compound.put(key, snapshot.get(key));
+            }
+        }
+        final CompoundNBT forgeCompound = compound.getCompound(Constants.Forge.FORGE_DATA);
+        final CompoundNBT spongeCompound = forgeCompound.getCompound(Constants.Sponge.SPONGE_DATA);
+        SpongeUser.clearUserData(spongeCompound);
+        final CompoundNBT snapshotSpongeCompound = snapshot.getCompound(Constants.Forge.FORGE_DATA).getCompound(Constants.Sponge.SPONGE_DATA);
+        for (final String key : snapshotSpongeCompound.getAllKeys()) {
+            spongeCompound.put(key, snapshotSpongeCompound.get(key));
         }
+        forgeCompound.put(Constants.Sponge.SPONGE_DATA, spongeCompound);
+        compound.put(Constants.Forge.FORGE_DATA, forgeCompound);
+    }
+
+    private static void clearUserData(final CompoundNBT spongeCompound) {
+        spongeCompound.remove(Constants.Sponge.User.USER_SPAWN_LIST);
+        spongeCompound.remove(Constants.Sponge.Entity.IS_VANISHED);
+        spongeCompound.remove(Constants.Sponge.Entity.IS_INVISIBLE);
+        spongeCompound.remove(Constants.Sponge.Entity.VANISH_UNTARGETABLE);
+        spongeCompound.remove(Constants.Sponge.Entity.VANISH_UNCOLLIDEABLE);
+    }
+
+    private static UserDataWriter getDataWriter() {
+        return ((SpongeUserManager) Sponge.getServer().getUserManager()).getDataWriter();
     }
 
     // Helpers for Equipment:
@@ -26,7 +26,10 @@
 
 import com.google.common.base.CaseFormat;
 import io.leangen.geantyref.GenericTypeReflector;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.configurate.util.Types;
@@ -34,21 +37,54 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public final class ListenerChecker {
 
-    private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
+    static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
     private static final boolean DEBUG = Boolean.parseBoolean(System.getProperty("sponge.debugShouldFire", "").toLowerCase());
 
     private final Class<?> clazz;
     private Map<String, FieldData> fields = new HashMap<>();
     private Map<Class<?>, FieldData> fieldClassMap = new IdentityHashMap<>();
 
+    /**
+     * The event types reachable from {@link SpongeEventFactory}, keyed by
+     * their {@link ShouldFire} field name.
+     */
+    private final Map<String, Class<?>> eventTypesByName = new HashMap<>();
+
+    /**
+     * The number of registered listeners for each listened to event type,
+     * guarded by {@link #flagList}.
+     */
+    private final Reference2IntOpenHashMap<Class<?>> listenerTypes = new Reference2IntOpenHashMap<>();
+
+    /**
+     * Every flag created by {@link #flags}, guarded by itself. Flags are
+     * never removed, the set of event types is bounded.
+     */
+    private final List<ListenerFlag> flagList = new ArrayList<>();
+
+    /**
+     * The listener flag of every event type. The flags of all the event types
+     * reachable from {@link SpongeEventFactory} are generated upfront, any
+     * other type gets its flag computed from the currently registered
+     * listeners on first lookup.
+     */
+    private final ClassValue<ListenerFlag> flags = new ClassValue<ListenerFlag>() {
+        @Override
+        protected ListenerFlag computeValue(final Class<?> type) {
+            return ListenerChecker.this.createFlag(type);
+        }
+    };
+
 
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
@@ -60,6 +96,20 @@ private static String getName(Class<?> clazz) {
 
     public ListenerChecker(Class<?> clazz) {
         this.clazz = clazz;
+        for (final Method eventMethod : SpongeEventFactory.class.getMethods()) {
+            // Not all event types directly correspond to a method in SpongeEventFactory.
+            // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
+            // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid
+            // Therefore, we generate flags for all superinterfaces of each listed event.
+            Types.allSuperTypesAndInterfaces(eventMethod.getGenericReturnType())
+                    .map(GenericTypeReflector::erase)
+                    .filter(Event.class::isAssignableFrom)
+                    .forEach(eventType -> {
+                        if (this.eventTypesByName.putIfAbsent(ListenerChecker.getName(eventType), eventType) == null) {
+                            this.flags.get(eventType);
+                        }
+                    });
+        }
         for (Field field: this.clazz.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers())) {
                 FieldData data = new FieldData(field);
@@ -83,34 +133,66 @@ public ListenerChecker(Class<?> clazz) {
 
     public <T> void registerListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, true);
+        this.updateFlags(eventClass, true);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, false);
+        this.updateFlags(eventClass, false);
+    }
+
+    /**
+     * Gets whether any listener is registered which could receive an event of
+     * the given type, this includes listeners for supertypes and subtypes of
+     * the event type. Unlike the {@link ShouldFire} fields, this covers every
+     * event type.
+     *
+     * @param eventType The event type
+     * @return Whether the event type has any listeners
+     */
+    public boolean hasListeners(final Class<? extends Event> eventType) {
+        return ListenerChecker.ALL_TRUE || this.flags.get(eventType).listenerCount > 0;
     }
 
     private Class<?> getClassForField(final Field field) {
-        final String name = field.getName();
+        final Class<?> eventType = this.eventTypesByName.get(field.getName());
+        if (eventType == null) {
+            throw new IllegalStateException(String.format("ShouldFire field %s does not correspond to any SpongeAPI event! Check that the field is written in UPPER_CASE_UNDERSCORE format.", field));
+        }
+        return eventType;
+    }
 
-        final Method[] methods = SpongeEventFactory.class.getMethods();
-        for (final Method eventMethod : methods) {
-            // Not all fields will directly correspond to an event in SpongeEventFactory.
-            // For example, SpongeEventFactory has no method to create a ChangeBlockEvent,
-            // (only methods for its subtypes), but ShouldFire.CHANGE_BLOCK_EVENT exists, and is valid
-            // Therefore, we check all superinterfaces of each listed event.
-            final Class<?> possibleType = Types.allSuperTypesAndInterfaces(eventMethod.getGenericReturnType())
-                    .map(GenericTypeReflector::erase)
-                    .filter(eventType -> {
-                        final String eventMethodName = ListenerChecker.getName(eventType);
-                        return name.equals(eventMethodName);
-                    })
-                    .findFirst().orElse(null);
-
-            if (possibleType != null) {
-                return possibleType;
+    private ListenerFlag createFlag(final Class<?> eventType) {
+        synchronized (this.flagList) {
+            int listenerCount = 0;
+            for (final Reference2IntMap.Entry<Class<?>> entry : this.listenerTypes.reference2IntEntrySet()) {
+                if (ListenerChecker.isRelated(entry.getKey(), eventType)) {
+                    listenerCount += entry.getIntValue();
+                }
+            }
+            final ListenerFlag flag = new ListenerFlag(eventType, listenerCount);
+            this.flagList.add(flag);
+            return flag;
+        }
+    }
+
+    private void updateFlags(final Class<?> eventClass, final boolean registering) {
+        synchronized (this.flagList) {
+            final int delta = registering ? 1 : -1;
+            if (this.listenerTypes.addTo(eventClass, delta) + delta <= 0) {
+                this.listenerTypes.removeInt(eventClass);
+            }
+            // The same ancestor and descendant walk as updateFields, see below
+            for (final ListenerFlag flag : this.flagList) {
+                if (ListenerChecker.isRelated(eventClass, flag.eventType)) {
+                    flag.listenerCount += delta;
+                }
             }
         }
-        throw new IllegalStateException(String.format("ShouldFire field %s does not correspond to any SpongeAPI event! Check that the field is written in UPPER_CASE_UNDERSCORE format.", field));
+    }
+
+    private static boolean isRelated(final Class<?> listenerType, final Class<?> eventType) {
+        return listenerType.isAssignableFrom(eventType) || eventType.isAssignableFrom(listenerType);
     }
 
     public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
@@ -173,6 +255,16 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
         }
     }
 
+    private static final class ListenerFlag {
+        final Class<?> eventType;
+        volatile int listenerCount;
+
+        ListenerFlag(final Class<?> eventType, final int listenerCount) {
+            this.eventType = eventType;
+            this.listenerCount = listenerCount;
+        }
+    }
+
     private static class FieldData {
         Field field;
         int listenerCount = 0;
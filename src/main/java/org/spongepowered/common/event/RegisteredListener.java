@@ -32,6 +32,7 @@
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.filter.ListenerPrecondition;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import org.spongepowered.plugin.PluginContainer;
 
@@ -50,14 +51,19 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final boolean lightweight;
+    private final ListenerPrecondition precondition;
     private Timing listenerTimer;
 
-    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            boolean lightweight, ListenerPrecondition precondition) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.lightweight = lightweight;
+        this.precondition = checkNotNull(precondition, "precondition");
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +82,26 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener is called without pushing a cause stack
+     * frame, a plugin phase context and a timing.
+     *
+     * @return True if this listener is dispatched lightweight
+     */
+    public boolean isLightweight() {
+        return this.lightweight;
+    }
+
+    /**
+     * Gets the requirements which the filters of this listener place on the
+     * type and cause of an event.
+     *
+     * @return The precondition of this listener
+     */
+    public ListenerPrecondition getPrecondition() {
+        return this.precondition;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -105,10 +131,13 @@ public int compareTo(RegisteredListener<?> handler) {
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
+        private final RegisteredListener<?>[] listenerArray;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private volatile boolean invalidated;
 
         Cache(List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
+            this.listenerArray = listeners.toArray(new RegisteredListener<?>[0]);
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
@@ -121,6 +150,18 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
+        boolean isInvalidated() {
+            return this.invalidated;
+        }
+
+        void invalidate() {
+            this.invalidated = true;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(checkNotNull(order, "order"));
             if (list == null) {
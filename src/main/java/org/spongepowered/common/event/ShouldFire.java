@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.event;
 
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Event;
+
 public final class ShouldFire {
 
     // Format is event class name with underscores
@@ -113,4 +116,28 @@ public final class ShouldFire {
 
     public static boolean KICK_PLAYER_EVENT = false;
 
+    /**
+     * Gets whether any listener could receive an event of the given type,
+     * following the same rules as the fields above. Every event type has a
+     * flag, so this can be used for the events which have no field here.
+     *
+     * @param eventType The type of the event to be fired
+     * @return Whether the event type has any listeners
+     */
+    public static boolean hasListeners(final Class<? extends Event> eventType) {
+        return ((SpongeEventManager) Sponge.getEventManager()).checker.hasListeners(eventType);
+    }
+
+    /**
+     * Gets whether any listener would accept an event of the given exact type
+     * when posted with the current cause stack, see
+     * {@link SpongeEventManager#hasAcceptingListeners(Class)}. Check this
+     * after pushing the causes of the event, before creating it.
+     *
+     * @param eventType The exact type of the event to be fired
+     * @return Whether any listener would accept the event
+     */
+    public static boolean hasAcceptingListeners(final Class<? extends Event> eventType) {
+        return ((SpongeEventManager) Sponge.getEventManager()).hasAcceptingListeners(eventType);
+    }
 }
@@ -662,7 +662,7 @@ public static void callNaturalMoveEntityEvent(final net.minecraft.entity.Entity
         final double deltaX = entity.xOld - entity.getX();
         final double deltaY = entity.yOld - entity.getY();
         final double deltaZ = entity.zOld - entity.getZ();
-        final double deltaChange = Math.pow(deltaX, 2) + Math.pow(deltaY, 2) + Math.pow(deltaZ, 2);
+        final double deltaChange = deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ;
         if (deltaChange < 1f / 256) {
             return;
         }
@@ -671,9 +671,9 @@ public static void callNaturalMoveEntityEvent(final net.minecraft.entity.Entity
             frame.pushCause(entity);
             frame.addContext(EventContextKeys.MOVEMENT_TYPE, MovementTypes.NATURAL);
 
+            final Vector3d destination = new Vector3d(entity.getX(), entity.getY(), entity.getZ());
             final MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(frame.getCurrentCause(), (Entity) entity,
-                    new Vector3d(entity.xOld, entity.yOld, entity.zOld), new Vector3d(entity.getX(), entity.getY(), entity.getZ()),
-                    new Vector3d(entity.getX(), entity.getY(), entity.getZ()));
+                    new Vector3d(entity.xOld, entity.yOld, entity.zOld), destination, destination);
 
             if (SpongeCommon.postEvent(event)) {
                 entity.setPos(entity.xOld, entity.yOld, entity.zOld);
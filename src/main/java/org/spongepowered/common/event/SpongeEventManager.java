@@ -49,8 +49,10 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.filter.ListenerPrecondition;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -80,8 +82,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Singleton
 public final class SpongeEventManager implements EventManager {
@@ -96,14 +96,35 @@ public final class SpongeEventManager implements EventManager {
 
     public final ListenerChecker checker;
 
+    /**
+     * The erased {@link Event} supertypes and interfaces of every event class
+     * that has been baked, including the class itself. Computed once per class
+     * so that rebaking a handler cache does not need to walk the type
+     * hierarchy again.
+     */
+    private final Map<Class<?>, Class<?>[]> eventSuperTypes = new ConcurrentHashMap<>();
+
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>When handlers are added or removed, only the entries for event types
+     * whose supertypes include the type of a changed handler are invalidated.</p>
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * A per class view of {@link #handlersCache} for non generic events, this
+     * avoids creating an {@link EventType} key and the cache lookup for every
+     * posted event. A stale entry is detected through
+     * {@link RegisteredListener.Cache#isInvalidated()}.
+     */
+    private final ClassValue<HandlerCacheSlot> handlersByClass = new ClassValue<HandlerCacheSlot>() {
+        @Override
+        protected HandlerCacheSlot computeValue(final Class<?> type) {
+            return new HandlerCacheSlot();
+        }
+    };
+
     @Inject
     public SpongeEventManager(final Logger logger) {
         this.logger = logger;
@@ -138,17 +159,22 @@ public SpongeEventManager(final Logger logger) {
         }
     }
 
+    private Class<?>[] getEventSuperTypes(final Class<?> eventClass) {
+        return this.eventSuperTypes.computeIfAbsent(eventClass, type -> Types.allSuperTypesAndInterfaces(type)
+                .map(GenericTypeReflector::erase)
+                .filter(Event.class::isAssignableFrom)
+                .distinct()
+                .toArray(Class<?>[]::new));
+    }
+
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
-        final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
-                .map(GenericTypeReflector::erase)
-                .filter(Event.class::isAssignableFrom);
+        final Class<?>[] types = this.getEventSuperTypes(eventType.getType());
 
         // TODO: Move @Includes and @Excludes from filters to the baking process, this simplifies the generated
         //       filter code and makes the filter baking target more specific handlers.
         synchronized (this.lock) {
-            for (final Iterator<? extends Class<?>> it = types.iterator(); it.hasNext();) {
-                final Class<?> type = it.next();
+            for (final Class<?> type : types) {
                 final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
                 if (GenericEvent.class.isAssignableFrom(type)) {
                     final Type genericType = Objects.requireNonNull(eventType.getGenericType());
@@ -202,21 +228,48 @@ private void register(final RegisteredListener<? extends Event> handler) {
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changed.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+        this.invalidateHandlers(changed);
+    }
+
+    /**
+     * Invalidates the baked handlers of every cached event type which is a
+     * subtype of one of the given listener event types. Entries for unrelated
+     * event types are kept as they are.
+     *
+     * @param changedTypes The event types of the added or removed listeners
+     */
+    private void invalidateHandlers(final Set<Class<?>> changedTypes) {
+        if (changedTypes.isEmpty()) {
+            return;
+        }
+        final List<EventType<?>> invalidated = new ArrayList<>();
+        for (final EventType<?> cached : this.handlersCache.asMap().keySet()) {
+            for (final Class<?> superType : this.getEventSuperTypes(cached.getType())) {
+                if (changedTypes.contains(superType)) {
+                    invalidated.add(cached);
+                    break;
+                }
+            }
+        }
+        for (final EventType<?> eventType : invalidated) {
+            @Nullable final RegisteredListener.Cache cache = this.handlersCache.getIfPresent(eventType);
+            if (cache != null) {
+                cache.invalidate();
+            }
         }
+        this.handlersCache.invalidateAll(invalidated);
     }
 
     private void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -258,7 +311,7 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler));
+                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, ListenerPrecondition.of(method), handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -288,19 +341,24 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-            final Listener listener, final EventListener<? super T> handler) {
-        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+            final Listener listener, final ListenerPrecondition precondition, final EventListener<? super T> handler) {
+        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), false, precondition,
+                handler);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final boolean lightweight, final ListenerPrecondition precondition,
+            final EventListener<? super T> handler) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        final boolean dispatchLightweight = lightweight || SpongeConfigs.getCommon().get().phaseTracker.lightweightEventListenerPlugins
+                .contains(plugin.getMetadata().getId());
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, dispatchLightweight,
+                precondition);
     }
 
     @Override
@@ -340,11 +398,34 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
             final boolean beforeModifications, final EventListener<? super T> listener) {
-        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, listener));
+        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, false,
+                ListenerPrecondition.NONE, listener));
+    }
+
+    /**
+     * Registers a listener which does not rely on the plugin being on the
+     * cause stack, on a plugin phase context or on per listener timings while
+     * it handles an event, so it is called without any of them.
+     *
+     * <p>Events posted and blocks changed from within the listener are
+     * attributed to whatever is currently on the cause stack. Listeners of
+     * plugins can be dispatched the same way through the
+     * {@code phase-tracker.lightweight-event-listener-plugins} option.</p>
+     *
+     * @param plugin The plugin that owns the listener
+     * @param eventType The type of event to listen to
+     * @param order The order in which the listener is called
+     * @param listener The listener
+     * @param <T> The type of event
+     */
+    public <T extends Event> void registerLightweightListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
+            final EventListener<? super T> listener) {
+        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, false, true, ListenerPrecondition.NONE,
+                listener));
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
@@ -352,7 +433,7 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventType().getType());
                     // TODO: This doesn't seem right, even as it was before
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
@@ -360,9 +441,7 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     @Override
@@ -381,17 +460,57 @@ public void unregisterPluginListeners(final PluginContainer plugin) {
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            return this.handlersCache.get(new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType())));
         }
-        return this.handlersCache.get(eventType);
+        return this.getHandlerCache(eventClass);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RegisteredListener.Cache getHandlerCache(final Class<? extends Event> eventClass) {
+        final HandlerCacheSlot slot = this.handlersByClass.get(eventClass);
+        @Nullable RegisteredListener.Cache cache = slot.cache;
+        if (cache == null || cache.isInvalidated()) {
+            cache = this.handlersCache.get(new EventType(eventClass, null));
+            slot.cache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Gets whether any registered listener could accept an event of the given
+     * type if it were posted with the current cause stack, based on the
+     * {@link ListenerPrecondition} of each listener. This allows the event,
+     * its cause and any snapshots for it to not be created at all when every
+     * listener would filter it out.
+     *
+     * <p>This must be checked after the causes of the event have been pushed,
+     * and with the exact type of the event that will be created.</p>
+     *
+     * @param eventType The exact type of the event
+     * @return False if no listener would accept the event
+     */
+    public boolean hasAcceptingListeners(final Class<? extends Event> eventType) {
+        if (ListenerChecker.ALL_TRUE) {
+            return true;
+        }
+        if (!this.checker.hasListeners(eventType)) {
+            return false;
+        }
+        if (GenericEvent.class.isAssignableFrom(eventType)) {
+            return true;
+        }
+        final PhaseTracker tracker = PhaseTracker.getInstance();
+        for (final RegisteredListener<?> listener : this.getHandlerCache(eventType).getListenerArray()) {
+            if (listener.getPrecondition().test(eventType, tracker)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @SuppressWarnings("unchecked")
-    private boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
+    private boolean post(final Event event, final RegisteredListener<?>[] handlers) {
         final Engine engine = EngineUtil.determineEngine();
 
         // If this event is being posted asynchronously then we don't want
@@ -417,6 +536,20 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
         for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+            if (handler.isLightweight()) {
+                try {
+                    if (event instanceof AbstractEvent) {
+                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    }
+                    SpongeCommon.setActivePlugin(handler.getPlugin());
+                    handler.handle(event);
+                } catch (Throwable e) {
+                    this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
+                } finally {
+                    SpongeCommon.setActivePlugin(null);
+                }
+                continue;
+            }
             try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = this.createPluginContext(handler);
                  final Timing timings = handler.getTimingsHandler()) {
@@ -460,7 +593,7 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.post(event, this.getHandlerCache(event).getListenerArray());
         } finally {
             if (event instanceof InteractContainerEvent) { // Finished using Container
                 ((ContainerBridge) ((InteractContainerEvent) event).getContainer()).bridge$setInUse(false);
@@ -470,9 +603,15 @@ public boolean post(final Event event) {
 
     public boolean post(final Event event, final PluginContainer plugin) {
         final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
-        final List<RegisteredListener<?>> pluginListeners = listeners.stream()
+        final RegisteredListener<?>[] pluginListeners = listeners.stream()
             .filter(l -> l.getPlugin() == plugin)
-            .collect(Collectors.toList());
+            .toArray(RegisteredListener<?>[]::new);
         return this.post(event, pluginListeners);
     }
+
+    static final class HandlerCacheSlot {
+
+        @Nullable volatile RegisteredListener.Cache cache;
+
+    }
 }
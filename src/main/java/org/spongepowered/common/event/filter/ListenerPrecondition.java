@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.filter;
+
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The requirements that the filter annotations of a listener method place on
+ * the type and the cause of an event, in a form that can be checked against
+ * the cause stack before the event is constructed.
+ *
+ * <p>Passing the precondition does not mean that the generated
+ * {@link EventFilter} accepts the event, but failing it means that the filter
+ * would always reject it.</p>
+ */
+public final class ListenerPrecondition {
+
+    private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+    public static final ListenerPrecondition NONE = new ListenerPrecondition(null, ListenerPrecondition.NO_TYPES,
+            ListenerPrecondition.NO_TYPES, ListenerPrecondition.NO_TYPES);
+
+    @Nullable private final Class<?> root;
+    private final Class<?>[] causes;
+    private final Class<?>[] includes;
+    private final Class<?>[] excludes;
+
+    private ListenerPrecondition(@Nullable final Class<?> root, final Class<?>[] causes, final Class<?>[] includes, final Class<?>[] excludes) {
+        this.root = root;
+        this.causes = causes;
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Creates the precondition of the given listener method. Only the
+     * {@link Root}, {@link First} and {@link Last} parameter sources and the
+     * {@link Include} and {@link Exclude} annotations are taken into account,
+     * the other filters can not be evaluated without the event.
+     *
+     * @param method The listener method
+     * @return The precondition
+     */
+    public static ListenerPrecondition of(final Method method) {
+        @Nullable final Include include = method.getAnnotation(Include.class);
+        @Nullable final Exclude exclude = method.getAnnotation(Exclude.class);
+        @Nullable Class<?> root = null;
+        final List<Class<?>> causes = new ArrayList<>();
+        final Parameter[] params = method.getParameters();
+        for (int i = 1; i < params.length; i++) {
+            final Parameter param = params[i];
+            if (param.isAnnotationPresent(Root.class)) {
+                root = param.getType();
+            } else if (param.isAnnotationPresent(First.class) || param.isAnnotationPresent(Last.class)) {
+                causes.add(param.getType());
+            }
+        }
+        if (root == null && causes.isEmpty() && include == null && exclude == null) {
+            return ListenerPrecondition.NONE;
+        }
+        return new ListenerPrecondition(root, causes.toArray(new Class<?>[0]),
+                include == null ? ListenerPrecondition.NO_TYPES : include.value(),
+                exclude == null ? ListenerPrecondition.NO_TYPES : exclude.value());
+    }
+
+    /**
+     * Tests whether an event of the given type, posted with the current cause
+     * of the given tracker, could pass the filter of the listener.
+     *
+     * @param eventType The exact type of the event
+     * @param tracker The phase tracker holding the cause stack
+     * @return False if the filter would reject the event
+     */
+    public boolean test(final Class<?> eventType, final PhaseTracker tracker) {
+        if (this.includes.length != 0 && !ListenerPrecondition.isSubtypeOfAny(eventType, this.includes)) {
+            return false;
+        }
+        if (ListenerPrecondition.isSubtypeOfAny(eventType, this.excludes)) {
+            return false;
+        }
+        if (this.root != null && !this.root.isInstance(tracker.getCurrentRootCause())) {
+            return false;
+        }
+        for (final Class<?> cause : this.causes) {
+            if (!tracker.containsCause(cause)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSubtypeOfAny(final Class<?> eventType, final Class<?>[] types) {
+        for (final Class<?> type : types) {
+            if (type.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
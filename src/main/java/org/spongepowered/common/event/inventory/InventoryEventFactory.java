@@ -75,6 +75,7 @@
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
@@ -96,9 +97,16 @@ public class InventoryEventFactory {
 
 
     public static boolean callPlayerChangeInventoryPickupPreEvent(final PlayerEntity player, final ItemEntity itemToPickup, final int pickupDelay) {
+        if (!ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.Pre.class)) {
+            return true;
+        }
         final ItemStack stack = itemToPickup.getItem();
         final CauseStackManager causeStackManager = PhaseTracker.getCauseStackManager();
         causeStackManager.pushCause(player);
+        if (!ShouldFire.hasAcceptingListeners(ChangeInventoryEvent.Pickup.Pre.class)) {
+            causeStackManager.popCause();
+            return true;
+        }
         final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(stack);
         final ChangeInventoryEvent.Pickup.Pre event =
                 SpongeEventFactory.createChangeInventoryEventPickupPre(
@@ -148,7 +156,16 @@ public static boolean callPlayerChangeInventoryPickupEvent(final PlayerEntity pl
         if (inventory.bridge$getCapturedSlotTransactions().isEmpty()) {
             return true;
         }
+        if (!ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.class)) {
+            inventory.bridge$getCapturedSlotTransactions().clear();
+            return true;
+        }
         PhaseTracker.getCauseStackManager().pushCause(player);
+        if (!ShouldFire.hasAcceptingListeners(ChangeInventoryEvent.Pickup.class)) {
+            PhaseTracker.getCauseStackManager().popCause();
+            inventory.bridge$getCapturedSlotTransactions().clear();
+            return true;
+        }
         final ChangeInventoryEvent.Pickup event = SpongeEventFactory.createChangeInventoryEventPickup(PhaseTracker.getCauseStackManager().getCurrentCause(), (Inventory) player.containerMenu,
                 inventory.bridge$getCapturedSlotTransactions());
         SpongeCommon.postEvent(event);
@@ -160,8 +177,15 @@ public static boolean callPlayerChangeInventoryPickupEvent(final PlayerEntity pl
 
 
     public static ItemStack callInventoryPickupEvent(final IInventory inventory, final ItemEntity item, final ItemStack stack) {
+        if (!ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.Pre.class) && !ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.class)) {
+            return HopperTileEntity.addItem(null, inventory, stack, null);
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(inventory);
+            if (!ShouldFire.hasAcceptingListeners(ChangeInventoryEvent.Pickup.Pre.class)
+                    && !ShouldFire.hasAcceptingListeners(ChangeInventoryEvent.Pickup.class)) {
+                return HopperTileEntity.addItem(null, inventory, stack, null);
+            }
 
             final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(stack);
             final ChangeInventoryEvent.Pickup.Pre event =
@@ -291,6 +315,9 @@ public static ClickContainerEvent.Creative callCreativeClickContainerEvent(final
     }
 
     public static boolean callInteractContainerOpenEvent(final ServerPlayerEntity player) {
+        if (!ShouldFire.hasAcceptingListeners(InteractContainerEvent.Open.class)) {
+            return true;
+        }
         final ItemStackSnapshot newCursor = ItemStackUtil.snapshotOf(player.inventory.getCarried());
         final Transaction<ItemStackSnapshot> cursorTransaction = new Transaction<>(ItemStackSnapshot.empty(), newCursor);
         final InteractContainerEvent.Open event =
@@ -554,6 +581,9 @@ public static ChangeEntityEquipmentEvent callChangeEntityEquipmentEvent(
 
 
     public static int callEnchantEventLevelRequirement(EnchantmentContainer container, int seed, int option, int power, ItemStack itemStack, int levelRequirement) {
+        if (!ShouldFire.hasAcceptingListeners(EnchantItemEvent.CalculateLevelRequirement.class)) {
+            return levelRequirement;
+        }
         org.spongepowered.api.item.inventory.Container enchantContainer = ContainerUtil.fromNative(container);
 
         PlayerEntity viewer = (PlayerEntity) enchantContainer.getViewer();
@@ -571,6 +601,9 @@ public static int callEnchantEventLevelRequirement(EnchantmentContainer containe
 
     public static List<EnchantmentData> callEnchantEventEnchantmentList(EnchantmentContainer container,
             int seed, ItemStack itemStack, int option, int level, List<EnchantmentData> list) {
+        if (!ShouldFire.hasAcceptingListeners(EnchantItemEvent.CalculateEnchantment.class)) {
+            return list;
+        }
 
         List<Enchantment> enchList = Collections.unmodifiableList(SpongeRandomEnchantmentListBuilder.fromNative(list));
 
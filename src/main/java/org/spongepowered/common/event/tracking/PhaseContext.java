@@ -191,7 +191,7 @@ public boolean allowsBulkEntityCaptures() {
 
     public P buildAndSwitch() {
         this.isCompleted = true;
-        if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
+        if (SpongeConfigs.getCommonSnapshot().generateStackTracePerPhase) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
         }
         PhaseTracker.getInstance().switchToPhase(this.state, this);
@@ -432,7 +432,7 @@ protected void reset() {
     }
 
     public void printTrace(final PrettyPrinter printer) {
-        if (SpongeConfigs.getCommon().get().phaseTracker.generateStackTracePerPhase) {
+        if (SpongeConfigs.getCommonSnapshot().generateStackTracePerPhase) {
             printer.add("Entrypoint:")
                 .add(this.stackTrace);
         }
@@ -112,7 +112,7 @@ static void printNullSourceForBlock(final ServerWorld worldServer, final BlockPo
 
     static void printUnexpectedBlockChange(final ServerWorldBridge mixinWorld, final BlockPos pos, final net.minecraft.block.BlockState currentState,
                                             final net.minecraft.block.BlockState newState) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             return;
         }
         final PrettyPrinter printer = new PrettyPrinter(60).add("Unexpected World Change Detected!").centre().hr()
@@ -138,7 +138,7 @@ static void printUnexpectedBlockChange(final ServerWorldBridge mixinWorld, final
 
 
     static void printExceptionSpawningEntity(final PhaseTracker tracker, final PhaseContext<@NonNull ?> context, final Throwable e) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.printedExceptionsForEntities.isEmpty()) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.printedExceptionsForEntities.isEmpty()) {
             if (PhasePrinter.printedExceptionsForEntities.contains(context.state)) {
                 return;
             }
@@ -146,7 +146,7 @@ static void printExceptionSpawningEntity(final PhaseTracker tracker, final Phase
         final PrettyPrinter printer = new PrettyPrinter(60).add("Exception attempting to capture or spawn an Entity!").centre().hr();
         PhasePrinter.printPhasestack(tracker, context, e, printer);
         printer.log(SpongeCommon.getLogger(), Level.ERROR);
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             PhasePrinter.printedExceptionsForEntities.add(context.state);
         }
     }
@@ -204,7 +204,7 @@ static void printPhaseStackWithException(final PhaseStack stack, final PrettyPri
     }
 
     static void printBlockTrackingException(final PhaseTracker tracker, final PhaseContext<@NonNull ?> phaseData, final IPhaseState<@NonNull ?> phaseState, final Throwable e) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.printedExceptionsForBlocks.isEmpty()) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.printedExceptionsForBlocks.isEmpty()) {
             if (PhasePrinter.printedExceptionsForBlocks.contains(phaseState)) {
                 return;
             }
@@ -216,7 +216,7 @@ static void printBlockTrackingException(final PhaseTracker tracker, final PhaseC
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             PhasePrinter.printedExceptionsForBlocks.add(phaseState);
         }
     }
@@ -263,7 +263,7 @@ public static void printMessageWithCaughtException(final PhaseStack stack, final
     }
 
     static void printExceptionFromPhase(final PhaseStack stack, final Throwable e, final PhaseContext<@NonNull ?> context) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.printedExceptionsForState.isEmpty()) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.printedExceptionsForState.isEmpty()) {
             for (final IPhaseState<@NonNull ?> iPhaseState : PhasePrinter.printedExceptionsForState) {
                 if (context.state == iPhaseState) {
                     return;
@@ -285,7 +285,7 @@ static void printExceptionFromPhase(final PhaseStack stack, final Throwable e, f
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             PhasePrinter.printedExceptionsForState.add(context.state);
         }
     }
@@ -297,7 +297,7 @@ static void printUnprocessedPhaseContextObjects(final PhaseStack stack, final IP
     }
 
     static void printRunawayPhase(final PhaseStack stack, final IPhaseState<@NonNull ?> state, final PhaseContext<@NonNull ?> context) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.hasPrintedAboutRunnawayPhases) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.hasPrintedAboutRunnawayPhases) {
             // Avoiding spam logs.
             return;
         }
@@ -313,13 +313,13 @@ static void printRunawayPhase(final PhaseStack stack, final IPhaseState<@NonNull
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && PhasePrinter.printRunawayCount++ > SpongeConfigs.getCommon().get().phaseTracker.maximumPrintedRunawayCounts) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && PhasePrinter.printRunawayCount++ > SpongeConfigs.getCommonSnapshot().maximumPrintedRunawayCounts) {
             PhasePrinter.hasPrintedAboutRunnawayPhases = true;
         }
     }
 
     static void printRunnawayPhaseCompletion(final PhaseStack stack, final IPhaseState<@NonNull ?> state) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.hasPrintedAboutRunnawayPhases) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.hasPrintedAboutRunnawayPhases) {
             // Avoiding spam logs.
             return;
         }
@@ -337,7 +337,7 @@ static void printRunnawayPhaseCompletion(final PhaseStack stack, final IPhaseSta
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && PhasePrinter.printRunawayCount++ > 3) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && PhasePrinter.printRunawayCount++ > 3) {
             PhasePrinter.hasPrintedAboutRunnawayPhases = true;
         }
     }
@@ -349,7 +349,7 @@ static void generateVersionInfo(final PrettyPrinter printer) {
     }
 
     static void printIncorrectPhaseCompletion(final PhaseStack stack, final IPhaseState<@NonNull ?> prevState, final IPhaseState<@NonNull ?> state) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && !PhasePrinter.completedIncorrectStates.isEmpty()) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && !PhasePrinter.completedIncorrectStates.isEmpty()) {
             for (final Tuple<IPhaseState<@NonNull ?>, IPhaseState<@NonNull ?>> tuple : PhasePrinter.completedIncorrectStates) {
                 if ((tuple.getFirst().equals(prevState)
                         && tuple.getSecond().equals(state))) {
@@ -377,7 +377,7 @@ static void printIncorrectPhaseCompletion(final PhaseStack stack, final IPhaseSt
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             PhasePrinter.completedIncorrectStates.add(new Tuple<>(prevState, state));
         }
     }
@@ -407,7 +407,7 @@ static void printEmptyStackOnCompletion(final PhaseContext<@NonNull ?> context)
         } else {
             printer.log(SpongeCommon.getLogger(), Level.ERROR);
         }
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             PhasePrinter.hasPrintedEmptyOnce = true;
         }
     }
@@ -445,14 +445,14 @@ static void printAsyncBlockChange(final TrackedWorldBridge mixinWorld, final Blo
     static void printAsyncEntitySpawn(final Entity entity) {
         // We aren't in the server thread at this point, and an entity is spawning on the server....
         // We will DEFINITELY be doing bad things otherwise. We need to artificially capture here.
-        if (!SpongeConfigs.getCommon().get().phaseTracker.captureAsyncSpawningEntities) {
+        if (!SpongeConfigs.getCommonSnapshot().captureAsyncSpawningEntities) {
             // Print a pretty warning about not capturing an async spawned entity, but don't care about spawning.
-            if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+            if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
                 return;
             }
             // Just checking if we've already printed once about it.
             // If we have, we don't want to print any more times.
-            if (!SpongeConfigs.getCommon().get().phaseTracker.verboseErrors && PhasePrinter.hasPrintedAsyncEntities) {
+            if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerboseErrors && PhasePrinter.hasPrintedAsyncEntities) {
                 return;
             }
             // Otherwise, let's print out either the first time, or several more times.
@@ -482,12 +482,12 @@ static void printAsyncEntitySpawn(final Entity entity) {
         PhaseTracker.ASYNC_CAPTURED_ENTITIES.add((net.minecraft.entity.Entity) entity);
         // At this point we can print an exception about it, if we are told to.
         // Print a pretty warning about not capturing an async spawned entity, but don't care about spawning.
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             return;
         }
         // Just checking if we've already printed once about it.
         // If we have, we don't want to print any more times.
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verboseErrors && PhasePrinter.hasPrintedAsyncEntities) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerboseErrors && PhasePrinter.hasPrintedAsyncEntities) {
             return;
         }
         // Otherwise, let's print out either the first time, or several more times.
@@ -51,7 +51,7 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.Ticks;
 import org.spongepowered.common.SpongeCommon;
-import org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory;
+import org.spongepowered.common.applaunch.config.common.CommonConfigSnapshot;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.cause.entity.SpongeSpawnTypes;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
@@ -127,7 +127,7 @@ public static Block validateBlockForNeighborNotification(final ServerWorld world
         if (blockIn == null) {
             // If the block is null, check with the PhaseState to see if it can perform a safe way
             final PhaseContext<?> currentContext = PhaseTracker.getInstance().getPhaseContext();
-            final PhaseTrackerCategory trackerConfig = SpongeConfigs.getCommon().get().phaseTracker;
+            final CommonConfigSnapshot config = SpongeConfigs.getCommonSnapshot();
 
             if (currentContext.state == TickPhase.Tick.TILE_ENTITY) {
                 // Try to save ourselves
@@ -141,7 +141,7 @@ public static Block validateBlockForNeighborNotification(final ServerWorld world
                     if (id == null) {
                         id = new ResourceLocation(source.getClass().getCanonicalName());
                     }
-                    final Map<String, Boolean> autoFixedTiles = trackerConfig.autoFixNullSourceBlockProvidingBlockEntities;
+                    final Map<String, Boolean> autoFixedTiles = SpongeConfigs.getCommon().get().phaseTracker.autoFixNullSourceBlockProvidingBlockEntities;
                     final boolean contained = autoFixedTiles.containsKey(type.toString());
                     // If we didn't map the tile entity yet, we should apply the mapping
                     // based on whether the source is the same as the TileEntity.
@@ -156,14 +156,14 @@ public static Block validateBlockForNeighborNotification(final ServerWorld world
                                       ? chunk.getBlockState(pos).getBlock()
                                       : worldServer.getBlockState(pos).getBlock();
                     }
-                    if (!contained && trackerConfig.reportNullSourceBlocksOnNeighborNotifications) {
+                    if (!contained && config.reportNullSourceBlocksOnNeighborNotifications) {
                         PhasePrinter.printNullSourceBlockWithTile(pos, blockIn, otherPos, id, useTile, new NullPointerException("Null Source Block For TileEntity Neighbor Notification"));
                     }
                 } else {
                     blockIn = (pos.getX() >> 4 == chunk.getPos().x && pos.getZ() >> 4 == chunk.getPos().z)
                                   ? chunk.getBlockState(pos).getBlock()
                                   : worldServer.getBlockState(pos).getBlock();
-                    if (trackerConfig.reportNullSourceBlocksOnNeighborNotifications) {
+                    if (config.reportNullSourceBlocksOnNeighborNotifications) {
                         PhasePrinter.printNullSourceBlockNeighborNotificationWithNoTileSource(pos, blockIn, otherPos,
                             new NullPointerException("Null Source Block For Neighbor Notification"));
                     }
@@ -173,7 +173,7 @@ public static Block validateBlockForNeighborNotification(final ServerWorld world
                 blockIn = (pos.getX() >> 4 == chunk.getPos().x && pos.getZ() >> 4 == chunk.getPos().z)
                               ? chunk.getBlockState(pos).getBlock()
                               : worldServer.getBlockState(pos).getBlock();
-                if (trackerConfig.reportNullSourceBlocksOnNeighborNotifications) {
+                if (config.reportNullSourceBlocksOnNeighborNotifications) {
                     PhasePrinter.printNullSourceForBlock(worldServer, pos, blockIn, otherPos, new NullPointerException("Null Source Block For Neighbor Notification"));
                 }
             }
@@ -337,7 +337,7 @@ void switchToPhase(final IPhaseState<?> state, final PhaseContext<?> phaseContex
         checkNotNull(state, "State cannot be null!");
         checkNotNull(phaseContext, "PhaseContext cannot be null!");
         checkArgument(phaseContext.isComplete(), "PhaseContext must be complete!");
-        if (this == PhaseTracker.SERVER && SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (this == PhaseTracker.SERVER && SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             if (this.stack.size() > 6) {
                 if (this.stack.checkForRunaways(state, phaseContext)) {
                     PhasePrinter.printRunawayPhase(this.stack, state, phaseContext);
@@ -383,7 +383,7 @@ void completePhase(final PhaseContext<?> context) {
             return;
         }
 
-        if (SpongeConfigs.getCommon().get().phaseTracker.verbose) {
+        if (SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose) {
             if (this.stack.checkForRunaways(GeneralPhase.Post.UNWINDING, null)) {
                 // This printing is to detect possibilities of a phase not being cleared properly
                 // and resulting in a "runaway" phase state accumulation.
@@ -418,7 +418,7 @@ void completePhase(final PhaseContext<?> context) {
     }
 
     private void checkPhaseContextProcessed(final IPhaseState<?> state, final PhaseContext<?> context) {
-        if (!SpongeConfigs.getCommon().get().phaseTracker.verbose && PhasePrinter.printedExceptionsForUnprocessedState.contains(state)) {
+        if (!SpongeConfigs.getCommonSnapshot().phaseTrackerVerbose && PhasePrinter.printedExceptionsForUnprocessedState.contains(state)) {
             return;
         }
 
@@ -499,6 +499,38 @@ public Cause getCurrentCause() {
         return this.cached_cause;
     }
 
+    /**
+     * Gets the root of the {@link #getCurrentCause() current cause} without
+     * building the cause.
+     *
+     * @return The root cause
+     */
+    public Object getCurrentRootCause() {
+        this.enforceMainThread();
+        @Nullable final Object root = this.cause.peek();
+        return root == null ? SpongeCommon.getGame() : root;
+    }
+
+    /**
+     * Gets whether the {@link #getCurrentCause() current cause} contains an
+     * object of the given type without building the cause.
+     *
+     * @param type The type of object
+     * @return True if the current cause contains an object of the type
+     */
+    public boolean containsCause(final Class<?> type) {
+        this.enforceMainThread();
+        if (this.cause.isEmpty()) {
+            return type.isInstance(SpongeCommon.getGame());
+        }
+        for (final Object obj : this.cause) {
+            if (type.isInstance(obj)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public EventContext getCurrentContext() {
         this.enforceMainThread();
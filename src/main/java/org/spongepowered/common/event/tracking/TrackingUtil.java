@@ -33,6 +33,7 @@
 import net.minecraft.block.RedstoneLampBlock;
 import net.minecraft.block.RedstoneTorchBlock;
 import net.minecraft.block.RepeaterBlock;
+import net.minecraft.entity.item.TNTEntity;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.ITickableTileEntity;
@@ -49,8 +50,14 @@
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.block.NotifyNeighborBlockEvent;
 import org.spongepowered.api.event.block.TickBlockEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.item.inventory.DropItemEvent;
+import org.spongepowered.api.event.world.ExplosionEvent;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.LocatableBlock;
@@ -66,6 +73,7 @@
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
@@ -77,8 +85,8 @@
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.region.MovementRegionIndex;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 
 import javax.annotation.Nullable;
@@ -116,6 +124,39 @@ public final class TrackingUtil {
             return new Transaction<>(blockSnapshot, replacement);
         });
     public static final int WIDTH = 40;
+    // Recomputed once per server tick by refreshTickElision
+    private static boolean elideUnobservedTicks = false;
+
+    /**
+     * Works out whether entity and tile entity ticks need a phase of their
+     * own for the coming server tick. A tick phase only exists to capture
+     * block changes, spawns and drops for the events built from them, and
+     * to carry the creator and notifier of the ticking object, so as long
+     * as nobody listens to any of those events, a tick of a trackable
+     * without a creator or notifier can run directly in the world tick,
+     * with only the ticking object pushed as the cause.
+     */
+    public static void refreshTickElision() {
+        TrackingUtil.elideUnobservedTicks = SpongeGameConfigs.getTracker().get().elideUnobservedTicks
+            && !ShouldFire.hasListeners(ChangeBlockEvent.class)
+            && !ShouldFire.hasListeners(NotifyNeighborBlockEvent.class)
+            && !ShouldFire.hasListeners(SpawnEntityEvent.class)
+            && !ShouldFire.hasListeners(DropItemEvent.class)
+            && !ShouldFire.hasListeners(ExplosionEvent.class);
+    }
+
+    private static boolean canElideTick(final Object trackable) {
+        if (!TrackingUtil.elideUnobservedTicks) {
+            return false;
+        }
+        if (trackable instanceof TNTEntity) {
+            // Primed tnt adds its igniter to the context of the tick phase
+            return false;
+        }
+        return !(trackable instanceof CreatorTrackedBridge)
+            || !((CreatorTrackedBridge) trackable).tracked$getCreatorUUID().isPresent()
+            && !((CreatorTrackedBridge) trackable).tracked$getNotifierUUID().isPresent();
+    }
 
     public static void tickEntity(final Consumer<net.minecraft.entity.Entity> consumer, final net.minecraft.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
@@ -123,6 +164,10 @@ public static void tickEntity(final Consumer<net.minecraft.entity.Entity> consum
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (TrackingUtil.canElideTick(entity)) {
+            TrackingUtil.tickEntityUntracked(consumer, entity);
+            return;
+        }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (final EntityTickContext context = tickContext;
@@ -137,23 +182,46 @@ public static void tickEntity(final Consumer<net.minecraft.entity.Entity> consum
             context.buildAndSwitch();
             entityTiming.startTiming();
             consumer.accept(entity);
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
-            }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
-            }
+            TrackingUtil.afterEntityTick(entity);
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
     }
 
+    private static void tickEntityUntracked(final Consumer<net.minecraft.entity.Entity> consumer, final net.minecraft.entity.Entity entity) {
+        // Events fired during the tick still need the ticking entity as their cause, like the tick phase would provide
+        final CauseStackManager causeStackManager = PhaseTracker.getCauseStackManager();
+        causeStackManager.pushCause(entity);
+        try (final Timing entityTiming = ((TimingBridge) entity).bridge$getTimingsHandler().startTiming()) {
+            consumer.accept(entity);
+            TrackingUtil.afterEntityTick(entity);
+        } catch (final Exception e) {
+            PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, PhaseTracker.SERVER.getPhaseContext());
+        } finally {
+            causeStackManager.popCause();
+        }
+    }
+
+    private static void afterEntityTick(final net.minecraft.entity.Entity entity) {
+        if (ShouldFire.MOVE_ENTITY_EVENT) {
+            SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
+        }
+        if (ShouldFire.ROTATE_ENTITY_EVENT) {
+            SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
+        }
+        MovementRegionIndex.update(entity);
+    }
+
     public static void tickRidingEntity(final net.minecraft.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (TrackingUtil.canElideTick(entity)) {
+            TrackingUtil.tickEntityUntracked(net.minecraft.entity.Entity::rideTick, entity);
+            return;
+        }
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (
@@ -169,12 +237,7 @@ public static void tickRidingEntity(final net.minecraft.entity.Entity entity) {
             }
             context.buildAndSwitch();
             entity.rideTick();
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
-            }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
-            }
+            TrackingUtil.afterEntityTick(entity);
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
@@ -194,6 +257,21 @@ public static void tickTileEntity(final TrackedWorldBridge mixinWorldServer, fin
         if (chunk == null) {
             ((ActiveChunkReferantBridge) tile).bridge$setActiveChunk((TrackedChunkBridge) tileEntity.getLevel().getChunkAt(tileEntity.getBlockPos()));
         }
+        if (TrackingUtil.canElideTick(tile)) {
+            final CauseStackManager causeStackManager = PhaseTracker.getCauseStackManager();
+            causeStackManager.pushCause(tile);
+            try (final Timing timing = ((TimingBridge) tileEntity).bridge$getTimingsHandler().startTiming()) {
+                tile.tick();
+            } catch (final Exception e) {
+                PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, PhaseTracker.SERVER.getPhaseContext());
+            } finally {
+                causeStackManager.popCause();
+            }
+            if (tileEntity.isRemoved()) {
+                ((ActiveChunkReferantBridge) tileEntity).bridge$setActiveChunk(null);
+            }
+            return;
+        }
 
         final TileEntityTickContext context = TickPhase.Tick.TILE_ENTITY.createPhaseContext(PhaseTracker.SERVER).source(mixinTileEntity);
         try (final PhaseContext<?> phaseContext = context) {
@@ -512,7 +590,7 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.block
         builder.reset();
         builder.blockState(state)
                 .world(worldSupplier.get())
-                .position(VecHelper.toVector3i(pos));
+                .position(pos.immutable());
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
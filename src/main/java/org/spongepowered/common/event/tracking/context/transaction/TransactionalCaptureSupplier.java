@@ -206,8 +206,7 @@ public void logNeighborNotification(final Supplier<ServerWorld> serverWorldSuppl
     @SuppressWarnings({"unchecked", "ConstantConditions"})
     public void logEntitySpawn(final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
         final Entity entityIn) {
-        final WeakReference<ServerWorld> worldRef = new WeakReference<>((ServerWorld) serverWorld);
-        final Supplier<ServerWorld> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerWorld> worldSupplier = serverWorld.bridge$weakSupplier();
         final Supplier<SpawnType> contextualType = current.getSpawnTypeForTransaction(entityIn);
         final SpawnEntityTransaction transaction = new SpawnEntityTransaction(worldSupplier, entityIn, contextualType);
         this.logTransaction(transaction);
@@ -234,8 +233,7 @@ private GameTransaction createTileReplacementTransaction(final BlockPos pos, fin
     public EffectTransactor logBlockDrops(
         final PhaseContext<@NonNull ?> context, final World serverWorld, final BlockPos pos, final BlockState state,
         final @Nullable TileEntity tileEntity) {
-        final WeakReference<ServerWorld> worldRef = new WeakReference<>((ServerWorld) serverWorld);
-        final Supplier<ServerWorld> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerWorld> worldSupplier = ((TrackedWorldBridge) serverWorld).bridge$weakSupplier();
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
             state,
             pos,
@@ -254,8 +252,7 @@ public EffectTransactor logBlockDrops(
     public void logBlockEvent(final BlockState state, final TrackedWorldBridge serverWorld, final BlockPos pos,
         final TrackerBlockEventDataBridge blockEvent
     ) {
-        final WeakReference<ServerWorld> worldRef = new WeakReference<>((ServerWorld) serverWorld);
-        final Supplier<ServerWorld> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerWorld> worldSupplier = serverWorld.bridge$weakSupplier();
         final @Nullable TileEntity tileEntity = ((ServerWorld) serverWorld).getBlockEntity(pos);
         final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(
             state,
@@ -278,8 +275,7 @@ public EffectTransactor ensureEntityDropTransactionEffect(final Entity entity) {
                 return null;
             }
         }
-        final WeakReference<ServerWorld> worldRef = new WeakReference<>((ServerWorld) entity.level);
-        final Supplier<ServerWorld> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
+        final Supplier<ServerWorld> worldSupplier = ((TrackedWorldBridge) entity.level).bridge$weakSupplier();
         final CompoundNBT tag = new CompoundNBT();
         entity.saveWithoutId(tag);
         final @Nullable DamageSource lastAttacker;
@@ -28,12 +28,15 @@
 import org.spongepowered.api.item.inventory.Slot;
 import org.spongepowered.common.inventory.adapter.impl.BasicInventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.ItemTypeIndex;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 /**
  * If {@link Inventory} represents the "idea" of an inventory, then an
  * {@link InventoryAdapter} represents the reality of one. All <i>Inventory
@@ -66,6 +69,16 @@ public interface InventoryAdapter {
         return BasicInventoryAdapter.forSlot(this.inventoryAdapter$getFabric(), slotLens, (Inventory) this);
     }
 
+    /**
+     * Gets the item type index of this adapter's fabric, if this adapter keeps
+     * one. Only adapters which are their own fabric keep an index, query
+     * results and other views return {@code null}.
+     */
+    @Nullable
+    default ItemTypeIndex inventoryAdapter$getItemTypeIndex() {
+        return null;
+    }
+
     // TODO check if this is needed?
     default void inventoryAdapter$setSpectatorChest(boolean spectatorChest) {}
 
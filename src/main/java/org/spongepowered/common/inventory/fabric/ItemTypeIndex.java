@@ -0,0 +1,210 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.fabric;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.bridge.inventory.InventoryBridge;
+import org.spongepowered.common.bridge.inventory.InventoryChangeBridge;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.slot.HeldHandSlotLens;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index from each {@link Item} in a {@link Fabric} to the slots holding
+ * it, along with the results of queries for an item type.
+ *
+ * <p>Vanilla inventories change their contents without telling the fabric,
+ * so the index is brought up to date by {@link #sync()} before use. When
+ * every inventory behind the fabric counts its changes, which tile entity
+ * and basic inventories do whenever they are marked as changed, syncing an
+ * index whose inventories did not change only compares those counts.
+ * Otherwise the stacks of every slot are compared by identity and only the
+ * slots which changed are reindexed. The slots of an item type found to be
+ * emptied in place are reindexed when the type is looked up.</p>
+ *
+ * <p>Query results are dropped whenever a slot gains or loses their item
+ * type, and are never kept for lenses whose slots can move without the
+ * contents changing, such as the held hand of a player.</p>
+ */
+public final class ItemTypeIndex {
+
+    private static final int MAX_CACHED_RESULTS = 32;
+
+    private final Fabric fabric;
+    private final boolean cacheResults;
+    private final Reference2ObjectOpenHashMap<Item, BitSet> slotsByItem = new Reference2ObjectOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<Item, Inventory> results = new Reference2ObjectOpenHashMap<>();
+    private ItemStack[] stacks = new ItemStack[0];
+    private Item[] items = new Item[0];
+    // null if any of the inventories does not count its changes
+    @Nullable private InventoryChangeBridge[] inventories;
+    private int[] changeCounts = new int[0];
+    private boolean synced;
+
+    public ItemTypeIndex(final Fabric fabric, final Lens rootLens) {
+        this.fabric = fabric;
+        this.cacheResults = ItemTypeIndex.hasFixedSlots(rootLens);
+    }
+
+    private static boolean hasFixedSlots(final Lens lens) {
+        if (lens instanceof HeldHandSlotLens) {
+            return false;
+        }
+        for (final Lens child : lens.getChildren()) {
+            if (child != null && !ItemTypeIndex.hasFixedSlots(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Brings the index up to date with the current contents of the fabric.
+     */
+    public void sync() {
+        final int size = this.fabric.fabric$getSize();
+        if (size != this.stacks.length) {
+            this.stacks = new ItemStack[size];
+            this.items = new Item[size];
+            this.slotsByItem.clear();
+            this.results.clear();
+            this.inventories = ItemTypeIndex.changeCountingInventories(this.fabric.fabric$allInventories());
+            this.changeCounts = new int[this.inventories == null ? 0 : this.inventories.length];
+            this.synced = false;
+        }
+        if (this.synced && this.inventories != null && !this.countsChanged()) {
+            return;
+        }
+
+        for (int index = 0; index < size; index++) {
+            final ItemStack stack = this.fabric.fabric$getStack(index);
+            // Empty stacks report air, so emptying a stack in place is seen as a type change
+            final Item item = stack.getItem();
+            if (stack == this.stacks[index] && item == this.items[index]) {
+                continue;
+            }
+            this.stacks[index] = stack;
+            this.index(index, item);
+        }
+        this.synced = true;
+    }
+
+    @Nullable
+    private static InventoryChangeBridge[] changeCountingInventories(final Collection<InventoryBridge> inventories) {
+        final InventoryChangeBridge[] counting = new InventoryChangeBridge[inventories.size()];
+        int i = 0;
+        for (final InventoryBridge inventory : inventories) {
+            if (!(inventory instanceof InventoryChangeBridge)) {
+                return null;
+            }
+            counting[i++] = (InventoryChangeBridge) inventory;
+        }
+        return counting;
+    }
+
+    private boolean countsChanged() {
+        boolean changed = false;
+        for (int i = 0; i < this.changeCounts.length; i++) {
+            final int count = this.inventories[i].bridge$getChangeCount();
+            if (count != this.changeCounts[i]) {
+                this.changeCounts[i] = count;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void index(final int index, final Item item) {
+        final Item previous = this.items[index];
+        if (item == previous) {
+            return;
+        }
+        if (previous != null) {
+            final BitSet slots = this.slotsByItem.get(previous);
+            slots.clear(index);
+            if (slots.isEmpty()) {
+                this.slotsByItem.remove(previous);
+            }
+            this.results.remove(previous);
+        }
+        this.slotsByItem.computeIfAbsent(item, k -> new BitSet()).set(index);
+        this.results.remove(item);
+        this.items[index] = item;
+    }
+
+    /**
+     * Gets the slots of the fabric holding the given item, as of the last
+     * {@link #sync()}. Slots emptied in place since are reindexed first.
+     *
+     * @param item The item
+     * @return The slot indices, or null if no slot holds the item. Must not be modified
+     */
+    @Nullable
+    public BitSet getSlots(final Item item) {
+        final BitSet slots = this.slotsByItem.get(item);
+        if (slots == null) {
+            return null;
+        }
+        for (int index = slots.nextSetBit(0); index >= 0; index = slots.nextSetBit(index + 1)) {
+            final ItemStack stack = this.fabric.fabric$getStack(index);
+            final Item current = stack.getItem();
+            if (current != item) {
+                this.stacks[index] = stack;
+                this.index(index, current);
+            }
+        }
+        return slots.isEmpty() ? null : slots;
+    }
+
+    /**
+     * Gets whether any slot of the fabric holds the given item.
+     */
+    public boolean contains(final Item item) {
+        return this.getSlots(item) != null;
+    }
+
+    @Nullable
+    public Inventory getCachedResult(final Item item) {
+        return this.results.get(item);
+    }
+
+    public void cacheResult(final Item item, final Inventory result) {
+        if (!this.cacheResults) {
+            return;
+        }
+        if (this.results.size() >= ItemTypeIndex.MAX_CACHED_RESULTS) {
+            this.results.clear();
+        }
+        this.results.put(item, result);
+    }
+
+}
@@ -45,15 +45,23 @@ protected ItemStackQuery(T arg) {
     public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         if (lens instanceof SlotLens) {
             Fabric fabric = ((InventoryBridge) inventory).bridge$getAdapter().inventoryAdapter$getFabric();
-            ItemStack stack = ItemStackUtil.fromNative(((SlotLens) lens).getStack(fabric));
-            if (stack == null) {
-                return false;
-            }
-            return this.matches(stack, this.arg);
+            return this.matches(((SlotLens) lens).getStack(fabric));
         }
         return false;
     }
 
+    /**
+     * Matches against the native stack of a slot, queries which do not need
+     * the full api stack may override this to skip the conversion.
+     */
+    protected boolean matches(net.minecraft.item.ItemStack nativeStack) {
+        ItemStack stack = ItemStackUtil.fromNative(nativeStack);
+        if (stack == null) {
+            return false;
+        }
+        return this.matches(stack, this.arg);
+    }
+
     protected abstract boolean matches(ItemStack itemStack, T arg);
 
 }
@@ -24,13 +24,45 @@
  */
 package org.spongepowered.common.inventory.query.type;
 
+import net.minecraft.item.Item;
 import org.spongepowered.api.item.ItemType;
+import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
+import org.spongepowered.common.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.inventory.fabric.ItemTypeIndex;
 
 public final class ItemTypeQuery extends ItemStackQuery<ItemType> {
 
+    private final Item item;
+
     public ItemTypeQuery(ItemType type) {
         super(type);
+        this.item = (Item) type;
+    }
+
+    @Override
+    public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
+        final ItemTypeIndex index = adapter.inventoryAdapter$getItemTypeIndex();
+        if (index == null) {
+            return super.execute(inventory, adapter);
+        }
+        index.sync();
+        if (!index.contains(this.item)) {
+            // No slot holds the type, so there is no need to walk the lenses
+            return new EmptyInventoryImpl(inventory);
+        }
+        Inventory result = index.getCachedResult(this.item);
+        if (result == null) {
+            result = super.execute(inventory, adapter);
+            index.cacheResult(this.item, result);
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean matches(net.minecraft.item.ItemStack nativeStack) {
+        return nativeStack.getItem() == this.item;
     }
 
     @Override
@@ -38,4 +70,20 @@ protected boolean matches(ItemStack itemStack, ItemType arg) {
         return itemStack.getType().equals(arg);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        return this.item == ((ItemTypeQuery) o).item;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.item.hashCode();
+    }
+
 }
@@ -66,7 +66,7 @@ public class UncachedGameProfileProvider implements GameProfileProvider {
     private static final Gson GSON = new Gson();
 
     private <T> CompletableFuture<T> submit(final Callable<T> callable) {
-        return SpongeCommon.getAsyncScheduler().submit(callable);
+        return SpongeCommon.getAsyncScheduler().submit(SpongeCommon.getPlugin(), callable);
     }
 
     private void submit(final Runnable runnable) {
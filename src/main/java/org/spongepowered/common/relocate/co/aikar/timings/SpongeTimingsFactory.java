@@ -166,6 +166,16 @@ public void generateReport(Audience channel) {
         TimingsExport.requestingReport.add(channel);
     }
 
+    /**
+     * Requests a report that is written to the local timings export
+     * directory, rather than uploaded to the timings site.
+     *
+     * @param channel The audience to notify about the report
+     */
+    public static void generateLocalReport(Audience channel) {
+        TimingsExport.requestingLocalReport.add(channel);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
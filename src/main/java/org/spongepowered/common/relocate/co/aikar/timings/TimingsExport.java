@@ -60,28 +60,44 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
 
+    private static final DateTimeFormatter REPORT_FILE_FORMATTER = DateTimeFormatter.ofPattern("'timings-'yyyyMMdd-HHmmss'.json.gz'");
+    private static final String VIEWER_FILE = "timings-viewer.html";
+
     private final TimingsReportListener listeners;
     private final JsonObject out;
     private final TimingHistory[] history;
+    private final boolean upload;
+    private final boolean writeToDisk;
     private static long lastReport = 0;
     final static List<Audience> requestingReport = Lists.newArrayList();
+    final static List<Audience> requestingLocalReport = Lists.newArrayList();
 
-    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
+    TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history, boolean upload, boolean writeToDisk) {
         super("Timings paste thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
+        this.upload = upload;
+        this.writeToDisk = writeToDisk;
     }
 
     private static String getServerName() {
@@ -89,15 +105,21 @@ private static String getServerName() {
     }
 
     /**
-     * Builds an XML report of the timings to be uploaded for parsing.
+     * Builds a JSON report of the timings to be uploaded for parsing and/or
+     * written to the local timings directory, depending on what was requested.
      */
     static void reportTimings() {
-        if (TimingsExport.requestingReport.isEmpty()) {
+        if (TimingsExport.requestingReport.isEmpty() && TimingsExport.requestingLocalReport.isEmpty()) {
             return;
         }
-        TimingsReportListener listeners = new TimingsReportListener(TimingsExport.requestingReport);
+        final boolean upload = !TimingsExport.requestingReport.isEmpty();
+        final boolean writeToDisk = !TimingsExport.requestingLocalReport.isEmpty();
+        final List<Audience> requesting = Lists.newArrayList(TimingsExport.requestingReport);
+        requesting.addAll(TimingsExport.requestingLocalReport);
+        TimingsReportListener listeners = new TimingsReportListener(requesting);
 
         TimingsExport.requestingReport.clear();
+        TimingsExport.requestingLocalReport.clear();
         long now = System.currentTimeMillis();
         final long lastReportDiff = now - TimingsExport.lastReport;
         if (lastReportDiff < 60000) {
@@ -210,7 +232,7 @@ static void reportTimings() {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", TimingsExport.serializeConfigNode(SpongeConfigs.getCommon().getNode())));
 
-        new TimingsExport(listeners, builder.build(), history).start();
+        new TimingsExport(listeners, builder.build(), history, upload, writeToDisk).start();
     }
 
     static long getCost() {
@@ -292,9 +314,53 @@ public synchronized void start() {
     @Override
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
+        final byte[] report = JSONUtil.toString(this.out).getBytes(StandardCharsets.UTF_8);
 
-        String response = null;
         String timingsURL = null;
+        try {
+            if (this.writeToDisk) {
+                this.writeReport(report);
+            }
+            if (this.upload) {
+                timingsURL = this.uploadReport(report);
+            }
+        } finally {
+            this.listeners.done(timingsURL);
+        }
+    }
+
+    /**
+     * Writes the report as compressed JSON to the timings export directory,
+     * next to a copy of the bundled viewer which can open it without access
+     * to the timings site.
+     */
+    private void writeReport(byte[] report) {
+        final Path directory = SpongeCommon.getGameDirectory().resolve(SpongeConfigs.getCommon().get().timings.exportDirectory);
+        try {
+            Files.createDirectories(directory);
+            final Path reportFile = directory.resolve(TimingsExport.REPORT_FILE_FORMATTER.format(LocalDateTime.now()));
+            try (OutputStream stream = new GZIPOutputStream(Files.newOutputStream(reportFile))) {
+                stream.write(report);
+            }
+            final Path viewer = directory.resolve(TimingsExport.VIEWER_FILE);
+            try (InputStream stream = TimingsExport.class.getResourceAsStream(TimingsExport.VIEWER_FILE)) {
+                if (stream != null) {
+                    Files.copy(stream, viewer, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            final String reportPath = reportFile.toAbsolutePath().toString();
+            this.listeners.send(Component.text().content("Timings Report written to ").color(NamedTextColor.GREEN)
+                    .append(Component.text(reportPath).clickEvent(ClickEvent.copyToClipboard(reportPath))).build());
+            this.listeners.send(Component.text("Open " + TimingsExport.VIEWER_FILE + " in the same directory to view it.", NamedTextColor.GREEN));
+        } catch (IOException ex) {
+            this.listeners.send(Component.text("Error writing timings, check your logs for more information", NamedTextColor.RED));
+            SpongeCommon.getLogger().fatal("Could not write timings to " + directory, ex);
+        }
+    }
+
+    @Nullable
+    private String uploadReport(byte[] report) {
+        String response = null;
         try {
             String hostname = "localhost";
             if (!TimingsManager.privacy) {
@@ -318,7 +384,7 @@ public void run() {
                 }
             };
 
-            request.write(JSONUtil.toString(this.out).getBytes("UTF-8"));
+            request.write(report);
             request.close();
 
             response = this.getResponse(con);
@@ -329,23 +395,23 @@ public void run() {
                 if (response != null) {
                     SpongeCommon.getLogger().fatal(response);
                 }
-                return;
+                return null;
             }
 
-            timingsURL = con.getHeaderField("Location");
+            final String timingsURL = con.getHeaderField("Location");
             this.listeners.send(Component.text().content("View Timings Report: ").color(NamedTextColor.GREEN).append(Component.text(timingsURL).clickEvent(ClickEvent.openUrl(timingsURL))).build());
 
             if (response != null && !response.isEmpty()) {
                 SpongeCommon.getLogger().info("Timing Response: " + response);
             }
+            return timingsURL;
         } catch (IOException ex) {
             this.listeners.send(Component.text("Error uploading timings, check your logs for more information", NamedTextColor.RED));
             if (response != null) {
                 SpongeCommon.getLogger().fatal(response);
             }
             SpongeCommon.getLogger().fatal("Could not paste timings", ex);
-        } finally {
-            this.listeners.done(timingsURL);
+            return null;
         }
     }
 
@@ -24,18 +24,19 @@
  */
 package org.spongepowered.common.scheduler;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,15 +49,12 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, configured through the scheduler category.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor(SpongeConfigs.getCommon().get().scheduler);
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
@@ -68,7 +66,6 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,39 +75,12 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.getTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.task.delay > 0 && task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+            // Executing tasks aren't queued, we'll signal when they complete.
+            final long nextExecution = this.getNextRealTimeExecution();
+            if (nextExecution == Long.MAX_VALUE) {
+                this.minimumTimeout = Long.MAX_VALUE;
+            } else {
+                this.minimumTimeout = Math.max(0, nextExecution - System.nanoTime());
             }
         } finally {
             this.lock.unlock();
@@ -147,11 +117,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
@@ -172,11 +137,30 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
 
     @Override
     protected void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        this.executor.execute(task.getOwner(), runnable);
+    }
+
+    /**
+     * Runs the callable on the asynchronous task executor, counting it
+     * towards the concurrency limit and metrics of the given plugin.
+     *
+     * @param plugin The plugin that owns the callable
+     * @param callable The callable to run
+     * @param <T> The type of the result
+     * @return A future completed with the result of the callable
+     */
+    public <T> CompletableFuture<T> submit(final PluginContainer plugin, final Callable<T> callable) {
+        return Functional.asyncFailableFuture(callable, this.executor.forPlugin(Objects.requireNonNull(plugin, "plugin")));
     }
 
-    public <T> CompletableFuture<T> submit(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+    /**
+     * Gets a snapshot of the queue depth and latency metrics of the
+     * asynchronous tasks of every plugin, keyed by plugin id.
+     *
+     * @return The metrics by plugin id
+     */
+    public Map<String, AsyncTaskExecutor.Metrics> getTaskMetrics() {
+        return this.executor.getMetrics();
     }
 
     public void close() {
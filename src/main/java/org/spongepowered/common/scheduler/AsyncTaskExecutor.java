@@ -0,0 +1,281 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executor backing the {@link AsyncScheduler}. Tasks are executed on
+ * behalf of a plugin, which allows limiting the number of tasks a single
+ * plugin may run at the same time and keeping track of how long tasks
+ * of each plugin are queued and running.
+ */
+public final class AsyncTaskExecutor {
+
+    private static final String THREAD_NAME_FORMAT = "Sponge-AsyncScheduler-%d";
+
+    private final ExecutorService executor;
+    private final int maxConcurrentTasksPerPlugin;
+    private final Map<String, PluginQueue> queues = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(final SchedulerCategory config) {
+        if (config.boundedAsyncPool) {
+            final int threads = config.asyncPoolThreads > 0 ? config.asyncPoolThreads : Runtime.getRuntime().availableProcessors();
+            final AtomicInteger threadCounter = new AtomicInteger();
+            this.executor = new ForkJoinPool(threads, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(String.format(AsyncTaskExecutor.THREAD_NAME_FORMAT, threadCounter.getAndIncrement()));
+                return thread;
+            }, null, true);
+        } else {
+            this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat(AsyncTaskExecutor.THREAD_NAME_FORMAT)
+                    .build());
+        }
+        this.maxConcurrentTasksPerPlugin = Math.max(0, config.maxConcurrentTasksPerPlugin);
+    }
+
+    /**
+     * Executes the runnable on behalf of the given plugin. If the plugin
+     * already reached its concurrency limit, the runnable is queued until
+     * one of its other tasks completes.
+     *
+     * @param plugin The plugin that owns the runnable
+     * @param runnable The runnable to execute
+     */
+    void execute(final PluginContainer plugin, final Runnable runnable) {
+        this.queues.computeIfAbsent(plugin.getMetadata().getId(), id -> new PluginQueue()).submit(runnable);
+    }
+
+    /**
+     * Gets an {@link Executor} that executes all runnables on behalf of
+     * the given plugin.
+     *
+     * @param plugin The plugin
+     * @return The executor
+     */
+    Executor forPlugin(final PluginContainer plugin) {
+        return runnable -> this.execute(plugin, runnable);
+    }
+
+    /**
+     * Gets a snapshot of the metrics of every plugin that submitted tasks
+     * to this executor, keyed by plugin id.
+     *
+     * @return The metrics by plugin id
+     */
+    Map<String, Metrics> getMetrics() {
+        final Map<String, Metrics> metrics = new HashMap<>();
+        this.queues.forEach((id, queue) -> metrics.put(id, queue.snapshot()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    void shutdownNow() {
+        this.executor.shutdownNow();
+    }
+
+    boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    private final class PluginQueue {
+
+        private final Queue<QueuedRunnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private volatile long maxWaitNanos;
+
+        void submit(final Runnable runnable) {
+            this.queued.incrementAndGet();
+            this.pending.add(new QueuedRunnable(runnable, System.nanoTime()));
+            this.drain();
+        }
+
+        private void drain() {
+            final int limit = AsyncTaskExecutor.this.maxConcurrentTasksPerPlugin;
+            while (!this.pending.isEmpty()) {
+                final int current = this.running.get();
+                if (limit > 0 && current >= limit) {
+                    // A running task will drain the queue once it completes
+                    return;
+                }
+                if (!this.running.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                final QueuedRunnable next = this.pending.poll();
+                if (next == null) {
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                this.queued.decrementAndGet();
+                try {
+                    AsyncTaskExecutor.this.executor.execute(() -> this.run(next));
+                } catch (final RejectedExecutionException e) {
+                    // The executor was shut down, nothing queued for this plugin can run anymore
+                    this.running.decrementAndGet();
+                    this.pending.clear();
+                    this.queued.set(0);
+                    throw e;
+                } catch (final RuntimeException e) {
+                    this.running.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        private void run(final QueuedRunnable queuedRunnable) {
+            final long start = System.nanoTime();
+            final long wait = start - queuedRunnable.submitted;
+            if (wait > this.maxWaitNanos) {
+                this.maxWaitNanos = wait;
+            }
+            try {
+                queuedRunnable.runnable.run();
+            } finally {
+                this.totalWaitNanos.add(wait);
+                this.totalRunNanos.add(System.nanoTime() - start);
+                this.completed.increment();
+                this.running.decrementAndGet();
+                try {
+                    this.drain();
+                } catch (final RejectedExecutionException ignored) {
+                    // Shutting down, the remaining tasks were dropped
+                }
+            }
+        }
+
+        Metrics snapshot() {
+            return new Metrics(this.queued.get(), this.running.get(), this.completed.sum(), this.totalWaitNanos.sum(),
+                    this.maxWaitNanos, this.totalRunNanos.sum());
+        }
+    }
+
+    private static final class QueuedRunnable {
+
+        final Runnable runnable;
+        final long submitted;
+
+        QueuedRunnable(final Runnable runnable, final long submitted) {
+            this.runnable = runnable;
+            this.submitted = submitted;
+        }
+    }
+
+    /**
+     * A snapshot of the asynchronous task metrics of a single plugin.
+     */
+    public static final class Metrics {
+
+        private final int queueDepth;
+        private final int running;
+        private final long completed;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long totalRunNanos;
+
+        Metrics(final int queueDepth, final int running, final long completed, final long totalWaitNanos, final long maxWaitNanos,
+                final long totalRunNanos) {
+            this.queueDepth = queueDepth;
+            this.running = running;
+            this.completed = completed;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.totalRunNanos = totalRunNanos;
+        }
+
+        /**
+         * Gets the number of tasks waiting for a free slot or thread.
+         *
+         * @return The queue depth
+         */
+        public int getQueueDepth() {
+            return this.queueDepth;
+        }
+
+        public int getRunning() {
+            return this.running;
+        }
+
+        public long getCompleted() {
+            return this.completed;
+        }
+
+        /**
+         * Gets the average time completed tasks waited between being
+         * submitted and being started.
+         *
+         * @return The average wait time, in nanoseconds
+         */
+        public long getAverageWaitNanos() {
+            return this.completed == 0 ? 0 : this.totalWaitNanos / this.completed;
+        }
+
+        public long getMaxWaitNanos() {
+            return this.maxWaitNanos;
+        }
+
+        public long getAverageRunNanos() {
+            return this.completed == 0 ? 0 : this.totalRunNanos / this.completed;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("queueDepth", this.queueDepth)
+                    .add("running", this.running)
+                    .add("completed", this.completed)
+                    .add("averageWaitNanos", this.getAverageWaitNanos())
+                    .add("maxWaitNanos", this.maxWaitNanos)
+                    .add("averageRunNanos", this.getAverageRunNanos())
+                    .toString();
+        }
+    }
+}
@@ -40,8 +40,10 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final UUID id;
     private final String name;
     private long timestamp;
-    private ScheduledTaskState state;
-    private boolean isCancelled = false;
+    private long queuedTimestamp;
+    private volatile boolean queued;
+    private volatile ScheduledTaskState state;
+    private volatile boolean isCancelled = false;
 
     SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName) {
         this.scheduler = scheduler;
@@ -76,6 +78,7 @@ public boolean cancel() {
         }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -110,6 +113,28 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    /**
+     * Gets the timestamp this task was queued for, this doesn't change while
+     * the task is waiting in the queue of its scheduler.
+     *
+     * @return The queued execution timestamp
+     */
+    long getQueuedTimestamp() {
+        return this.queuedTimestamp;
+    }
+
+    void setQueuedTimestamp(long queuedTimestamp) {
+        this.queuedTimestamp = queuedTimestamp;
+    }
+
+    boolean isQueued() {
+        return this.queued;
+    }
+
+    void setQueued(boolean queued) {
+        this.queued = queued;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
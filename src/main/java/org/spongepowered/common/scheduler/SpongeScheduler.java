@@ -37,9 +37,13 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import javax.annotation.Nullable;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -47,18 +51,28 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public abstract class SpongeScheduler implements Scheduler {
 
     private static final int TICK_DURATION_MS = 50;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
+    private static final Comparator<SpongeScheduledTask> EXECUTION_ORDER = Comparator.comparingLong(SpongeScheduledTask::getQueuedTimestamp);
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, with secondary indexes by name and owner
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    private final Map<String, SpongeScheduledTask> tasksByName = new ConcurrentHashMap<>();
+    private final Map<String, Set<SpongeScheduledTask>> tasksByPlugin = new ConcurrentHashMap<>();
+    // The tasks waiting for their next execution, ordered by the timestamp of that execution.
+    // Tick based and real time tasks use different timestamps, so they are kept apart.
+    private final Object queueLock = new Object();
+    private final PriorityQueue<SpongeScheduledTask> realTimeQueue = new PriorityQueue<>(SpongeScheduler.EXECUTION_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> tickQueue = new PriorityQueue<>(SpongeScheduler.EXECUTION_ORDER);
+    private int cancelledInQueue;
+    private final List<SpongeScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(String tag) {
@@ -80,24 +94,84 @@ protected long getTimestamp(SpongeScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamps of the task are based on elapsed ticks
+     * rather than on real time.
+     *
+     * @param task The task
+     * @return True if the task uses tick based timestamps
+     */
+    protected boolean isTickBased(SpongeScheduledTask task) {
+        return false;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * first call to {@link #runTick} after its delay has passed.
      *
      * @param task The task to add
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.tasksByName.put(task.getName(), task);
+        this.tasksByPlugin.computeIfAbsent(task.getOwner().getMetadata().getId(), id -> ConcurrentHashMap.newKeySet()).add(task);
+        this.enqueueTask(task);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes the task from the task map and indexes. A queued task is
+     * dropped once it reaches the head of the queue.
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
-        this.taskMap.remove(task.getUniqueId());
+    void removeTask(final SpongeScheduledTask task) {
+        if (this.taskMap.remove(task.getUniqueId()) == null) {
+            return;
+        }
+        this.tasksByName.remove(task.getName());
+        final Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(task.getOwner().getMetadata().getId());
+        if (pluginTasks != null) {
+            pluginTasks.remove(task);
+        }
+        if (task.isQueued()) {
+            synchronized (this.queueLock) {
+                // Cancelled tasks are removed lazily, purge them once they make
+                // up the majority of the queue so they don't linger until due.
+                if (++this.cancelledInQueue > (this.realTimeQueue.size() + this.tickQueue.size()) / 2) {
+                    this.realTimeQueue.removeIf(SpongeScheduledTask::isCancelled);
+                    this.tickQueue.removeIf(SpongeScheduledTask::isCancelled);
+                    this.cancelledInQueue = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues the task for its next execution, as determined by
+     * {@link SpongeScheduledTask#nextExecutionTimestamp()}.
+     *
+     * @param task The task to queue
+     */
+    private void enqueueTask(final SpongeScheduledTask task) {
+        task.setQueuedTimestamp(task.nextExecutionTimestamp());
+        synchronized (this.queueLock) {
+            task.setQueued(true);
+            (this.isTickBased(task) ? this.tickQueue : this.realTimeQueue).add(task);
+        }
+    }
+
+    /**
+     * Gets the real time timestamp of the next queued task execution, or
+     * {@link Long#MAX_VALUE} if no real time task is queued.
+     *
+     * @return The timestamp of the next real time execution
+     */
+    protected long getNextRealTimeExecution() {
+        synchronized (this.queueLock) {
+            final SpongeScheduledTask next = this.realTimeQueue.peek();
+            return next == null ? Long.MAX_VALUE : next.getQueuedTimestamp();
+        }
     }
 
     @Override
@@ -111,20 +185,29 @@ public Optional<ScheduledTask> getTaskById(UUID id) {
     @Override
     public Set<ScheduledTask> getTasksByName(String pattern) {
         checkNotNull(pattern, "pattern");
+        if (SpongeScheduler.isLiteral(pattern)) {
+            final SpongeScheduledTask task = this.tasksByName.get(pattern);
+            return task == null ? new HashSet<>() : Sets.<ScheduledTask>newHashSet(task);
+        }
         final Pattern searchPattern = Pattern.compile(pattern);
-        final Set<ScheduledTask> matchingTasks = this.getTasks();
-
-        final Iterator<ScheduledTask> it = matchingTasks.iterator();
-        while (it.hasNext()) {
-            final Matcher matcher = searchPattern.matcher(it.next().getName());
-            if (!matcher.matches()) {
-                it.remove();
+        final Set<ScheduledTask> matchingTasks = new HashSet<>();
+        for (final SpongeScheduledTask task : this.taskMap.values()) {
+            if (searchPattern.matcher(task.getName()).matches()) {
+                matchingTasks.add(task);
             }
         }
-
         return matchingTasks;
     }
 
+    private static boolean isLiteral(final String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (SpongeScheduler.REGEX_META_CHARACTERS.indexOf(pattern.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Set<ScheduledTask> getTasks() {
         synchronized (this.taskMap) {
@@ -135,19 +218,11 @@ public Set<ScheduledTask> getTasks() {
     @Override
     public Set<ScheduledTask> getTasksByPlugin(PluginContainer plugin) {
         checkNotNull(plugin, "plugin");
-        final String testOwnerId = plugin.getMetadata().getId();
-
-        final Set<ScheduledTask> allTasks = this.getTasks();
-        final Iterator<ScheduledTask> it = allTasks.iterator();
-
-        while (it.hasNext()) {
-            final String taskOwnerId = it.next().getOwner().getMetadata().getId();
-            if (!testOwnerId.equals(taskOwnerId)) {
-                it.remove();
-            }
+        final Set<SpongeScheduledTask> pluginTasks = this.tasksByPlugin.get(plugin.getMetadata().getId());
+        if (pluginTasks == null) {
+            return new HashSet<>();
         }
-
-        return allTasks;
+        return new HashSet<>(pluginTasks);
     }
 
     @Override
@@ -166,20 +241,47 @@ public SpongeScheduledTask submit(Task task) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks which are due for execution.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            synchronized (this.queueLock) {
+                this.pollDueTasks(this.realTimeQueue);
+                this.pollDueTasks(this.tickQueue);
+            }
+            // Tasks rescheduled while processing are only picked up on the
+            // next tick, so each task runs at most once per tick.
+            for (int i = 0; i < this.dueTasks.size(); i++) {
+                this.processTask(this.dueTasks.get(i));
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void pollDueTasks(final PriorityQueue<SpongeScheduledTask> queue) {
+        SpongeScheduledTask head = queue.peek();
+        if (head == null) {
+            return;
+        }
+        // All tasks in a queue share the same kind of timestamp
+        final long now = this.getTimestamp(head);
+        while (head != null && head.getQueuedTimestamp() <= now) {
+            queue.poll();
+            head.setQueued(false);
+            if (head.isCancelled()) {
+                this.cancelledInQueue = Math.max(0, this.cancelledInQueue - 1);
+            }
+            this.dueTasks.add(head);
+            head = queue.peek();
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -211,34 +313,17 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-        } else if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // The task was queued because its delay or interval has passed.
+        // Repeating tasks get a reset-timestamp each time they are started and
+        // are queued again once the execution has completed. If the task has
+        // an interval of 0 (zero) this task will not repeat, and is removed
+        // after we start it.
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -266,6 +351,9 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval > 0L) {
+                        this.enqueueTask(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
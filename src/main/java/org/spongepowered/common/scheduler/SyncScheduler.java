@@ -51,6 +51,11 @@ protected long getTimestamp(SpongeScheduledTask task) {
         return super.getTimestamp(task);
     }
 
+    @Override
+    protected boolean isTickBased(SpongeScheduledTask task) {
+        return task.task.tickBased;
+    }
+
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
         runnable.run();
@@ -34,11 +34,65 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    /**
+     * Bumped whenever any subject data changes. The values resolved for a
+     * subject depend on the data of all of its ancestors and of the default
+     * subjects, so a change anywhere invalidates every resolved value.
+     */
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private final Map<String, ResolvedValue<Tristate>> resolvedPermissions = new ConcurrentHashMap<>();
+    private final Map<String, ResolvedValue<Optional<String>>> resolvedOptions = new ConcurrentHashMap<>();
+
+    static int getGeneration() {
+        return GlobalMemorySubjectData.generation.get();
+    }
+
+    static void invalidateResolvedValues() {
+        GlobalMemorySubjectData.generation.incrementAndGet();
+    }
+
+    /**
+     * Gets whether permission and option values resolved against this data,
+     * including those inherited from its parents, may be cached until the
+     * next change to any subject data.
+     *
+     * @return Whether resolved values may be cached
+     */
+    protected boolean isResolutionCacheable() {
+        return true;
+    }
+
+    @Nullable
+    Tristate getResolvedPermission(int generation, String permission) {
+        @Nullable final ResolvedValue<Tristate> resolved = this.resolvedPermissions.get(permission);
+        return resolved != null && resolved.generation == generation ? resolved.value : null;
+    }
+
+    void setResolvedPermission(int generation, String permission, Tristate value) {
+        this.resolvedPermissions.put(permission, new ResolvedValue<>(generation, value));
+    }
+
+    @Nullable
+    Optional<String> getResolvedOption(int generation, String option) {
+        @Nullable final ResolvedValue<Optional<String>> resolved = this.resolvedOptions.get(option);
+        return resolved != null && resolved.generation == generation ? resolved.value : null;
+    }
+
+    void setResolvedOption(int generation, String option, Optional<String> value) {
+        this.resolvedOptions.put(option, new ResolvedValue<>(generation, value));
+    }
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      */
@@ -56,7 +110,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, String pe
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.setPermission(contexts, permission, value);
+        return GlobalMemorySubjectData.invalidating(super.setPermission(contexts, permission, value));
     }
 
     @Override
@@ -64,7 +118,7 @@ public CompletableFuture<Boolean> clearPermissions(Set<Context> contexts) {
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.clearPermissions(contexts);
+        return GlobalMemorySubjectData.invalidating(super.clearPermissions(contexts));
     }
 
     @Override
@@ -72,7 +126,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, SubjectRefere
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.addParent(contexts, parent);
+        return GlobalMemorySubjectData.invalidating(super.addParent(contexts, parent));
     }
 
     @Override
@@ -80,7 +134,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, SubjectRef
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.removeParent(contexts, parent);
+        return GlobalMemorySubjectData.invalidating(super.removeParent(contexts, parent));
     }
 
     @Override
@@ -88,6 +142,49 @@ public CompletableFuture<Boolean> clearParents(Set<Context> contexts) {
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.clearParents(contexts);
+        return GlobalMemorySubjectData.invalidating(super.clearParents(contexts));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearPermissions() {
+        return GlobalMemorySubjectData.invalidating(super.clearPermissions());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearParents() {
+        return GlobalMemorySubjectData.invalidating(super.clearParents());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setOption(Set<Context> contexts, String key, @Nullable String value) {
+        return GlobalMemorySubjectData.invalidating(super.setOption(contexts, key, value));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearOptions(Set<Context> contexts) {
+        return GlobalMemorySubjectData.invalidating(super.clearOptions(contexts));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearOptions() {
+        return GlobalMemorySubjectData.invalidating(super.clearOptions());
+    }
+
+    // Invalidate after the change has been made, so a value resolved concurrently
+    // from the old data is stored against a generation that is already stale.
+    static CompletableFuture<Boolean> invalidating(CompletableFuture<Boolean> result) {
+        GlobalMemorySubjectData.invalidateResolvedValues();
+        return result;
+    }
+
+    private static final class ResolvedValue<T> {
+
+        final int generation;
+        final T value;
+
+        ResolvedValue(int generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
     }
 }
@@ -91,6 +91,7 @@ public CompletableFuture<Boolean> clearParents(Set<Context> contexts) {
 
     public void setParent(@Nullable SubjectReference parent) {
         this.parent = parent;
+        GlobalMemorySubjectData.invalidateResolvedValues();
     }
 
     @Nullable
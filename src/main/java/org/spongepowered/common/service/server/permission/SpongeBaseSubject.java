@@ -36,8 +36,12 @@
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public abstract class SpongeBaseSubject implements Subject {
 
+    @Nullable private SubjectReference reference;
+
     public abstract PermissionService getService();
 
     @Override
@@ -50,7 +54,19 @@ public boolean isSubjectDataPersisted() {
 
     @Override
     public SubjectReference asSubjectReference() {
-        return this.getService().newSubjectReference(this.getContainingCollection().getIdentifier(), this.getIdentifier());
+        SubjectReference reference = this.reference;
+        if (reference == null) {
+            final PermissionService service = this.getService();
+            if (service instanceof SpongePermissionService) {
+                // Already resolved, so parent lookups through this reference never touch the collection
+                reference = new SpongeSubjectReference((SpongePermissionService) service, this.getContainingCollection().getIdentifier(),
+                    this.getIdentifier(), this);
+            } else {
+                reference = service.newSubjectReference(this.getContainingCollection().getIdentifier(), this.getIdentifier());
+            }
+            this.reference = reference;
+        }
+        return reference;
     }
 
     @Override
@@ -64,11 +80,25 @@ public Tristate getPermissionValue(Set<Context> contexts, String permission) {
     }
 
     protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
+        if (!(subject instanceof GlobalMemorySubjectData) || !((GlobalMemorySubjectData) subject).isResolutionCacheable()) {
+            return this.resolveDataPermissionValue(subject, permission);
+        }
+        final GlobalMemorySubjectData data = (GlobalMemorySubjectData) subject;
+        final int generation = GlobalMemorySubjectData.getGeneration();
+        Tristate res = data.getResolvedPermission(generation, permission);
+        if (res == null) {
+            res = this.resolveDataPermissionValue(subject, permission);
+            data.setResolvedPermission(generation, permission, res);
+        }
+        return res;
+    }
+
+    private Tristate resolveDataPermissionValue(MemorySubjectData subject, String permission) {
         Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
         if (res == Tristate.UNDEFINED) {
             for (SubjectReference parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission);
+                res = SpongeSubjectReference.resolveNow(parent).getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission);
                 if (res != Tristate.UNDEFINED) {
                     return res;
                 }
@@ -89,11 +119,25 @@ public List<SubjectReference> getParents(Set<Context> contexts) {
     }
 
     protected Optional<String> getDataOptionValue(MemorySubjectData subject, String option) {
+        if (!(subject instanceof GlobalMemorySubjectData) || !((GlobalMemorySubjectData) subject).isResolutionCacheable()) {
+            return this.resolveDataOptionValue(subject, option);
+        }
+        final GlobalMemorySubjectData data = (GlobalMemorySubjectData) subject;
+        final int generation = GlobalMemorySubjectData.getGeneration();
+        Optional<String> res = data.getResolvedOption(generation, option);
+        if (res == null) {
+            res = this.resolveDataOptionValue(subject, option);
+            data.setResolvedOption(generation, option, res);
+        }
+        return res;
+    }
+
+    private Optional<String> resolveDataOptionValue(MemorySubjectData subject, String option) {
         Optional<String> res = Optional.ofNullable(subject.getOptions(SubjectData.GLOBAL_CONTEXT).get(option));
 
         if (!res.isPresent()) {
             for (SubjectReference parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().getOption(SubjectData.GLOBAL_CONTEXT, option);
+                res = SpongeSubjectReference.resolveNow(parent).getOption(SubjectData.GLOBAL_CONTEXT, option);
                 if (res.isPresent()) {
                     return res;
                 }
@@ -37,7 +37,7 @@ public class SpongeSubjectReference implements SubjectReference {
     private final String subjectId;
 
     @Nullable
-    private SpongeSubject cache = null;
+    private volatile CompletableFuture<Subject> cache = null;
 
     public SpongeSubjectReference(SpongePermissionService service, String collectionId, String subjectId) {
         this.service = service;
@@ -45,6 +45,25 @@ public SpongeSubjectReference(SpongePermissionService service, String collection
         this.subjectId = subjectId;
     }
 
+    SpongeSubjectReference(SpongePermissionService service, String collectionId, String subjectId, Subject subject) {
+        this(service, collectionId, subjectId);
+        this.cache = CompletableFuture.completedFuture(subject);
+    }
+
+    /**
+     * Resolves the given reference without waiting on a future when it is
+     * one of ours, as those only ever resolve to subjects held in memory.
+     *
+     * @param reference The reference to resolve
+     * @return The subject
+     */
+    static Subject resolveNow(SubjectReference reference) {
+        if (reference instanceof SpongeSubjectReference) {
+            return ((SpongeSubjectReference) reference).resolve().getNow(null);
+        }
+        return reference.resolve().join();
+    }
+
     @Override
     public String getCollectionIdentifier() {
         return this.collectionId;
@@ -56,13 +75,19 @@ public String getSubjectIdentifier() {
     }
 
     @Override
-    public synchronized CompletableFuture<Subject> resolve() {
-        // lazily load
-        if (this.cache == null) {
-            this.cache = this.service.get(this.collectionId).get(this.subjectId);
+    public CompletableFuture<Subject> resolve() {
+        // lazily load, the completed future is kept so repeated lookups don't allocate
+        CompletableFuture<Subject> cache = this.cache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.cache;
+                if (cache == null) {
+                    cache = CompletableFuture.<Subject>completedFuture(this.service.get(this.collectionId).get(this.subjectId));
+                    this.cache = cache;
+                }
+            }
         }
-
-        return CompletableFuture.completedFuture(this.cache);
+        return cache;
     }
 
 }
@@ -50,6 +50,12 @@ public class UserSubject extends SpongeSubject {
     public UserSubject(final GameProfile player, final UserCollection users) {
         this.player = Preconditions.checkNotNull(player);
         this.data = new SingleParentMemorySubjectData(this) {
+            @Override
+            protected boolean isResolutionCacheable() {
+                // The parent follows the op list, which can change without going through this data
+                return false;
+            }
+
             @Override
             public SubjectReference getParent() {
                 return users.getService().getGroupForOpLevel(UserSubject.this.getOpLevel()).asSubjectReference();
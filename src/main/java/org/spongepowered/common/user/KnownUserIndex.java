@@ -0,0 +1,405 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.profile.GameProfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A memory mapped index of every user with a player file, holding the
+ * unique id, last known name and last seen time of each of them.
+ *
+ * <p>Records are fixed size and stored densely, removing a user moves the
+ * last record into its place. Lookups by unique id go through an open
+ * addressing table of two longs per user pointing at the record. The header
+ * stores the modification time of the player directory at the last
+ * {@link #flush(long)}, so a later start can tell whether the index still
+ * matches the directory without listing it.</p>
+ *
+ * <p>Streams are weakly consistent. They see the records present when they
+ * were created, users added or removed while streaming may be missed or seen
+ * twice. The index itself is only modified from the main thread.</p>
+ */
+final class KnownUserIndex {
+
+    private static final int MAGIC = 0x53555352; // SUSR
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int COUNT_OFFSET = 8;
+    private static final int DIRECTORY_TIME_OFFSET = 16;
+    private static final int NAME_BYTES = 16;
+    private static final int RECORD_SIZE = 8 + 8 + 8 + KnownUserIndex.NAME_BYTES;
+    private static final int LAST_SEEN_OFFSET = 16;
+    private static final int NAME_OFFSET = 24;
+    private static final int MIN_RECORDS = 1024;
+    private static final long UNKNOWN_DIRECTORY_TIME = -1;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int count;
+    private boolean current;
+
+    // open addressing table, unique id -> record, the nil uuid marks empty slots
+    private long[] keys;
+    private int[] records;
+    private int mask;
+
+    private KnownUserIndex(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.buffer = this.map(KnownUserIndex.MIN_RECORDS);
+        this.allocateTable(KnownUserIndex.MIN_RECORDS);
+    }
+
+    /**
+     * Opens the index at the given file, creating it if required.
+     *
+     * @param file The index file
+     * @param directoryTime The current modification time of the player directory
+     * @return The index
+     * @throws IOException If the file could not be opened
+     */
+    static KnownUserIndex open(final Path file, final long directoryTime) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final KnownUserIndex index = new KnownUserIndex(channel);
+        index.load(directoryTime);
+        return index;
+    }
+
+    private void load(final long directoryTime) {
+        final boolean valid = this.buffer.getInt(0) == KnownUserIndex.MAGIC
+                && this.buffer.getInt(4) == KnownUserIndex.VERSION
+                && this.buffer.getLong(KnownUserIndex.DIRECTORY_TIME_OFFSET) == directoryTime;
+        if (!valid) {
+            this.clear();
+            return;
+        }
+        final int stored = this.buffer.getInt(KnownUserIndex.COUNT_OFFSET);
+        this.ensureCapacity(stored);
+        this.allocateTable(stored);
+        for (int record = 0; record < stored; record++) {
+            final int position = KnownUserIndex.HEADER_SIZE + record * KnownUserIndex.RECORD_SIZE;
+            this.insert(this.buffer.getLong(position), this.buffer.getLong(position + 8), record);
+        }
+        this.count = stored;
+        this.current = true;
+        // until the next flush the index no longer reflects the directory, a crash has to rebuild it
+        this.buffer.putLong(KnownUserIndex.DIRECTORY_TIME_OFFSET, KnownUserIndex.UNKNOWN_DIRECTORY_TIME);
+    }
+
+    /**
+     * Gets whether the index was loaded from a file matching the player
+     * directory. If not, it starts out empty and has to be rebuilt.
+     */
+    boolean isCurrent() {
+        return this.current;
+    }
+
+    int size() {
+        return this.count;
+    }
+
+    boolean contains(final UUID uniqueId) {
+        return this.find(uniqueId.getMostSignificantBits(), uniqueId.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * Gets the last seen time of the given user.
+     *
+     * @param uniqueId The unique id
+     * @return The last seen time in milliseconds since the epoch, or 0 if the
+     *     user is unknown or was never seen
+     */
+    long getLastSeen(final UUID uniqueId) {
+        final int slot = this.find(uniqueId.getMostSignificantBits(), uniqueId.getLeastSignificantBits());
+        if (slot < 0) {
+            return 0L;
+        }
+        return this.buffer.getLong(KnownUserIndex.position(this.records[slot]) + KnownUserIndex.LAST_SEEN_OFFSET);
+    }
+
+    /**
+     * Adds the given user, or updates its name and last seen time if it is
+     * already known. The last seen time only ever moves forward, passing 0
+     * keeps the known one.
+     *
+     * @param uniqueId The unique id
+     * @param name The last known name, or null to keep the known one
+     * @param lastSeen The last seen time, in milliseconds since the epoch
+     */
+    void put(final UUID uniqueId, final @Nullable String name, final long lastSeen) {
+        final long most = uniqueId.getMostSignificantBits();
+        final long least = uniqueId.getLeastSignificantBits();
+        if (most == 0 && least == 0) {
+            return;
+        }
+        final int slot = this.find(most, least);
+        final int record;
+        if (slot >= 0) {
+            record = this.records[slot];
+        } else {
+            record = this.count;
+            this.ensureCapacity(record + 1);
+            if ((this.count + 1) * 4 > this.records.length * 3) {
+                this.allocateTable(this.records.length);
+                this.reinsertAll();
+            }
+            this.insert(most, least, record);
+            final int position = KnownUserIndex.position(record);
+            this.buffer.putLong(position, most);
+            this.buffer.putLong(position + 8, least);
+            this.buffer.putLong(position + KnownUserIndex.LAST_SEEN_OFFSET, 0L);
+            this.writeName(position, null);
+            this.count++;
+        }
+        final int position = KnownUserIndex.position(record);
+        if (lastSeen > this.buffer.getLong(position + KnownUserIndex.LAST_SEEN_OFFSET)) {
+            this.buffer.putLong(position + KnownUserIndex.LAST_SEEN_OFFSET, lastSeen);
+        }
+        if (name != null) {
+            this.writeName(position, name);
+        }
+    }
+
+    void remove(final UUID uniqueId) {
+        final int slot = this.find(uniqueId.getMostSignificantBits(), uniqueId.getLeastSignificantBits());
+        if (slot < 0) {
+            return;
+        }
+        final int record = this.records[slot];
+        this.removeSlot(slot);
+        final int last = --this.count;
+        if (record != last) {
+            // move the last record into the hole to keep the records dense
+            final int from = KnownUserIndex.position(last);
+            final int to = KnownUserIndex.position(record);
+            for (int i = 0; i < KnownUserIndex.RECORD_SIZE; i += 8) {
+                this.buffer.putLong(to + i, this.buffer.getLong(from + i));
+            }
+            this.records[this.find(this.buffer.getLong(to), this.buffer.getLong(to + 8))] = record;
+        }
+    }
+
+    void clear() {
+        this.count = 0;
+        this.allocateTable(KnownUserIndex.MIN_RECORDS);
+    }
+
+    Stream<UUID> stream() {
+        final ByteBuffer buffer = this.buffer;
+        return IntStream.range(0, this.count).mapToObj(record -> KnownUserIndex.uniqueIdAt(buffer, record));
+    }
+
+    Stream<GameProfile> streamProfiles() {
+        final ByteBuffer buffer = this.buffer;
+        return IntStream.range(0, this.count).mapToObj(record -> KnownUserIndex.profileAt(buffer, record));
+    }
+
+    /**
+     * Streams the unique ids of all users without a known name.
+     */
+    Stream<UUID> streamUnnamed() {
+        final ByteBuffer buffer = this.buffer;
+        return IntStream.range(0, this.count)
+                .filter(record -> buffer.get(KnownUserIndex.position(record) + KnownUserIndex.NAME_OFFSET) == 0)
+                .mapToObj(record -> KnownUserIndex.uniqueIdAt(buffer, record));
+    }
+
+    /**
+     * Streams the profiles of all users whose last known name starts with
+     * the given lowercase prefix.
+     */
+    Stream<GameProfile> matchName(final String lowercasePrefix) {
+        final byte[] prefix = lowercasePrefix.getBytes(StandardCharsets.US_ASCII);
+        if (prefix.length > KnownUserIndex.NAME_BYTES) {
+            return Stream.empty();
+        }
+        final ByteBuffer buffer = this.buffer;
+        return IntStream.range(0, this.count)
+                .filter(record -> KnownUserIndex.nameStartsWith(buffer, KnownUserIndex.position(record), prefix))
+                .mapToObj(record -> KnownUserIndex.profileAt(buffer, record));
+    }
+
+    /**
+     * Writes the header and forces the records to disk.
+     *
+     * @param directoryTime The current modification time of the player directory
+     */
+    void flush(final long directoryTime) {
+        this.buffer.putInt(0, KnownUserIndex.MAGIC);
+        this.buffer.putInt(4, KnownUserIndex.VERSION);
+        this.buffer.putInt(KnownUserIndex.COUNT_OFFSET, this.count);
+        this.buffer.putLong(KnownUserIndex.DIRECTORY_TIME_OFFSET, directoryTime);
+        this.buffer.force();
+    }
+
+    void close() throws IOException {
+        this.channel.close();
+    }
+
+    private static int position(final int record) {
+        return KnownUserIndex.HEADER_SIZE + record * KnownUserIndex.RECORD_SIZE;
+    }
+
+    private static UUID uniqueIdAt(final ByteBuffer buffer, final int record) {
+        final int position = KnownUserIndex.position(record);
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+
+    private static GameProfile profileAt(final ByteBuffer buffer, final int record) {
+        final int position = KnownUserIndex.position(record);
+        final UUID uniqueId = new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+        final @Nullable String name = KnownUserIndex.readName(buffer, position);
+        return name == null ? GameProfile.of(uniqueId) : GameProfile.of(uniqueId, name);
+    }
+
+    private static @Nullable String readName(final ByteBuffer buffer, final int position) {
+        final byte[] bytes = new byte[KnownUserIndex.NAME_BYTES];
+        int length = 0;
+        while (length < KnownUserIndex.NAME_BYTES) {
+            final byte b = buffer.get(position + KnownUserIndex.NAME_OFFSET + length);
+            if (b == 0) {
+                break;
+            }
+            bytes[length++] = b;
+        }
+        return length == 0 ? null : new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private void writeName(final int position, final @Nullable String name) {
+        final byte[] bytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < KnownUserIndex.NAME_BYTES; i++) {
+            // names are at most 16 ascii characters, anything else is not remembered
+            final byte b = bytes.length <= KnownUserIndex.NAME_BYTES && i < bytes.length ? bytes[i] : 0;
+            this.buffer.put(position + KnownUserIndex.NAME_OFFSET + i, b);
+        }
+    }
+
+    private static boolean nameStartsWith(final ByteBuffer buffer, final int position, final byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            byte b = buffer.get(position + KnownUserIndex.NAME_OFFSET + i);
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private MappedByteBuffer map(final int records) throws IOException {
+        return this.channel.map(FileChannel.MapMode.READ_WRITE, 0, KnownUserIndex.position(records));
+    }
+
+    private void ensureCapacity(final int records) {
+        if (KnownUserIndex.position(records) <= this.buffer.capacity()) {
+            return;
+        }
+        int capacity = (this.buffer.capacity() - KnownUserIndex.HEADER_SIZE) / KnownUserIndex.RECORD_SIZE;
+        while (capacity < records) {
+            capacity <<= 1;
+        }
+        try {
+            this.buffer.force();
+            this.buffer = this.map(capacity);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to grow the known user index", e);
+        }
+    }
+
+    private void allocateTable(final int expected) {
+        final int capacity = HashCommon.arraySize(Math.max(expected, KnownUserIndex.MIN_RECORDS), 0.75f);
+        this.keys = new long[capacity * 2];
+        this.records = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private void reinsertAll() {
+        for (int record = 0; record < this.count; record++) {
+            final int position = KnownUserIndex.position(record);
+            this.insert(this.buffer.getLong(position), this.buffer.getLong(position + 8), record);
+        }
+    }
+
+    private static int hash(final long most, final long least) {
+        return (int) HashCommon.mix(most ^ least);
+    }
+
+    private int find(final long most, final long least) {
+        int slot = KnownUserIndex.hash(most, least) & this.mask;
+        while (true) {
+            final long currentMost = this.keys[slot << 1];
+            final long currentLeast = this.keys[(slot << 1) + 1];
+            if (currentMost == 0 && currentLeast == 0) {
+                return -(slot + 1);
+            }
+            if (currentMost == most && currentLeast == least) {
+                return slot;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    private void insert(final long most, final long least, final int record) {
+        int slot = KnownUserIndex.hash(most, least) & this.mask;
+        while (this.keys[slot << 1] != 0 || this.keys[(slot << 1) + 1] != 0) {
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot << 1] = most;
+        this.keys[(slot << 1) + 1] = least;
+        this.records[slot] = record;
+    }
+
+    private void removeSlot(final int slot) {
+        // Backward shift deletion, keeps probe sequences intact without tombstones
+        int last = slot;
+        int next = (slot + 1) & this.mask;
+        while (this.keys[next << 1] != 0 || this.keys[(next << 1) + 1] != 0) {
+            final int home = KnownUserIndex.hash(this.keys[next << 1], this.keys[(next << 1) + 1]) & this.mask;
+            if (last <= next ? (home <= last || home > next) : (home <= last && home > next)) {
+                this.keys[last << 1] = this.keys[next << 1];
+                this.keys[(last << 1) + 1] = this.keys[(next << 1) + 1];
+                this.records[last] = this.records[next];
+                last = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+        this.keys[last << 1] = 0;
+        this.keys[(last << 1) + 1] = 0;
+    }
+
+}
@@ -27,6 +27,7 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.world.storage.PlayerData;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Server;
@@ -47,22 +48,25 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.time.Instant;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public final class ServerUserProvider {
 
     private final MinecraftServer server;
 
-    // This is the important set - this tells us if a User file actually exists,
+    private static final String INDEX_FILE_NAME = "sponge_known_users.idx";
+
+    // This is the important index - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    @Nullable private KnownUserIndex knownUsers = null;
     private final Cache<UUID, User> userCache;
 
     private final Map<String, MutableWatchEvent> watcherUpdateMap = new HashMap<>();
@@ -122,9 +126,18 @@ void refreshFilesystemProfiles() {
         if (this.watchKey != null && this.watchKey.isValid()) {
             this.watchKey.reset();
         }
-        this.knownUUIDs.clear();
         this.userCache.invalidateAll();
 
+        if (this.knownUsers == null) {
+            this.knownUsers = this.openIndex();
+            if (this.knownUsers.isCurrent()) {
+                // Nothing changed in the player directory since the index was last written
+                return;
+            }
+        } else {
+            this.knownUsers.clear();
+        }
+
         // Add all known profiles from the data files
         final String[] uuids = this.getSaveHandler().getSeenPlayers();
         for (final String playerUuid : uuids) {
@@ -144,8 +157,71 @@ void refreshFilesystemProfiles() {
                 continue;
             }
 
-            this.knownUUIDs.add(uuid);
+            this.addKnownUser(uuid);
+        }
+    }
+
+    /**
+     * Adds the user of an existing player file to the index. The name comes
+     * from the profile cache, the player file is written whenever the player
+     * is saved, so its modification time stands in for the last seen time
+     * until the user logs in again.
+     */
+    private void addKnownUser(final UUID uuid) {
+        final com.mojang.authlib.GameProfile profile = this.server.getProfileCache().get(uuid);
+        long lastSeen = 0L;
+        try {
+            lastSeen = Files.getLastModifiedTime(this.getSaveHandlerDirectory().resolve(uuid.toString() + ".dat")).toMillis();
+        } catch (final IOException e) {
+            // the file is gone again, the watcher will remove the user
+        }
+        this.knownUsers.put(uuid, profile == null ? null : profile.getName(), lastSeen);
+    }
+
+    void stop() {
+        this.teardownWatchers();
+        if (this.knownUsers == null) {
+            return;
+        }
+        try {
+            this.knownUsers.flush(this.getDirectoryTime());
+        } catch (final IOException e) {
+            // the index keeps its unknown directory time and is rebuilt on the next start
+            SpongeCommon.getLogger().warn("Unable to read the modification time of the player directory", e);
+        }
+        try {
+            this.knownUsers.close();
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Unable to close the known user index", e);
         }
+        this.knownUsers = null;
+    }
+
+    private KnownUserIndex openIndex() {
+        final Path directory = this.getSaveHandlerDirectory();
+        try {
+            return KnownUserIndex.open(directory.resolveSibling(ServerUserProvider.INDEX_FILE_NAME), this.getDirectoryTime());
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Unable to open the known user index, falling back to a temporary one", e);
+        }
+        try {
+            final Path temporary = Files.createTempFile("sponge-known-users", ".idx");
+            temporary.toFile().deleteOnExit();
+            return KnownUserIndex.open(temporary, Long.MIN_VALUE);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to create a temporary known user index", e);
+        }
+    }
+
+    private long getDirectoryTime() throws IOException {
+        return Files.getLastModifiedTime(this.getSaveHandlerDirectory()).toMillis();
+    }
+
+    private KnownUserIndex knownUsers() {
+        if (this.knownUsers == null) {
+            this.refreshFilesystemProfiles();
+        }
+        return this.knownUsers;
     }
 
     Optional<User> getUser(final String lastKnownName) {
@@ -163,13 +239,23 @@ Optional<User> getUser(final UUID uuid) {
 
     Optional<User> getUser(@Nullable final GameProfile profile) {
         this.pollFilesystemWatcher();
-        if (profile != null && this.knownUUIDs.contains(profile.getUniqueId())) {
+        if (profile != null && this.knownUsers().contains(profile.getUniqueId())) {
             // This is okay, the file exists.
             return Optional.of(this.getOrCreateUser(profile, false));
         }
         return Optional.empty();
     }
 
+    /**
+     * Gets the last time the given user was seen, that is the last time they
+     * logged in or, for users that haven't logged in since the index was
+     * built, the last time their player file was written.
+     */
+    Optional<Instant> getLastSeen(final UUID uuid) {
+        final long lastSeen = this.knownUsers().getLastSeen(uuid);
+        return lastSeen == 0L ? Optional.empty() : Optional.of(Instant.ofEpochMilli(lastSeen));
+    }
+
     User getOrCreateUser(final GameProfile profile, final boolean force) {
         final com.mojang.authlib.GameProfile resolvedProfile;
         if (!force) {
@@ -195,27 +281,53 @@ User getOrCreateUser(final GameProfile profile, final boolean force) {
         this.pollFilesystemWatcher();
         final User user = new SpongeUser(resolvedProfile);
         this.userCache.put(profile.getUniqueId(), user);
-        this.knownUUIDs.add(profile.getUniqueId());
+        // Users are only forcibly recreated when their player logs in
+        this.knownUsers().put(profile.getUniqueId(), resolvedProfile.getName(), force ? System.currentTimeMillis() : 0L);
         return user;
     }
 
+    void editUsers(final Stream<GameProfile> profiles, final Consumer<? super User> editor) {
+        profiles.forEach(profile -> {
+            final User cachedUser = this.userCache.getIfPresent(profile.getUniqueId());
+            if (cachedUser != null) {
+                editor.accept(cachedUser);
+                return;
+            }
+            final SpongeUser user = new SpongeUser(SpongeGameProfile.toMcProfile(profile));
+            editor.accept(user);
+            if (SpongeUser.dirtyUsers.contains(user)) {
+                user.save();
+            } else {
+                user.invalidate();
+            }
+        });
+    }
+
     boolean deleteUser(final UUID uuid) {
         if (this.deleteStoredPlayerData(uuid)) {
             this.userCache.invalidate(uuid);
-            this.knownUUIDs.remove(uuid);
+            this.knownUsers().remove(uuid);
             return true;
         }
         return false;
     }
 
     Stream<GameProfile> matchKnownProfiles(final String lowercaseName) {
-        return ((Server) this.server).getGameProfileManager().getCache().streamOfMatches(lowercaseName)
-                .filter(gameProfile -> this.knownUUIDs.contains(gameProfile.getUniqueId()));
+        final KnownUserIndex knownUsers = this.knownUsers();
+        final PlayerProfileCache cache = this.server.getProfileCache();
+        // Users whose name wasn't known when they were indexed may have been seen by the profile cache since
+        final Stream<GameProfile> unnamed = knownUsers.streamUnnamed()
+                .map(cache::get)
+                .filter(profile -> profile != null && profile.getName() != null
+                        && profile.getName().toLowerCase(Locale.ROOT).startsWith(lowercaseName))
+                .map(SpongeGameProfile::of);
+        return Stream.concat(knownUsers.matchName(lowercaseName), unnamed);
     }
 
     Stream<GameProfile> streamAll() {
         final GameProfileCache cache = ((Server) this.server).getGameProfileManager().getCache();
-        return this.knownUUIDs.stream().map(x -> cache.getById(x).orElseGet(() -> GameProfile.of(x)));
+        return this.knownUsers().streamProfiles()
+                .map(x -> x.getName().isPresent() ? x : cache.getById(x.getUniqueId()).orElse(x));
     }
 
     private Path getPlayerDataFile(final UUID uniqueId) {
@@ -277,9 +389,9 @@ private void pollFilesystemWatcher() {
 
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
+                                this.addKnownUser(uuid);
                             } else {
-                                this.knownUUIDs.remove(uuid);
+                                this.knownUsers.remove(uuid);
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
@@ -33,10 +33,12 @@
 import org.spongepowered.api.user.UserManager;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +48,7 @@ public final class SpongeUserManager implements UserManager {
     public static final GameProfile FAKEPLAYER_PROFILE = new SpongeGameProfile(SpongeUserManager.FAKEPLAYER_UUID, null);
 
     private final ServerUserProvider serverUserProvider;
+    private final UserDataWriter dataWriter = new UserDataWriter();
 
     public SpongeUserManager(final Server server) {
         this.serverUserProvider = new ServerUserProvider(server);
@@ -56,6 +59,11 @@ public void init() {
         this.serverUserProvider.setupWatchers();
     }
 
+    public void stop() {
+        this.dataWriter.awaitAll();
+        this.serverUserProvider.stop();
+    }
+
     @Override
     public Optional<User> get(final UUID uniqueId) {
         return this.serverUserProvider.getUser(uniqueId);
@@ -82,6 +90,41 @@ public User forceRecreateUser(final GameProfile profile) {
         return this.serverUserProvider.getOrCreateUser(profile, true);
     }
 
+    /**
+     * Gets the last time the user with the given unique id was seen, as
+     * recorded by the index of known users.
+     *
+     * @param uniqueId The unique id of the user
+     * @return The last seen time, if known
+     */
+    public Optional<Instant> getLastSeen(final UUID uniqueId) {
+        return this.serverUserProvider.getLastSeen(checkNotNull(uniqueId, "uniqueId"));
+    }
+
+    public UserDataWriter getDataWriter() {
+        return this.dataWriter;
+    }
+
+    /**
+     * Applies the given editor to the user of every given profile.
+     *
+     * <p>Users which are not already cached are not added to the cache, they
+     * are saved as soon as they have been edited and then released. This
+     * allows editing every known user without holding all of them in memory.
+     * Must be called from the main thread.</p>
+     *
+     * <p>This only exists on the implementation, {@link UserManager} has no
+     * bulk edit, so plugins cannot call it. Users they edit through
+     * {@link #getOrCreate(GameProfile)} are still written by the
+     * {@link UserDataWriter}, but stay in the user cache.</p>
+     *
+     * @param profiles The profiles of the users to edit
+     * @param editor The editor to apply
+     */
+    public void editUsers(final Stream<GameProfile> profiles, final Consumer<? super User> editor) {
+        this.serverUserProvider.editUsers(checkNotNull(profiles, "profiles"), checkNotNull(editor, "editor"));
+    }
+
     @Override
     public Collection<GameProfile> getAll() {
         return this.streamAll().collect(Collectors.toList());
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.entity.player.SpongeUser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes offline user data to disk on a background thread.
+ *
+ * <p>Writes are coalesced per user: saving a user again before its previous
+ * save has started only replaces the data to be written. Each file is written
+ * to a temporary file first and then moved over the old one, so a crash never
+ * leaves a truncated player file behind. At most {@link #MAX_PENDING_WRITES}
+ * users can be waiting to be written, further saves block the caller until
+ * the writer catches up.</p>
+ */
+public final class UserDataWriter {
+
+    private static final int MAX_PENDING_WRITES = 256;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sponge-UserWriter-%d").build());
+    private final Map<UUID, PendingWrite> pending = new HashMap<>();
+    private final Semaphore permits = new Semaphore(UserDataWriter.MAX_PENDING_WRITES);
+
+    /**
+     * Queues the given snapshot of user data to be merged into the user's
+     * player file.
+     *
+     * @param uniqueId The user's unique id
+     * @param file The player file
+     * @param snapshot The user data, as written by {@link SpongeUser#writeCompound(CompoundNBT)}
+     * @return A future completing once the data is on disk
+     */
+    public CompletableFuture<Void> write(final UUID uniqueId, final Path file, final CompoundNBT snapshot) {
+        synchronized (this.pending) {
+            final PendingWrite queued = this.pending.get(uniqueId);
+            if (queued != null && !queued.started) {
+                queued.snapshot = snapshot;
+                return queued.future;
+            }
+        }
+        this.permits.acquireUninterruptibly();
+        final PendingWrite write = new PendingWrite(uniqueId, file, snapshot);
+        synchronized (this.pending) {
+            this.pending.put(uniqueId, write);
+        }
+        this.executor.execute(() -> this.run(write));
+        return write.future;
+    }
+
+    /**
+     * Waits for any queued write of the given user to reach the disk.
+     *
+     * @param uniqueId The user's unique id
+     */
+    public void await(final UUID uniqueId) {
+        final PendingWrite write;
+        synchronized (this.pending) {
+            write = this.pending.get(uniqueId);
+        }
+        if (write != null) {
+            write.future.exceptionally(e -> null).join();
+        }
+    }
+
+    /**
+     * Waits for every write queued so far to reach the disk.
+     */
+    public void awaitAll() {
+        CompletableFuture.runAsync(() -> {}, this.executor).join();
+    }
+
+    private void run(final PendingWrite write) {
+        final CompoundNBT snapshot;
+        synchronized (this.pending) {
+            write.started = true;
+            snapshot = write.snapshot;
+        }
+        try {
+            UserDataWriter.writeFile(write.file, snapshot);
+            write.future.complete(null);
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Failed to save user file [{}]!", write.file, e);
+            write.future.completeExceptionally(e);
+        } finally {
+            synchronized (this.pending) {
+                this.pending.remove(write.uniqueId, write);
+            }
+            this.permits.release();
+        }
+    }
+
+    private static void writeFile(final Path file, final CompoundNBT snapshot) throws IOException {
+        CompoundNBT compound = null;
+        if (Files.exists(file)) {
+            try (final InputStream in = Files.newInputStream(file)) {
+                compound = CompressedStreamTools.readCompressed(in);
+            } catch (final IOException ignored) {
+                // Nevermind, the user data replaces the corrupt file
+            }
+        }
+        if (compound == null) {
+            compound = new CompoundNBT();
+        }
+        SpongeUser.mergeSnapshot(compound, snapshot);
+
+        final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                CompressedStreamTools.writeCompressed(compound, out);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static final class PendingWrite {
+
+        final UUID uniqueId;
+        final Path file;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        CompoundNBT snapshot;
+        boolean started;
+
+        PendingWrite(final UUID uniqueId, final Path file, final CompoundNBT snapshot) {
+            this.uniqueId = uniqueId;
+            this.file = file;
+            this.snapshot = snapshot;
+        }
+    }
+
+}
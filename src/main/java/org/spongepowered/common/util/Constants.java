@@ -132,6 +132,7 @@ public static final class Sponge {
         public static final String CUSTOM_MANIPULATOR_TAG_LIST = "CustomManipulators";
         public static final DataQuery CUSTOM_MANIPULATOR_LIST = of(Sponge.CUSTOM_MANIPULATOR_TAG_LIST);
         public static final String MANIPULATOR_ID = "ManipulatorId";
+        public static final String CONTENT_VERSION = "ContentVersion";
         // General DataQueries
         public static final DataQuery UNSAFE_NBT = of("UnsafeData");
         public static final DataQuery DATA_MANIPULATORS = of("Data");
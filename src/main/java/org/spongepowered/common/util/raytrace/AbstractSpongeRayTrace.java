@@ -39,10 +39,10 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
-import org.spongepowered.math.vector.Vector3i;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -57,6 +57,7 @@
     @Nullable Vector3d direction;
     @Nullable Vector3d end;
     @Nullable ResourceKey world;
+    @Nullable WeakReference<ServerWorld> worldReference;
     @Nullable Predicate<T> select;
     @Nullable Predicate<LocatableBlock> continueWhileBlock = null;
     @Nullable Predicate<Entity> continueWhileEntity = null;
@@ -71,6 +72,7 @@
     @NonNull
     public final RayTrace<@NonNull T> world(@NonNull final ServerWorld serverWorld) {
         this.world = serverWorld.getKey();
+        this.worldReference = new WeakReference<>(serverWorld);
         return this;
     }
 
@@ -160,52 +162,114 @@
     @Override
     public Optional<RayTraceResult<@NonNull T>> execute() {
         this.setupEnd();
+        final RayTraceCursor cursor = new RayTraceCursor(this.resolveWorld());
+        return this.trace(cursor, this.start, this.end);
+    }
 
-        // get the direction
-        final Vector3d directionWithLength = this.end.sub(this.start);
-        final double length = directionWithLength.length();
-        final Vector3d direction = directionWithLength.normalize();
-        if (direction.lengthSquared() == 0) {
-            throw new IllegalStateException("The start and end must be two different vectors");
+    /**
+     * Traces a ray from each source position to the end position at the same
+     * index, using the world and filters set on this ray trace.
+     *
+     * <p>The rays are traced one after another and share a single cursor, so
+     * chunks looked up by one ray are reused by the next. Any direction or
+     * end position set on this ray trace is ignored.</p>
+     *
+     * @param sourcePositions The positions to trace from
+     * @param endPositions The positions to trace to
+     * @return The result of each ray, in the order the rays were given
+     */
+    public final List<Optional<RayTraceResult<@NonNull T>>> executeAll(final List<Vector3d> sourcePositions, final List<Vector3d> endPositions) {
+        if (sourcePositions.size() != endPositions.size()) {
+            throw new IllegalArgumentException("There must be exactly one end position for each source position");
         }
+        this.validate();
+        final RayTraceCursor cursor = new RayTraceCursor(this.resolveWorld());
+        final List<Optional<RayTraceResult<@NonNull T>>> results = new ArrayList<>(sourcePositions.size());
+        for (int i = 0; i < sourcePositions.size(); i++) {
+            results.add(this.trace(cursor, sourcePositions.get(i), endPositions.get(i)));
+        }
+        return results;
+    }
 
+    private ServerWorld resolveWorld() {
+        final ServerWorld cached = this.worldReference == null ? null : this.worldReference.get();
+        if (cached != null) {
+            return cached;
+        }
         final ServerWorld serverWorld = Sponge.getServer().getWorldManager().world(this.world)
                 .orElseThrow(() -> new IllegalStateException("World with key " + this.world.getFormatted() + " is not loaded!"));
+        this.worldReference = new WeakReference<>(serverWorld);
+        return serverWorld;
+    }
 
-        Vector3i currentBlock = this.initialBlock(direction);
-        final Vector3i steps = this.createSteps(direction);
+    private Optional<RayTraceResult<@NonNull T>> trace(final RayTraceCursor cursor, final Vector3d start, final Vector3d end) {
+        final double startX = start.getX();
+        final double startY = start.getY();
+        final double startZ = start.getZ();
+        final double endX = end.getX();
+        final double endY = end.getY();
+        final double endZ = end.getZ();
+
+        // get the direction
+        final double length = Math.sqrt((endX - startX) * (endX - startX) + (endY - startY) * (endY - startY) + (endZ - startZ) * (endZ - startZ));
+        if (length == 0) {
+            throw new IllegalStateException("The start and end must be two different vectors");
+        }
+        final double directionX = (endX - startX) / length;
+        final double directionY = (endY - startY) / length;
+        final double directionZ = (endZ - startZ) / length;
+
+        // This walks the grid with the usual DDA: the ray equation is
+        // vec(u) + t vec(d), and for each axis we keep the t at which the ray
+        // next crosses a block boundary on that axis, and how much t it takes
+        // to cross a whole block. The smallest of the three is the next step.
+        final int stepX = AbstractSpongeRayTrace.step(directionX);
+        final int stepY = AbstractSpongeRayTrace.step(directionY);
+        final int stepZ = AbstractSpongeRayTrace.step(directionZ);
+        int blockX = AbstractSpongeRayTrace.initialBlock(startX, directionX);
+        int blockY = AbstractSpongeRayTrace.initialBlock(startY, directionY);
+        int blockZ = AbstractSpongeRayTrace.initialBlock(startZ, directionZ);
+        double tToX = AbstractSpongeRayTrace.initialT(startX, blockX, directionX);
+        double tToY = AbstractSpongeRayTrace.initialT(startY, blockY, directionY);
+        double tToZ = AbstractSpongeRayTrace.initialT(startZ, blockZ, directionZ);
+        final double tDeltaX = directionX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / directionX);
+        final double tDeltaY = directionY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / directionY);
+        final double tDeltaZ = directionZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / directionZ);
 
-        // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
-        // that we need to traverse to get to a boundary. We work that out now...
-        TData tData = this.createInitialTData(direction);
-        Vector3d currentLocation = new Vector3d(this.start.getX(), this.start.getY(), this.start.getZ());
         final boolean requiresEntityTracking = this.requiresEntityTracking();
+        final List<net.minecraft.entity.Entity> selectedEntities;
+        final List<net.minecraft.entity.Entity> failingEntities;
+        if (requiresEntityTracking) {
+            // Every entity the ray could touch overlaps the blocks spanning
+            // the ray, so gather them once rather than querying every step.
+            selectedEntities = new ArrayList<>();
+            failingEntities = new ArrayList<>();
+            this.gatherEntities(cursor.world, start, end, selectedEntities, failingEntities);
+        } else {
+            selectedEntities = Collections.emptyList();
+            failingEntities = Collections.emptyList();
+        }
 
+        double t = 0;
         boolean requireAdvancement = true;
         while (requireAdvancement) {
-            final net.minecraft.util.math.vector.Vector3d vec3dstart = VecHelper.toVanillaVector3d(currentLocation);
+            cursor.moveTo(blockX, blockY, blockZ);
             // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
-            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, currentBlock))) {
+            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(cursor.getLocation())) {
                 return Optional.empty();
             }
-            final Vector3d nextLocation;
-            final net.minecraft.util.math.vector.Vector3d vec3dend;
-            if (tData.getTotalTWithNextStep() > length) {
+            final double nextT = Math.min(tToX, Math.min(tToY, tToZ));
+            if (nextT > length) {
                 // This is the last step, we break out of the loop after this set of checks.
                 requireAdvancement = false;
-                nextLocation = this.end;
-                vec3dend = VecHelper.toVanillaVector3d(this.end);
+                cursor.segment(startX + directionX * t, startY + directionY * t, startZ + directionZ * t, endX, endY, endZ);
             } else {
-                nextLocation = currentLocation.add(
-                        direction.getX() * tData.getNextStep(),
-                        direction.getY() * tData.getNextStep(),
-                        direction.getZ() * tData.getNextStep()
-                );
-                vec3dend = VecHelper.toVanillaVector3d(nextLocation);
+                cursor.segment(startX + directionX * t, startY + directionY * t, startZ + directionZ * t,
+                        startX + directionX * nextT, startY + directionY * nextT, startZ + directionZ * nextT);
             }
 
             // Get the selection result.
-            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
+            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(cursor, selectedEntities);
             if (result.isPresent() && !this.shouldCheckFailures()) {
                 // either this is a block ray, so no failures need to be checked, else
                 // we return the entity later if there isn't an entity in front of it
@@ -214,24 +278,25 @@
             }
 
             // Ensure that the block can be travelled through.
-            if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
+            if (!this.shouldAdvanceThroughBlock(cursor)) {
                 return Optional.empty();
             }
 
             // Ensure that the entities in the block can be travelled through.
-            if (requiresEntityTracking && this.continueWhileEntity != null) {
+            if (!failingEntities.isEmpty()) {
                 final double resultDistance;
                 if (result.isPresent()) {
-                    resultDistance = result.get().getHitPosition().distanceSquared(currentLocation);
+                    resultDistance = result.get().getHitPosition().distanceSquared(cursor.inX, cursor.inY, cursor.inZ);
                 } else {
                     resultDistance = Double.MAX_VALUE;
                 }
-                final AxisAlignedBB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
-                    final Optional<net.minecraft.util.math.vector.Vector3d> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
+                for (final net.minecraft.entity.Entity entity : failingEntities) {
+                    if (!cursor.overlapsBlock(entity)) {
+                        continue;
+                    }
+                    final Optional<net.minecraft.util.math.vector.Vector3d> vec3d = entity.getBoundingBox().clip(cursor.getVanillaIn(), cursor.getVanillaOut());
                     if (vec3d.isPresent()) {
-                        final net.minecraft.util.math.vector.Vector3d hitPosition = vec3d.get();
-                        final double sqdist = hitPosition.distanceToSqr(vec3dstart);
+                        final double sqdist = vec3d.get().distanceToSqr(cursor.getVanillaIn());
                         if (sqdist < resultDistance) {
                             // We have a failure, so at this point we just bail out and end the trace.
                             return Optional.empty();
@@ -246,9 +311,19 @@
             }
 
             if (requireAdvancement) {
-                currentLocation = nextLocation;
-                currentBlock = this.getNextBlock(currentBlock, tData, steps);
-                tData = this.advance(tData, steps, direction);
+                t = nextT;
+                if (tToX <= nextT) {
+                    blockX += stepX;
+                    tToX += tDeltaX;
+                }
+                if (tToY <= nextT) {
+                    blockY += stepY;
+                    tToY += tDeltaY;
+                }
+                if (tToZ <= nextT) {
+                    blockZ += stepZ;
+                    tToZ += tDeltaZ;
+                }
             }
         }
 
@@ -260,6 +335,7 @@
     public RayTrace<@NonNull T> reset() {
         this.select = this.defaultFilter;
         this.world = null;
+        this.worldReference = null;
         this.start = null;
         this.end = null;
         this.continueWhileBlock = null;
@@ -268,60 +344,68 @@
         return this;
     }
 
-    final Vector3i getNextBlock(final Vector3i current, final TData data, final Vector3i steps) {
-        return current.add(
-                data.nextStepWillAdvanceX() ? steps.getX() : 0,
-                data.nextStepWillAdvanceY() ? steps.getY() : 0,
-                data.nextStepWillAdvanceZ() ? steps.getX() : 0
-        );
+    private static int step(final double direction) {
+        return direction > 0 ? 1 : direction < 0 ? -1 : 0;
     }
 
-    final Vector3i createSteps(final Vector3d direction) {
-        return new Vector3i(
-                Math.signum(direction.getX()),
-                Math.signum(direction.getY()),
-                Math.signum(direction.getZ())
-        );
+    private static int initialBlock(final double start, final double direction) {
+        final int block = (int) Math.floor(start);
+        // Sitting exactly on a boundary while heading backwards means the
+        // first block the ray passes through is the one behind it.
+        return direction < 0 && block == start ? block - 1 : block;
     }
 
-    final AxisAlignedBB getBlockAABB(final Vector3i currentBlock) {
-        return new AxisAlignedBB(currentBlock.getX(),
-                currentBlock.getY(), currentBlock.getZ(), currentBlock.getX() + 1, currentBlock.getY() + 1, currentBlock.getZ() + 1);
+    private static double initialT(final double start, final int block, final double direction) {
+        if (direction > 0) {
+            return (block + 1 - start) / direction;
+        } else if (direction < 0) {
+            return (start - block) / -direction;
+        } else {
+            // Infinity - indicates we never reach a boundary.
+            return Double.POSITIVE_INFINITY;
+        }
     }
 
-    private List<net.minecraft.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AxisAlignedBB targetAABB) {
-        return ((World) serverWorld).getEntities((net.minecraft.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
+    private void gatherEntities(final ServerWorld serverWorld, final Vector3d start, final Vector3d end,
+            final List<net.minecraft.entity.Entity> selected, final List<net.minecraft.entity.Entity> failing) {
+        final AxisAlignedBB rayAABB = new AxisAlignedBB(
+                Math.floor(Math.min(start.getX(), end.getX())) - 1,
+                Math.floor(Math.min(start.getY(), end.getY())) - 1,
+                Math.floor(Math.min(start.getZ(), end.getZ())) - 1,
+                Math.floor(Math.max(start.getX(), end.getX())) + 1,
+                Math.floor(Math.max(start.getY(), end.getY())) + 1,
+                Math.floor(Math.max(start.getZ(), end.getZ())) + 1);
+        for (final net.minecraft.entity.Entity entity : ((World) serverWorld).getEntities((net.minecraft.entity.Entity) null, rayAABB, e -> true)) {
+            if (this.selectsEntity((Entity) entity)) {
+                selected.add(entity);
+            }
+            if (this.continueWhileEntity != null && !this.continueWhileEntity.test((Entity) entity)) {
+                failing.add(entity);
+            }
+        }
     }
 
     boolean requiresEntityTracking() {
         return this.continueWhileEntity != null;
     }
 
-    List<net.minecraft.entity.Entity> selectEntities(final ServerWorld serverWorld, final AxisAlignedBB targetAABB) {
-        return Collections.emptyList();
+    boolean selectsEntity(final Entity entity) {
+        return false;
     }
 
-    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld,
-            final net.minecraft.util.math.vector.Vector3d location,
-            final net.minecraft.util.math.vector.Vector3d exitLocation);
-
-    final LocatableBlock getBlock(final ServerWorld world, final net.minecraft.util.math.vector.Vector3d in, final net.minecraft.util.math.vector.Vector3d out) {
-        final Vector3i coord = new Vector3i(
-                Math.min(in.x, out.x),
-                Math.min(in.y, out.y),
-                Math.min(in.z, out.z)
-        );
-        return world.getLocatableBlock(coord);
-    }
+    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final RayTraceCursor cursor, final List<net.minecraft.entity.Entity> selectedEntities);
 
-    private boolean shouldAdvanceThroughBlock(final ServerWorld serverWorld,
-            final net.minecraft.util.math.vector.Vector3d location,
-            final net.minecraft.util.math.vector.Vector3d exitLocation) {
+    private boolean shouldAdvanceThroughBlock(final RayTraceCursor cursor) {
         if (this.continueWhileBlock == null) {
             return true;
         }
-
-        return this.continueWhileBlock.test(this.getBlock(serverWorld, location, exitLocation));
+        if (this.continueWhileBlock == SpongeRayTraceFactory.ONLY_AIR) {
+            return cursor.isAir();
+        }
+        if (this.continueWhileBlock == SpongeRayTraceFactory.NOT_AIR) {
+            return !cursor.isAir();
+        }
+        return this.continueWhileBlock.test(cursor.getLocatableBlock());
     }
 
     boolean shouldCheckFailures() {
@@ -335,106 +419,19 @@ final void setupEnd() {
         if (this.end == null && this.direction == null) {
             throw new IllegalStateException("end cannot be null");
         }
-        if (this.world == null) {
-            throw new IllegalStateException("world cannot be null");
-        }
-        if (this.select == null) {
-            throw new IllegalStateException("select filter cannot be null");
-        }
+        this.validate();
 
         if (this.direction != null) {
             this.continueUntil(this.start.add(this.direction.mul(this.limit)));
         }
     }
 
-    final Vector3i initialBlock(final Vector3d direction) {
-        return new Vector3i(
-                this.start.getX() - (direction.getX() < 0 && this.start.getX() == 0 ? 1 : 0),
-                this.start.getY() - (direction.getY() < 0 && this.start.getY() == 0 ? 1 : 0),
-                this.start.getZ() - (direction.getZ() < 0 && this.start.getZ() == 0 ? 1 : 0)
-        );
-    }
-
-    final TData createInitialTData(final Vector3d direction) {
-        return new TData(
-                0,
-                this.getT(this.start.getX(), direction.getX(), this.end.getX()),
-                this.getT(this.start.getY(), direction.getY(), this.end.getY()),
-                this.getT(this.start.getZ(), direction.getZ(), this.end.getZ())
-        );
-    }
-
-    final TData advance(final TData data, final Vector3i steps, final Vector3d direction) {
-        final double nextStep = data.getNextStep();
-        return new TData(
-                data.getTotalTWithNextStep(),
-                data.nextStepWillAdvanceX() ? steps.getX() / direction.getX() : data.gettToX() - nextStep,
-                data.nextStepWillAdvanceY() ? steps.getY() / direction.getY() : data.gettToY() - nextStep,
-                data.nextStepWillAdvanceZ() ? steps.getZ() / direction.getZ() : data.gettToZ() - nextStep
-        );
-    }
-
-    private double getT(final double start, final double direction, final double end) {
-        if (direction > 0) {
-            return (Math.min(end, Math.ceil(start)) - start) / direction;
-        } else if (direction < 0) {
-            return (Math.max(end, Math.floor(start)) - start) / direction;
-        } else {
-            // Infinity - indicates we never reach a boundary.
-            return Double.POSITIVE_INFINITY;
-        }
-    }
-
-    static final class TData {
-
-        private final double totalT;
-        private final double tToX;
-        private final double tToY;
-        private final double tToZ;
-        private final double nextStep;
-
-        TData(final double totalT, final double tToX, final double tToY, final double tToZ) {
-            this.totalT = totalT;
-            this.tToX = tToX;
-            this.tToY = tToY;
-            this.tToZ = tToZ;
-            this.nextStep = Math.min(tToX, Math.min(tToY, tToZ));
-        }
-
-        public double getTotalT() {
-            return this.totalT;
-        }
-
-        public double gettToX() {
-            return this.tToX;
-        }
-
-        public double gettToY() {
-            return this.tToY;
-        }
-
-        public double gettToZ() {
-            return this.tToZ;
-        }
-
-        public boolean nextStepWillAdvanceX() {
-            return this.tToX <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceY() {
-            return this.tToY <= this.nextStep;
-        }
-
-        public boolean nextStepWillAdvanceZ() {
-            return this.tToZ <= this.nextStep;
-        }
-
-        public double getNextStep() {
-            return this.nextStep;
+    private void validate() {
+        if (this.world == null) {
+            throw new IllegalStateException("world cannot be null");
         }
-
-        public double getTotalTWithNextStep() {
-            return this.nextStep + this.totalT;
+        if (this.select == null) {
+            throw new IllegalStateException("select filter cannot be null");
         }
     }
 
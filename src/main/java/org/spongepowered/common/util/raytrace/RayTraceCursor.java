@@ -0,0 +1,172 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.LocatableBlock;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.world.server.SpongeLocatableBlock;
+import org.spongepowered.math.vector.Vector3d;
+
+/**
+ * The mutable state of a ray as it is walked through the world, one block at
+ * a time. Everything needed to step the ray is kept as primitives so that
+ * advancing does not allocate; API objects such as {@link LocatableBlock}s
+ * and vanilla vectors are only created when a filter actually asks for them.
+ *
+ * <p>The chunk the ray is currently in is cached, so consecutive steps, and
+ * consecutive rays in a batch, only look a chunk up when they cross into a
+ * new one.</p>
+ */
+final class RayTraceCursor {
+
+    final ServerWorld world;
+    private final World level;
+
+    // The block the ray is currently in
+    int blockX;
+    int blockY;
+    int blockZ;
+
+    // Where the ray enters and leaves the current block
+    double inX;
+    double inY;
+    double inZ;
+    double outX;
+    double outY;
+    double outZ;
+
+    private int chunkX;
+    private int chunkZ;
+    private @Nullable Chunk chunk;
+
+    private @Nullable BlockState blockState;
+    private @Nullable LocatableBlock locatableBlock;
+    private net.minecraft.util.math.vector.@Nullable Vector3d vanillaIn;
+    private net.minecraft.util.math.vector.@Nullable Vector3d vanillaOut;
+
+    RayTraceCursor(final ServerWorld world) {
+        this.world = world;
+        this.level = (World) world;
+    }
+
+    void moveTo(final int blockX, final int blockY, final int blockZ) {
+        this.blockX = blockX;
+        this.blockY = blockY;
+        this.blockZ = blockZ;
+        this.blockState = null;
+        this.locatableBlock = null;
+    }
+
+    void segment(final double inX, final double inY, final double inZ, final double outX, final double outY, final double outZ) {
+        this.inX = inX;
+        this.inY = inY;
+        this.inZ = inZ;
+        this.outX = outX;
+        this.outY = outY;
+        this.outZ = outZ;
+        this.vanillaIn = null;
+        this.vanillaOut = null;
+    }
+
+    BlockState getBlockState() {
+        if (this.blockState == null) {
+            this.blockState = this.readBlockState();
+        }
+        return this.blockState;
+    }
+
+    private BlockState readBlockState() {
+        if (this.blockY < 0 || this.blockY >= this.level.getMaxBuildHeight()) {
+            return Blocks.VOID_AIR.defaultBlockState();
+        }
+        final int chunkX = this.blockX >> 4;
+        final int chunkZ = this.blockZ >> 4;
+        if (this.chunk == null || this.chunkX != chunkX || this.chunkZ != chunkZ) {
+            this.chunk = this.level.getChunk(chunkX, chunkZ);
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+        final ChunkSection section = this.chunk.getSections()[this.blockY >> 4];
+        if (ChunkSection.isEmpty(section)) {
+            return Blocks.AIR.defaultBlockState();
+        }
+        return section.getBlockState(this.blockX & 15, this.blockY & 15, this.blockZ & 15);
+    }
+
+    boolean isAir() {
+        final Block block = this.getBlockState().getBlock();
+        return block == Blocks.AIR || block == Blocks.CAVE_AIR || block == Blocks.VOID_AIR;
+    }
+
+    LocatableBlock getLocatableBlock() {
+        if (this.locatableBlock == null) {
+            this.locatableBlock = new SpongeLocatableBlock(this.world, this.blockX, this.blockY, this.blockZ,
+                    (org.spongepowered.api.block.BlockState) this.getBlockState());
+        }
+        return this.locatableBlock;
+    }
+
+    ServerLocation getLocation() {
+        return ServerLocation.of(this.world, this.blockX, this.blockY, this.blockZ);
+    }
+
+    Vector3d getInPosition() {
+        return new Vector3d(this.inX, this.inY, this.inZ);
+    }
+
+    net.minecraft.util.math.vector.Vector3d getVanillaIn() {
+        if (this.vanillaIn == null) {
+            this.vanillaIn = new net.minecraft.util.math.vector.Vector3d(this.inX, this.inY, this.inZ);
+        }
+        return this.vanillaIn;
+    }
+
+    net.minecraft.util.math.vector.Vector3d getVanillaOut() {
+        if (this.vanillaOut == null) {
+            this.vanillaOut = new net.minecraft.util.math.vector.Vector3d(this.outX, this.outY, this.outZ);
+        }
+        return this.vanillaOut;
+    }
+
+    /**
+     * Gets whether the given entity's bounding box overlaps the block the
+     * ray is currently in.
+     *
+     * @param entity The entity
+     * @return True if the entity is in the current block
+     */
+    boolean overlapsBlock(final net.minecraft.entity.Entity entity) {
+        return entity.getBoundingBox().intersects(this.blockX, this.blockY, this.blockZ, this.blockX + 1, this.blockY + 1, this.blockZ + 1);
+    }
+
+}
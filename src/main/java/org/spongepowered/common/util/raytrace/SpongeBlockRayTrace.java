@@ -24,15 +24,13 @@
  */
 package org.spongepowered.common.util.raytrace;
 
-import net.minecraft.util.math.vector.Vector3d;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.blockray.RayTraceResult;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -48,13 +46,16 @@ public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull L
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final ServerWorld serverWorld,
-            final Vector3d location,
-            final Vector3d exitLocation) {
-
-        final LocatableBlock initialBlock = this.getBlock(serverWorld, location, exitLocation);
+    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final RayTraceCursor cursor,
+            final List<net.minecraft.entity.Entity> selectedEntities) {
+        // Most of a ray is usually air, which the default filter rejects, so
+        // there is no need to build a block for it.
+        if (this.select == SpongeBlockRayTrace.DEFAULT_FILTER && cursor.isAir()) {
+            return Optional.empty();
+        }
+        final LocatableBlock initialBlock = cursor.getLocatableBlock();
         if (this.select.test(initialBlock)) {
-            return Optional.of(new SpongeRayTraceResult<>(initialBlock, VecHelper.toVector3d(location)));
+            return Optional.of(new SpongeRayTraceResult<>(initialBlock, cursor.getInPosition()));
         }
         return Optional.empty();
     }
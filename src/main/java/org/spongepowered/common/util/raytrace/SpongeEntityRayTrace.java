@@ -24,14 +24,10 @@
  */
 package org.spongepowered.common.util.raytrace;
 
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.vector.Vector3d;
-import net.minecraft.world.World;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.blockray.RayTraceResult;
-import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.List;
@@ -52,20 +48,23 @@ boolean requiresEntityTracking() {
     }
 
     @Override
-    List<net.minecraft.entity.Entity> selectEntities(final ServerWorld serverWorld, final AxisAlignedBB targetAABB) {
-        return ((World) serverWorld).getEntities((net.minecraft.entity.Entity) null, targetAABB, (Predicate) this.select);
+    boolean selectsEntity(final Entity entity) {
+        return this.select.test(entity);
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final ServerWorld serverWorld, final Vector3d vec3din, final Vector3d vec3dend) {
+    final Optional<RayTraceResult<@NonNull Entity>> testSelectLocation(final RayTraceCursor cursor,
+            final List<net.minecraft.entity.Entity> selectedEntities) {
         double currentSqDist = Double.MAX_VALUE;
         RayTraceResult<@NonNull Entity> returnedEntity = null;
-        final LocatableBlock locatableBlock = this.getBlock(serverWorld, vec3din, vec3dend);
-        for (final net.minecraft.entity.Entity entity : this.selectEntities(serverWorld, this.getBlockAABB(locatableBlock.getBlockPosition()))) {
-            final Optional<Vector3d> vec3d = entity.getBoundingBox().clip(vec3din, vec3dend);
+        for (final net.minecraft.entity.Entity entity : selectedEntities) {
+            if (!cursor.overlapsBlock(entity)) {
+                continue;
+            }
+            final Optional<Vector3d> vec3d = entity.getBoundingBox().clip(cursor.getVanillaIn(), cursor.getVanillaOut());
             if (vec3d.isPresent()) {
                 final Vector3d hitPosition = vec3d.get();
-                final double sqdist = hitPosition.distanceToSqr(vec3din);
+                final double sqdist = hitPosition.distanceToSqr(cursor.getVanillaIn());
                 if (sqdist < currentSqDist) {
                     currentSqDist = sqdist;
                     returnedEntity = new SpongeRayTraceResult<>((Entity) entity, VecHelper.toVector3d(hitPosition));
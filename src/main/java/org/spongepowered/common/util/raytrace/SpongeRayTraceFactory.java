@@ -35,18 +35,15 @@
 
 public final class SpongeRayTraceFactory implements RayTrace.Factory {
 
-    private final Predicate<LocatableBlock> onlyAir, notAir;
-
-    public SpongeRayTraceFactory() {
-        this.onlyAir = locatableBlock -> {
-            final BlockType type = locatableBlock.getBlockState().getType();
-            return type == BlockTypes.AIR.get() ||
-                    type == BlockTypes.CAVE_AIR.get() ||
-                    type == BlockTypes.VOID_AIR.get();
-        };
-
-        this.notAir = this.onlyAir.negate();
-    }
+    // Kept as constants so that ray traces can recognise them and test the
+    // block state directly instead of building a LocatableBlock every step.
+    static final Predicate<LocatableBlock> ONLY_AIR = locatableBlock -> {
+        final BlockType type = locatableBlock.getBlockState().getType();
+        return type == BlockTypes.AIR.get() ||
+                type == BlockTypes.CAVE_AIR.get() ||
+                type == BlockTypes.VOID_AIR.get();
+    };
+    static final Predicate<LocatableBlock> NOT_AIR = SpongeRayTraceFactory.ONLY_AIR.negate();
 
     @Override
     @NonNull
@@ -62,13 +59,13 @@ public SpongeRayTraceFactory() {
 
     @Override
     public Predicate<LocatableBlock> onlyAir() {
-        return this.onlyAir;
+        return SpongeRayTraceFactory.ONLY_AIR;
     }
 
     @Override
     @NonNull
     public Predicate<LocatableBlock> notAir() {
-        return this.notAir;
+        return SpongeRayTraceFactory.NOT_AIR;
     }
 
 }
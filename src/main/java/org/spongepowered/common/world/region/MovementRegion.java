@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.region;
+
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.common.util.SpongeAABB;
+import org.spongepowered.math.vector.Vector3d;
+
+/**
+ * A box registered in a {@link MovementRegionIndex}, whose {@link Listener}
+ * is notified when an entity moves into or out of it.
+ *
+ * <p>Regions cover whole blocks, every block that the requested bounds
+ * overlap is part of the region. The maximum of the bounds is exclusive, so
+ * bounds already on block edges cover exactly the blocks inside them. An
+ * entity is inside when the block it is in is, so a region can only be
+ * crossed by moving into another block.</p>
+ */
+public final class MovementRegion {
+
+    private final AABB bounds;
+    private final Listener listener;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    final int minChunkX;
+    final int minChunkZ;
+    final int maxChunkX;
+    final int maxChunkZ;
+
+    MovementRegion(final AABB bounds, final Listener listener) {
+        this.listener = listener;
+        this.minX = MathHelper.floor(bounds.getMin().getX());
+        this.minY = MathHelper.floor(bounds.getMin().getY());
+        this.minZ = MathHelper.floor(bounds.getMin().getZ());
+        // The last block overlapped, a box ending on a block edge does not reach into the next block
+        this.maxX = MathHelper.ceil(bounds.getMax().getX()) - 1;
+        this.maxY = MathHelper.ceil(bounds.getMax().getY()) - 1;
+        this.maxZ = MathHelper.ceil(bounds.getMax().getZ()) - 1;
+        this.bounds = new SpongeAABB(new Vector3d(this.minX, this.minY, this.minZ), new Vector3d(this.maxX + 1, this.maxY + 1, this.maxZ + 1));
+        this.minChunkX = this.minX >> 4;
+        this.minChunkZ = this.minZ >> 4;
+        this.maxChunkX = this.maxX >> 4;
+        this.maxChunkZ = this.maxZ >> 4;
+    }
+
+    /**
+     * Gets the bounds of this region, snapped outwards to the edges of the
+     * blocks it covers. Bounds already on block edges are returned as is.
+     *
+     * @return The bounds
+     */
+    public AABB getBounds() {
+        return this.bounds;
+    }
+
+    boolean coversChunk(final int chunkX, final int chunkZ) {
+        return chunkX >= this.minChunkX && chunkX <= this.maxChunkX && chunkZ >= this.minChunkZ && chunkZ <= this.maxChunkZ;
+    }
+
+    private boolean containsBlock(final int x, final int y, final int z) {
+        return x >= this.minX && x <= this.maxX && y >= this.minY && y <= this.maxY && z >= this.minZ && z <= this.maxZ;
+    }
+
+    void notifyCrossing(final Entity entity, final int fromX, final int fromY, final int fromZ, final int toX, final int toY, final int toZ) {
+        final boolean wasInside = this.containsBlock(fromX, fromY, fromZ);
+        final boolean isInside = this.containsBlock(toX, toY, toZ);
+        if (wasInside != isInside) {
+            this.listener.onCrossing(entity, this, isInside);
+        }
+    }
+
+    void notifyIfContains(final Entity entity, final int x, final int y, final int z, final boolean entered) {
+        if (this.containsBlock(x, y, z)) {
+            this.listener.onCrossing(entity, this, entered);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called when an entity crosses the bounds of a region.
+         *
+         * @param entity The entity that moved
+         * @param region The region that was crossed
+         * @param entered True if the entity entered the region, false if it left
+         */
+        void onCrossing(Entity entity, MovementRegion region, boolean entered);
+    }
+}
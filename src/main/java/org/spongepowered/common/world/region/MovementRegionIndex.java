@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.region;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.common.bridge.entity.EntityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A per world spatial index of {@link MovementRegion regions} and
+ * {@link BlockMovementListener block movement listeners}, so movement only
+ * costs anything once an entity crosses a block boundary, and then only
+ * for the regions registered in the chunks it moved between. That early
+ * exit is exact, as regions only ever cover whole blocks.
+ *
+ * <p>Regions are bucketed by every chunk their bounds overlap. The buckets
+ * are copied on write, which lets listeners unregister themselves while
+ * they are being notified. Registration is expected to happen on the main
+ * thread.</p>
+ */
+public final class MovementRegionIndex {
+
+    private static final MovementRegion[] NO_REGIONS = new MovementRegion[0];
+
+    private final Long2ObjectMap<MovementRegion[]> regionsByChunk = new Long2ObjectOpenHashMap<>();
+    private final CopyOnWriteArrayList<BlockMovementListener> blockListeners = new CopyOnWriteArrayList<>();
+
+    public MovementRegionIndex() {
+        this.regionsByChunk.defaultReturnValue(MovementRegionIndex.NO_REGIONS);
+    }
+
+    public MovementRegion register(final AABB bounds, final MovementRegion.Listener listener) {
+        final MovementRegion region = new MovementRegion(bounds, listener);
+        for (int chunkX = region.minChunkX; chunkX <= region.maxChunkX; chunkX++) {
+            for (int chunkZ = region.minChunkZ; chunkZ <= region.maxChunkZ; chunkZ++) {
+                final long key = ChunkPos.asLong(chunkX, chunkZ);
+                final MovementRegion[] regions = this.regionsByChunk.get(key);
+                final MovementRegion[] grown = Arrays.copyOf(regions, regions.length + 1);
+                grown[regions.length] = region;
+                this.regionsByChunk.put(key, grown);
+            }
+        }
+        return region;
+    }
+
+    public void unregister(final MovementRegion region) {
+        for (int chunkX = region.minChunkX; chunkX <= region.maxChunkX; chunkX++) {
+            for (int chunkZ = region.minChunkZ; chunkZ <= region.maxChunkZ; chunkZ++) {
+                final long key = ChunkPos.asLong(chunkX, chunkZ);
+                final MovementRegion[] regions = this.regionsByChunk.get(key);
+                final MovementRegion[] remaining = Arrays.stream(regions).filter(r -> r != region).toArray(MovementRegion[]::new);
+                if (remaining.length == 0) {
+                    this.regionsByChunk.remove(key);
+                } else if (remaining.length != regions.length) {
+                    this.regionsByChunk.put(key, remaining);
+                }
+            }
+        }
+    }
+
+    public void registerBlockListener(final BlockMovementListener listener) {
+        this.blockListeners.addIfAbsent(listener);
+    }
+
+    public void unregisterBlockListener(final BlockMovementListener listener) {
+        this.blockListeners.remove(listener);
+    }
+
+    public boolean isEmpty() {
+        return this.regionsByChunk.isEmpty() && this.blockListeners.isEmpty();
+    }
+
+    /**
+     * Reports the current position of the entity to the movement regions of
+     * its world, notifying the listeners interested in how it got there since
+     * it was last reported, whether it walked, was teleported or changed
+     * worlds. Must be called after the position has been applied.
+     *
+     * <p>An entity that changed worlds leaves the regions it was in in the old
+     * world and enters the regions it is in in the new one, just like an
+     * entity reported for the first time enters the regions it is in. Removed
+     * entities leave their regions. Block listeners are only told about moves
+     * within their own world.</p>
+     *
+     * @param entity The entity to report
+     */
+    public static void update(final net.minecraft.entity.Entity entity) {
+        final EntityBridge bridge = (EntityBridge) entity;
+        final @Nullable MovementRegionIndex previous = bridge.bridge$getLastMovementRegions();
+        final @Nullable MovementRegionIndex current = entity.removed || !(entity.level instanceof ServerWorldBridge) ? null
+                : ((ServerWorldBridge) entity.level).bridge$getMovementRegions();
+        if (previous == null && (current == null || current.isEmpty())) {
+            // Nothing was tracked and nothing needs to be, the common case
+            return;
+        }
+        if (previous == current && current.isEmpty()) {
+            bridge.bridge$setLastMovementRegionPosition(null, 0L);
+            return;
+        }
+
+        final int x = MathHelper.floor(entity.getX());
+        final int y = MathHelper.floor(entity.getY());
+        final int z = MathHelper.floor(entity.getZ());
+        final long block = BlockPos.asLong(x, y, z);
+        if (previous == current) {
+            final long previousBlock = bridge.bridge$getLastMovementRegionBlock();
+            if (previousBlock != block) {
+                current.onMove((Entity) entity, BlockPos.getX(previousBlock), BlockPos.getY(previousBlock), BlockPos.getZ(previousBlock), x, y, z);
+            }
+        } else {
+            if (previous != null) {
+                final long previousBlock = bridge.bridge$getLastMovementRegionBlock();
+                previous.notifyRegionsAt((Entity) entity, BlockPos.getX(previousBlock), BlockPos.getY(previousBlock), BlockPos.getZ(previousBlock),
+                        false);
+            }
+            if (current != null) {
+                current.notifyRegionsAt((Entity) entity, x, y, z, true);
+            }
+        }
+        bridge.bridge$setLastMovementRegionPosition(current == null || current.isEmpty() ? null : current, block);
+    }
+
+    private void onMove(final Entity entity, final int fromBlockX, final int fromBlockY, final int fromBlockZ, final int toBlockX,
+            final int toBlockY, final int toBlockZ) {
+        if (!this.blockListeners.isEmpty()) {
+            final Vector3i from = new Vector3i(fromBlockX, fromBlockY, fromBlockZ);
+            final Vector3i to = new Vector3i(toBlockX, toBlockY, toBlockZ);
+            for (final BlockMovementListener listener : this.blockListeners) {
+                listener.onBlockChange(entity, from, to);
+            }
+        }
+
+        if (this.regionsByChunk.isEmpty()) {
+            return;
+        }
+        final int fromChunkX = fromBlockX >> 4;
+        final int fromChunkZ = fromBlockZ >> 4;
+        final int toChunkX = toBlockX >> 4;
+        final int toChunkZ = toBlockZ >> 4;
+        for (final MovementRegion region : this.regionsByChunk.get(ChunkPos.asLong(fromChunkX, fromChunkZ))) {
+            region.notifyCrossing(entity, fromBlockX, fromBlockY, fromBlockZ, toBlockX, toBlockY, toBlockZ);
+        }
+        if (fromChunkX == toChunkX && fromChunkZ == toChunkZ) {
+            return;
+        }
+        for (final MovementRegion region : this.regionsByChunk.get(ChunkPos.asLong(toChunkX, toChunkZ))) {
+            // Regions spanning both chunks were already checked above
+            if (!region.coversChunk(fromChunkX, fromChunkZ)) {
+                region.notifyCrossing(entity, fromBlockX, fromBlockY, fromBlockZ, toBlockX, toBlockY, toBlockZ);
+            }
+        }
+    }
+
+    private void notifyRegionsAt(final Entity entity, final int blockX, final int blockY, final int blockZ, final boolean entered) {
+        for (final MovementRegion region : this.regionsByChunk.get(ChunkPos.asLong(blockX >> 4, blockZ >> 4))) {
+            region.notifyIfContains(entity, blockX, blockY, blockZ, entered);
+        }
+    }
+}
@@ -49,6 +49,10 @@
     private final int maxId;
     private final Registry<R> registry;
     private final RegistryType<R> registryType;
+    /**
+     * Values resolved by id, filled lazily as the palette is read.
+     */
+    private final Optional<?>[] resolved;
 
     public ImmutableBimapPalette(
         final PaletteType<T, R> paletteType,
@@ -70,6 +74,7 @@ public ImmutableBimapPalette(
             }
         }
         this.maxId = maxId;
+        this.resolved = new Optional<?>[maxId + 1];
     }
 
     @Override
@@ -97,6 +102,32 @@ public Optional<PaletteReference<T, R>> get(final int id) {
         return Optional.ofNullable(this.ids.get(id));
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        if (id < 0 || id >= this.resolved.length) {
+            return Optional.empty();
+        }
+        final Optional<?> cached = this.resolved[id];
+        if (cached != null) {
+            return (Optional<T>) cached;
+        }
+        final Optional<T> value = this.get(id)
+            .flatMap(ref -> {
+                final Optional<T> byRegistry = this.paletteType.getResolver().apply(ref.value(), this.registry);
+                if (!byRegistry.isPresent()) {
+                    return Objects.requireNonNull(holder,"RegistryHolder cannot be null")
+                        .findRegistry(ref.registry())
+                        .flatMap(reg -> this.paletteType.getResolver().apply(ref.value(), reg));
+                }
+                return byRegistry;
+            });
+        if (value.isPresent()) {
+            this.resolved[id] = value;
+        }
+        return value;
+    }
+
     @Override
     public Stream<T> stream() {
         return this.idsr.keySet().stream()
@@ -26,6 +26,10 @@
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -35,6 +39,7 @@
 import org.spongepowered.api.world.schematic.PaletteType;
 
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Map;
 import java.util.Objects;
@@ -45,39 +50,39 @@
 public class MutableBimapPalette<T, R> implements Palette.Mutable<T, R> {
 
     private static final int DEFAULT_ALLOCATION_SIZE = 64;
+    private static final int NO_ID = -1;
 
-    private final BiMap<Integer, PaletteReference<T, R>> ids;
-    private final BiMap<PaletteReference<T, R>, Integer> idsr;
+    private final Int2ObjectMap<PaletteReference<T, R>> ids;
+    private final Object2IntMap<PaletteReference<T, R>> idsr;
     private final BitSet allocation = new BitSet(MutableBimapPalette.DEFAULT_ALLOCATION_SIZE);
     private final PaletteType<T, R> paletteType;
     private final Registry<R> registry;
     private final RegistryType<R> registryType;
     private int maxId = 0;
+    /**
+     * Values resolved by id, so that reading a volume does not resolve the
+     * same reference over and over again.
+     */
+    private Optional<?>[] resolved = new Optional<?>[MutableBimapPalette.DEFAULT_ALLOCATION_SIZE];
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType) {
-        this.ids = HashBiMap.create();
-        this.idsr = this.ids.inverse();
-        this.paletteType = paletteType;
-        this.registry = registry;
-        this.registryType = registryType;
+        this(paletteType, registry, registryType, MutableBimapPalette.DEFAULT_ALLOCATION_SIZE);
     }
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
         final BiMap<PaletteReference<T, R>, Integer> reference
     ) {
-        this.ids = HashBiMap.create(reference.size());
-        this.idsr = this.ids.inverse();
-        this.paletteType = paletteType;
-        this.registry = registry;
-        this.registryType = registryType;
-        reference.forEach((key, id) -> this.getOrAssignInternal(key));
+        this(paletteType, registry, registryType, reference.size());
+        // keep the existing ids, data referring to them stays valid
+        reference.forEach((key, id) -> this.assignInternal(key, id));
     }
 
     public MutableBimapPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
         final int expectedSize
     ) {
-        this.ids = HashBiMap.create(expectedSize);
-        this.idsr = this.ids.inverse();
+        this.ids = new Int2ObjectOpenHashMap<>(expectedSize);
+        this.idsr = new Object2IntOpenHashMap<>(expectedSize);
+        this.idsr.defaultReturnValue(MutableBimapPalette.NO_ID);
         this.paletteType = paletteType;
         this.registry = registry;
         this.registryType = registryType;
@@ -100,23 +105,33 @@ public OptionalInt get(final T state) {
             this.paletteType,
             this.registry
         );
-        final Integer value = this.idsr.get(ref);
-        if (value == null) {
+        final int value = this.idsr.getInt(ref);
+        if (value == MutableBimapPalette.NO_ID) {
             return OptionalInt.empty();
         }
         return OptionalInt.of(value);
     }
 
     private int getOrAssignInternal(final PaletteReference<T, R> ref) {
-        final Integer id = this.idsr.get(ref);
-        if (id == null) {
-            final int next = this.allocation.nextClearBit(0);
-            if (this.maxId < next) {
-                this.maxId = next;
-            }
-            this.allocation.set(next);
-            this.ids.put(next, ref);
-            return next;
+        final int id = this.idsr.getInt(ref);
+        if (id == MutableBimapPalette.NO_ID) {
+            return this.assignInternal(ref, this.allocation.nextClearBit(0));
+        }
+        return id;
+    }
+
+    private int assignInternal(final PaletteReference<T, R> ref, final int id) {
+        if (this.maxId < id) {
+            this.maxId = id;
+        }
+        this.allocation.set(id);
+        final PaletteReference<T, R> previous = this.ids.put(id, ref);
+        if (previous != null) {
+            this.idsr.removeInt(previous);
+        }
+        this.idsr.put(ref, id);
+        if (id < this.resolved.length) {
+            this.resolved[id] = null;
         }
         return id;
     }
@@ -136,9 +151,16 @@ public Optional<PaletteReference<T, R>> get(final int id) {
         return Optional.ofNullable(this.ids.get(id));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Optional<T> get(final int id, final RegistryHolder holder) {
-        return this.get(id)
+        if (id >= 0 && id < this.resolved.length) {
+            final Optional<?> cached = this.resolved[id];
+            if (cached != null) {
+                return (Optional<T>) cached;
+            }
+        }
+        final Optional<T> value = this.get(id)
             .flatMap(ref -> {
                 final Optional<T> byRegistry = this.paletteType.getResolver().apply(ref.value(), this.registry);
                 if (!byRegistry.isPresent()) {
@@ -148,20 +170,30 @@ public Optional<T> get(final int id, final RegistryHolder holder) {
                 }
                 return byRegistry;
             });
+        if (value.isPresent() && id >= 0) {
+            if (id >= this.resolved.length) {
+                this.resolved = Arrays.copyOf(this.resolved, Math.max(id + 1, this.resolved.length * 2));
+            }
+            this.resolved[id] = value;
+        }
+        return value;
     }
 
     public int assign(final T state, final int id) {
-        if (this.maxId < id) {
-            this.maxId = id;
-        }
-        this.allocation.set(id);
         final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(
             state,
             this.paletteType,
             this.registry
         );
-        this.ids.put(id, ref);
-        return id;
+        final int existing = this.idsr.removeInt(ref);
+        if (existing != MutableBimapPalette.NO_ID && existing != id) {
+            this.ids.remove(existing);
+            this.allocation.clear(existing);
+            if (existing < this.resolved.length) {
+                this.resolved[existing] = null;
+            }
+        }
+        return this.assignInternal(ref, id);
     }
 
     @NonNull
@@ -176,21 +208,29 @@ static <T, R> PaletteReference<T, R> createPaletteReference(
 
     @Override
     public boolean remove(final T state) {
-        final Integer id = this.idsr.get(state);
-        if (id == null) {
+        final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(
+            state,
+            this.paletteType,
+            this.registry
+        );
+        final int id = this.idsr.removeInt(ref);
+        if (id == MutableBimapPalette.NO_ID) {
             return false;
         }
         this.allocation.clear(id);
         if (id == this.maxId) {
-            this.maxId = this.allocation.previousSetBit(this.maxId);
+            this.maxId = Math.max(0, this.allocation.previousSetBit(this.maxId));
         }
         this.ids.remove(id);
+        if (id < this.resolved.length) {
+            this.resolved[id] = null;
+        }
         return true;
     }
 
     @Override
     public Stream<T> stream() {
-        final HashBiMap<PaletteReference<T, R>, Integer> copy = HashBiMap.create(this.idsr);
+        final Map<PaletteReference<T, R>, Integer> copy = new Object2IntOpenHashMap<>(this.idsr);
         return copy.keySet().stream()
             .map(ref -> this.paletteType.getResolver().apply(ref.value(), this.registry))
             .filter(Optional::isPresent)
@@ -199,7 +239,7 @@ public Stream<T> stream() {
 
     @Override
     public Stream<Map.Entry<T, Integer>> streamWithIds() {
-        final HashBiMap<Integer, PaletteReference<T, R>> copy = HashBiMap.create(this.ids);
+        final Map<Integer, PaletteReference<T, R>> copy = new Int2ObjectOpenHashMap<>(this.ids);
         return copy.entrySet().stream()
             .map(entry -> {
                 final Optional<T> apply = this.paletteType.getResolver().apply(entry.getValue()
@@ -212,7 +252,7 @@ public Stream<Map.Entry<T, Integer>> streamWithIds() {
 
     @Override
     public Immutable<T, R> asImmutable() {
-        return new ImmutableBimapPalette<>(this.paletteType, this.registry, this.registryType, this.ids);
+        return new ImmutableBimapPalette<>(this.paletteType, this.registry, this.registryType, HashBiMap.create(this.ids));
     }
 
     @Override
@@ -72,6 +72,13 @@ public final class SpongeLocatableBlock implements LocatableBlock {
         this.blockState = world.getBlock(x, y, z);
     }
 
+    public SpongeLocatableBlock(final ServerWorld world, final int x, final int y, final int z, final BlockState blockState) {
+        this.world = world.getKey();
+        this.worldRef = new WeakReference<>(world);
+        this.position = new Vector3i(x, y, z);
+        this.blockState = blockState;
+    }
+
     @Override
     public BlockState getBlockState() {
         return this.blockState;
@@ -0,0 +1,295 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Copies, moves and deletes world directories off the server thread.
+ *
+ * <p>All of the work is done on a small pool of I/O threads. Directory trees
+ * are walked once, after which every file is copied or deleted as its own
+ * task, so large worlds are handled one region file per thread instead of
+ * one file at a time. None of the returned futures are completed on the
+ * server thread, callers that need to touch the game afterwards must hop
+ * back themselves.</p>
+ */
+public final class WorldFileOperations {
+
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+        EXECUTOR = new ThreadPoolExecutor(WorldFileOperations.THREADS, WorldFileOperations.THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sponge - World IO Thread #%d").build());
+        WorldFileOperations.EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the given action on the world I/O threads.
+     *
+     * @param action The action
+     * @return A future completed once the action has run
+     */
+    public static CompletableFuture<Void> run(final IORunnable action) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                action.run();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldFileOperations.EXECUTOR);
+    }
+
+    /**
+     * Copies the directory tree at {@code source} to {@code target}.
+     *
+     * @param source The directory to copy
+     * @param target The directory to copy to
+     * @param skipDirectory Whether a directory, and everything within, should not be copied
+     * @param skipFile Whether a file should not be copied
+     * @param progress Notified with the number of bytes copied so far
+     * @return A future completed once every file has been copied
+     */
+    public static CompletableFuture<Void> copyDirectory(final Path source, final Path target, final Predicate<Path> skipDirectory,
+            final Predicate<Path> skipFile, @Nullable final ProgressListener progress) {
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            try {
+                Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (!dir.equals(source) && skipDirectory.test(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        Files.createDirectories(target.resolve(source.relativize(dir)));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (!skipFile.test(file)) {
+                            files.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return files;
+        }, WorldFileOperations.EXECUTOR).thenCompose(files -> {
+            final long[] sizes = new long[files.size()];
+            long total = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                try {
+                    sizes[i] = Files.size(files.get(i));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                total += sizes[i];
+            }
+            final long totalBytes = total;
+            final AtomicLong copied = new AtomicLong();
+            final CompletableFuture<?>[] copies = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < copies.length; i++) {
+                final Path file = files.get(i);
+                final long size = sizes[i];
+                copies[i] = WorldFileOperations.run(() -> {
+                    WorldFileOperations.copyFile(file, target.resolve(source.relativize(file)));
+                    if (progress != null) {
+                        progress.onProgress(copied.addAndGet(size), totalBytes);
+                    }
+                });
+            }
+            return CompletableFuture.allOf(copies);
+        });
+    }
+
+    /**
+     * Moves the directory tree at {@code source} to {@code target}, which
+     * must not exist or be an empty directory.
+     *
+     * <p>This is a single rename when both are on the same file store, and
+     * otherwise falls back to copying the tree and deleting the original.</p>
+     *
+     * @param source The directory to move
+     * @param target The directory to move to
+     * @return A future completed once the directory has been moved
+     */
+    public static CompletableFuture<Void> moveDirectory(final Path source, final Path target) {
+        final CompletableFuture<Boolean> renamed = CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.deleteIfExists(target);
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (final AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldFileOperations.EXECUTOR);
+        return renamed.thenCompose(done -> {
+            if (done) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return WorldFileOperations.copyDirectory(source, target, dir -> false, file -> false, null)
+                    .thenCompose(v -> WorldFileOperations.deleteDirectory(source, null));
+        });
+    }
+
+    /**
+     * Deletes the directory tree at {@code directory}, if it exists.
+     *
+     * @param directory The directory to delete
+     * @param progress Notified with the number of files deleted so far
+     * @return A future completed once the directory is gone
+     */
+    public static CompletableFuture<Void> deleteDirectory(final Path directory, @Nullable final ProgressListener progress) {
+        final List<Path> directories = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            if (Files.notExists(directory)) {
+                return files;
+            }
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                        directories.add(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        files.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return files;
+        }, WorldFileOperations.EXECUTOR).thenCompose(files -> {
+            final AtomicLong deleted = new AtomicLong();
+            final CompletableFuture<?>[] deletes = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < deletes.length; i++) {
+                final Path file = files.get(i);
+                deletes[i] = WorldFileOperations.run(() -> {
+                    Files.deleteIfExists(file);
+                    if (progress != null) {
+                        progress.onProgress(deleted.incrementAndGet(), files.size());
+                    }
+                });
+            }
+            return CompletableFuture.allOf(deletes);
+        }).thenCompose(v -> WorldFileOperations.run(() -> {
+            // Directories were visited parents first, so delete them children first
+            for (int i = directories.size() - 1; i >= 0; i--) {
+                Files.deleteIfExists(directories.get(i));
+            }
+        }));
+    }
+
+    /**
+     * Copies a single file through {@link FileChannel#transferTo}, which
+     * lets the operating system copy within the kernel and, on file systems
+     * that support it, share the underlying blocks instead of duplicating
+     * them.
+     */
+    private static void copyFile(final Path source, final Path target) throws IOException {
+        try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    throw new IOException(String.format("Failed to copy '%s', it was truncated while being copied", source));
+                }
+                position += transferred;
+            }
+        }
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+    }
+
+    /**
+     * Creates a listener that logs every quarter of the way through an
+     * operation.
+     *
+     * @param description What is being done, such as "Copying world 'minecraft:overworld'"
+     * @return The listener
+     */
+    public static ProgressListener logging(final String description) {
+        final AtomicInteger lastQuarter = new AtomicInteger();
+        return (done, total) -> {
+            final int quarter = total == 0 ? 4 : (int) (done * 4 / total);
+            final int last = lastQuarter.get();
+            if (quarter > last && lastQuarter.compareAndSet(last, quarter)) {
+                SpongeCommon.getLogger().info("{}: {}% complete", description, quarter * 25);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface IORunnable {
+
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void onProgress(long done, long total);
+    }
+
+    private WorldFileOperations() {
+    }
+}
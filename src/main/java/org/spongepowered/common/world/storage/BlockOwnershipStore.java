@@ -0,0 +1,445 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.LongArrayNBT;
+import net.minecraft.util.math.BlockPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Block creator and notifier tracking for a single chunk.
+ *
+ * <p>Each 16x16x16 section keeps an open addressing table from the block
+ * index within the section to the {@link OwnerIndex owner indices} of its
+ * creator and notifier. Sections only exist once a block within them gains
+ * an owner, and a section switches to plain arrays once it is dense enough
+ * that the table would be larger. Lookups don't allocate.</p>
+ *
+ * <p>The store holds a reference to the owner index of every owned block,
+ * which are all given back through {@link #release()} when the chunk is
+ * unloaded.</p>
+ */
+public final class BlockOwnershipStore {
+
+    private static final String SECTION_Y = "Y";
+    private static final String SECTION_ENTRIES = "Entries";
+
+    private final OwnerIndex ownerIndex;
+    private final @Nullable Section[] sections;
+    // Owner index to the number of blocks in this store referring to it
+    private final Int2IntOpenHashMap references = new Int2IntOpenHashMap();
+
+    /**
+     * Creates a store for a chunk.
+     *
+     * @param ownerIndex The owner index of the chunk's world
+     * @param sectionCount The number of sections of the chunk
+     */
+    public BlockOwnershipStore(final OwnerIndex ownerIndex, final int sectionCount) {
+        this.ownerIndex = ownerIndex;
+        this.sections = new Section[sectionCount];
+    }
+
+    public @Nullable UUID getCreator(final BlockPos pos) {
+        final @Nullable Section section = this.getSection(pos);
+        return section == null ? null : this.ownerIndex.getOwner(section.getCreator(BlockOwnershipStore.blockIndex(pos)));
+    }
+
+    public @Nullable UUID getNotifier(final BlockPos pos) {
+        final @Nullable Section section = this.getSection(pos);
+        return section == null ? null : this.ownerIndex.getOwner(section.getNotifier(BlockOwnershipStore.blockIndex(pos)));
+    }
+
+    public void setCreator(final BlockPos pos, final @Nullable UUID creator) {
+        final @Nullable Section section = this.getOrCreateSection(pos, creator != null);
+        if (section != null) {
+            final int key = BlockOwnershipStore.blockIndex(pos);
+            final int index = this.acquire(creator);
+            this.release(section.getCreator(key));
+            section.setCreator(key, index);
+        }
+    }
+
+    public void setNotifier(final BlockPos pos, final @Nullable UUID notifier) {
+        final @Nullable Section section = this.getOrCreateSection(pos, notifier != null);
+        if (section != null) {
+            final int key = BlockOwnershipStore.blockIndex(pos);
+            final int index = this.acquire(notifier);
+            this.release(section.getNotifier(key));
+            section.setNotifier(key, index);
+        }
+    }
+
+    private int acquire(final @Nullable UUID owner) {
+        if (owner == null) {
+            return OwnerIndex.NONE;
+        }
+        final int index = this.ownerIndex.acquire(owner);
+        this.references.addTo(index, 1);
+        return index;
+    }
+
+    private void release(final int index) {
+        if (index == OwnerIndex.NONE) {
+            return;
+        }
+        if (this.references.addTo(index, -1) == 1) {
+            this.references.remove(index);
+        }
+        this.ownerIndex.release(index, 1);
+    }
+
+    /**
+     * Gives back every owner index held by this store and forgets all owners.
+     * Called once the chunk has been saved for the last time before it
+     * unloads, as freed indices may be handed to other owners.
+     */
+    public void release() {
+        for (final Int2IntMap.Entry entry : this.references.int2IntEntrySet()) {
+            this.ownerIndex.release(entry.getIntKey(), entry.getIntValue());
+        }
+        this.references.clear();
+        Arrays.fill(this.sections, null);
+    }
+
+    public boolean isEmpty() {
+        for (final @Nullable Section section : this.sections) {
+            if (section != null && section.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private @Nullable Section getSection(final BlockPos pos) {
+        final int y = pos.getY() >> 4;
+        return y < 0 || y >= this.sections.length ? null : this.sections[y];
+    }
+
+    private @Nullable Section getOrCreateSection(final BlockPos pos, final boolean create) {
+        final int y = pos.getY() >> 4;
+        if (y < 0 || y >= this.sections.length) {
+            return null;
+        }
+        @Nullable Section section = this.sections[y];
+        if (section == null && create) {
+            section = new Section();
+            this.sections[y] = section;
+        }
+        return section;
+    }
+
+    private static int blockIndex(final BlockPos pos) {
+        return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+    }
+
+    /**
+     * Writes the owners of this chunk to the given compound. The world wide
+     * owner indices are replaced by indices into a table of unique ids kept
+     * with the chunk, as the former are not persisted.
+     *
+     * @param compound The compound to write to
+     */
+    public void write(final CompoundNBT compound) {
+        final Int2IntMap localIndices = new Int2IntOpenHashMap();
+        localIndices.defaultReturnValue(OwnerIndex.NONE);
+        final ListNBT owners = new ListNBT();
+        final ListNBT sections = new ListNBT();
+        for (int y = 0; y < this.sections.length; y++) {
+            final @Nullable Section section = this.sections[y];
+            if (section == null || section.size == 0) {
+                continue;
+            }
+            final long[] entries = new long[section.size];
+            int i = 0;
+            for (int key = 0; key < Section.BLOCKS; key++) {
+                final int creator = section.getCreator(key);
+                final int notifier = section.getNotifier(key);
+                if (creator == OwnerIndex.NONE && notifier == OwnerIndex.NONE) {
+                    continue;
+                }
+                entries[i++] = BlockOwnershipStore.encodeEntry(key, this.toLocalIndex(creator, localIndices, owners),
+                    this.toLocalIndex(notifier, localIndices, owners));
+            }
+            final CompoundNBT sectionCompound = new CompoundNBT();
+            sectionCompound.putByte(BlockOwnershipStore.SECTION_Y, (byte) y);
+            sectionCompound.put(BlockOwnershipStore.SECTION_ENTRIES, new LongArrayNBT(Arrays.copyOf(entries, i)));
+            sections.add(sectionCompound);
+        }
+        if (sections.isEmpty()) {
+            return;
+        }
+        compound.put(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, owners);
+        compound.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, sections);
+    }
+
+    private int toLocalIndex(final int index, final Int2IntMap localIndices, final ListNBT owners) {
+        if (index == OwnerIndex.NONE) {
+            return OwnerIndex.NONE;
+        }
+        int localIndex = localIndices.get(index);
+        if (localIndex == OwnerIndex.NONE) {
+            final UUID owner = this.ownerIndex.getOwner(index);
+            if (owner == null) {
+                return OwnerIndex.NONE;
+            }
+            final CompoundNBT ownerCompound = new CompoundNBT();
+            ownerCompound.putLong(Constants.UUID_MOST, owner.getMostSignificantBits());
+            ownerCompound.putLong(Constants.UUID_LEAST, owner.getLeastSignificantBits());
+            localIndex = owners.size();
+            owners.add(ownerCompound);
+            localIndices.put(index, localIndex);
+        }
+        return localIndex;
+    }
+
+    /**
+     * Reads the owners written by {@link #write(CompoundNBT)}.
+     *
+     * @param compound The compound to read from
+     */
+    public void read(final CompoundNBT compound) {
+        if (!compound.contains(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_LIST)) {
+            return;
+        }
+        final ListNBT owners = compound.getList(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, Constants.NBT.TAG_COMPOUND);
+        final UUID[] uniqueIds = new UUID[owners.size()];
+        for (int i = 0; i < uniqueIds.length; i++) {
+            final CompoundNBT ownerCompound = owners.getCompound(i);
+            uniqueIds[i] = new UUID(ownerCompound.getLong(Constants.UUID_MOST), ownerCompound.getLong(Constants.UUID_LEAST));
+        }
+        final ListNBT sections = compound.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < sections.size(); i++) {
+            final CompoundNBT sectionCompound = sections.getCompound(i);
+            final int y = sectionCompound.getByte(BlockOwnershipStore.SECTION_Y);
+            if (y < 0 || y >= this.sections.length || this.sections[y] != null) {
+                continue;
+            }
+            final Section section = new Section();
+            for (final long entry : sectionCompound.getLongArray(BlockOwnershipStore.SECTION_ENTRIES)) {
+                final int key = BlockOwnershipStore.entryKey(entry);
+                final int creator = BlockOwnershipStore.entryCreator(entry);
+                final int notifier = BlockOwnershipStore.entryNotifier(entry);
+                if (creator >= 0 && creator < uniqueIds.length && section.getCreator(key) == OwnerIndex.NONE) {
+                    section.setCreator(key, this.acquire(uniqueIds[creator]));
+                }
+                if (notifier >= 0 && notifier < uniqueIds.length && section.getNotifier(key) == OwnerIndex.NONE) {
+                    section.setNotifier(key, this.acquire(uniqueIds[notifier]));
+                }
+            }
+            this.sections[y] = section;
+        }
+    }
+
+    /**
+     * Packs the owners of a block into a saved entry. The block index takes
+     * the top 16 bits, followed by 24 bits each for the local creator and
+     * notifier indices, stored plus one so that no owner is zero.
+     */
+    static long encodeEntry(final int key, final int creator, final int notifier) {
+        return (long) key << 48 | (long) (creator + 1) << 24 | notifier + 1;
+    }
+
+    static int entryKey(final long entry) {
+        return (int) (entry >>> 48) & (Section.BLOCKS - 1);
+    }
+
+    static int entryCreator(final long entry) {
+        return (int) (entry >>> 24 & 0xFFFFFF) - 1;
+    }
+
+    static int entryNotifier(final long entry) {
+        return (int) (entry & 0xFFFFFF) - 1;
+    }
+
+    /**
+     * Owners of the blocks of a single section. Starts out as a small linear
+     * probing table keyed by block index, and turns into two arrays indexed
+     * directly by block index once the table would outgrow them.
+     */
+    static final class Section {
+
+        static final int BLOCKS = 16 * 16 * 16;
+        private static final short EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 8;
+
+        // null once the section is dense
+        private short @Nullable [] keys;
+        private int[] creators;
+        private int[] notifiers;
+        int size;
+
+        Section() {
+            this.keys = new short[Section.INITIAL_CAPACITY];
+            Arrays.fill(this.keys, Section.EMPTY);
+            this.creators = new int[Section.INITIAL_CAPACITY];
+            this.notifiers = new int[Section.INITIAL_CAPACITY];
+        }
+
+        int getCreator(final int key) {
+            final int slot = this.find(key);
+            return slot < 0 ? OwnerIndex.NONE : this.creators[slot];
+        }
+
+        int getNotifier(final int key) {
+            final int slot = this.find(key);
+            return slot < 0 ? OwnerIndex.NONE : this.notifiers[slot];
+        }
+
+        void setCreator(final int key, final int creator) {
+            final int slot = this.slotFor(key, creator != OwnerIndex.NONE);
+            if (slot >= 0) {
+                this.creators[slot] = creator;
+                this.removeIfUnowned(slot);
+            }
+        }
+
+        void setNotifier(final int key, final int notifier) {
+            final int slot = this.slotFor(key, notifier != OwnerIndex.NONE);
+            if (slot >= 0) {
+                this.notifiers[slot] = notifier;
+                this.removeIfUnowned(slot);
+            }
+        }
+
+        /**
+         * Gets the slot holding the given key, or {@code -(insertion point + 1)}
+         * if it isn't present. Dense sections map every key to its own slot,
+         * with unowned blocks holding {@link OwnerIndex#NONE} for both owners.
+         */
+        private int find(final int key) {
+            final short @Nullable [] keys = this.keys;
+            if (keys == null) {
+                return this.creators[key] == OwnerIndex.NONE && this.notifiers[key] == OwnerIndex.NONE ? -(key + 1) : key;
+            }
+            final int mask = keys.length - 1;
+            int slot = HashCommon.mix(key) & mask;
+            short current;
+            while ((current = keys[slot]) != Section.EMPTY) {
+                if (current == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -(slot + 1);
+        }
+
+        private int slotFor(final int key, final boolean insert) {
+            int slot = this.find(key);
+            if (slot >= 0 || !insert) {
+                return slot;
+            }
+            if (this.keys != null && (this.size + 1) * 4 > this.keys.length * 3) {
+                this.grow();
+                slot = this.find(key);
+            }
+            slot = -(slot + 1);
+            if (this.keys != null) {
+                this.keys[slot] = (short) key;
+            }
+            this.creators[slot] = OwnerIndex.NONE;
+            this.notifiers[slot] = OwnerIndex.NONE;
+            this.size++;
+            return slot;
+        }
+
+        private void removeIfUnowned(final int slot) {
+            if (this.creators[slot] != OwnerIndex.NONE || this.notifiers[slot] != OwnerIndex.NONE) {
+                return;
+            }
+            this.size--;
+            final short @Nullable [] keys = this.keys;
+            if (keys == null) {
+                return;
+            }
+            // Backward shift deletion, keeps probe sequences intact without tombstones
+            final int mask = keys.length - 1;
+            int last = slot;
+            int next = (slot + 1) & mask;
+            short current;
+            while ((current = keys[next]) != Section.EMPTY) {
+                final int home = HashCommon.mix(current) & mask;
+                if (last <= next ? (home <= last || home > next) : (home <= last && home > next)) {
+                    keys[last] = current;
+                    this.creators[last] = this.creators[next];
+                    this.notifiers[last] = this.notifiers[next];
+                    last = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[last] = Section.EMPTY;
+        }
+
+        private void grow() {
+            final short[] oldKeys = this.keys;
+            final int[] oldCreators = this.creators;
+            final int[] oldNotifiers = this.notifiers;
+            final int capacity = oldKeys.length << 1;
+            if (capacity * 2 >= Section.BLOCKS) {
+                // Two int arrays indexed by block are now smaller than the table would be
+                this.keys = null;
+                this.creators = new int[Section.BLOCKS];
+                this.notifiers = new int[Section.BLOCKS];
+                Arrays.fill(this.creators, OwnerIndex.NONE);
+                Arrays.fill(this.notifiers, OwnerIndex.NONE);
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != Section.EMPTY) {
+                        this.creators[oldKeys[i]] = oldCreators[i];
+                        this.notifiers[oldKeys[i]] = oldNotifiers[i];
+                    }
+                }
+                return;
+            }
+            this.keys = new short[capacity];
+            Arrays.fill(this.keys, Section.EMPTY);
+            this.creators = new int[capacity];
+            this.notifiers = new int[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                final short key = oldKeys[i];
+                if (key == Section.EMPTY) {
+                    continue;
+                }
+                int slot = HashCommon.mix(key) & mask;
+                while (this.keys[slot] != Section.EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = key;
+                this.creators[slot] = oldCreators[i];
+                this.notifiers[slot] = oldNotifiers[i];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Assigns each block creator and notifier of a world a dense index, so the
+ * per chunk {@link BlockOwnershipStore ownership stores} only keep ints and
+ * every chunk shares a single {@link UUID} instance per owner.
+ *
+ * <p>Indices only live as long as blocks of loaded chunks refer to them. The
+ * stores acquire an index for every block they assign an owner to and release
+ * it when the block loses that owner or its chunk unloads, after which the
+ * index is reused. The stores translate indices back to unique ids when a
+ * chunk is saved.</p>
+ */
+public final class OwnerIndex {
+
+    public static final int NONE = -1;
+
+    private final Object2IntMap<UUID> indices = new Object2IntOpenHashMap<>();
+    // Read without locking from chunk loading threads, replaced whenever it grows
+    private volatile UUID[] owners = new UUID[16];
+    private int[] references = new int[16];
+    private final IntArrayList freeIndices = new IntArrayList();
+    private int size;
+
+    public OwnerIndex() {
+        this.indices.defaultReturnValue(OwnerIndex.NONE);
+    }
+
+    /**
+     * Gets the index of the given owner, assigning one if it has none, and
+     * adds a reference to it.
+     *
+     * @param owner The owner
+     * @return The index
+     */
+    public synchronized int acquire(final UUID owner) {
+        int index = this.indices.getInt(owner);
+        if (index == OwnerIndex.NONE) {
+            UUID[] owners = this.owners;
+            if (!this.freeIndices.isEmpty()) {
+                index = this.freeIndices.popInt();
+            } else {
+                index = this.size++;
+                if (index == owners.length) {
+                    owners = Arrays.copyOf(owners, owners.length << 1);
+                    this.references = Arrays.copyOf(this.references, owners.length);
+                }
+            }
+            owners[index] = owner;
+            this.owners = owners;
+            this.indices.put(owner, index);
+        }
+        this.references[index]++;
+        return index;
+    }
+
+    /**
+     * Removes references to an index, freeing it once none are left.
+     *
+     * @param index The index
+     * @param count The number of references to remove
+     */
+    public synchronized void release(final int index, final int count) {
+        if (index < 0 || index >= this.size || this.references[index] == 0) {
+            return;
+        }
+        this.references[index] = Math.max(this.references[index] - count, 0);
+        if (this.references[index] == 0) {
+            this.indices.removeInt(this.owners[index]);
+            this.owners[index] = null;
+            this.freeIndices.push(index);
+        }
+    }
+
+    /**
+     * Gets the number of owners that currently have an index.
+     *
+     * @return The number of owners
+     */
+    public synchronized int getOwnerCount() {
+        return this.indices.size();
+    }
+
+    public @Nullable UUID getOwner(final int index) {
+        final UUID[] owners = this.owners;
+        return index < 0 || index >= owners.length ? null : owners[index];
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.IChunk;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link Spliterator} over the positions of a single chunk that lie within
+ * a bounding box. Sections are visited from the bottom up, and within each
+ * section positions are visited column by column in z, x, y order, skipping
+ * missing sections entirely.
+ *
+ * <p>Every element is handed out through the same {@link Map.Entry}, whose
+ * key is a single {@link BlockPos.Mutable} moved to each position in turn.
+ * Consumers that keep either past the call to the action must copy them,
+ * usually through {@link BlockPos#immutable()}.</p>
+ *
+ * <p>The element of each position is read through a reader created once per
+ * section, so readers can resolve the section's palette and storage up front
+ * rather than on every position.</p>
+ *
+ * @param <T> The element type read from each section
+ */
+final class ChunkSectionSpliterator<T> implements Spliterator<Map.Entry<BlockPos, T>> {
+
+    private final IChunk chunk;
+    private final ChunkSection[] sections;
+    private final BiFunction<IChunk, ChunkSection, Function<BlockPos, T>> sectionReader;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+    private final ReusedEntry<T> entry = new ReusedEntry<>(this.pos);
+
+    private int sectionIndex;
+    private final int sectionFence;
+    private @Nullable Function<BlockPos, T> reader;
+    private int x;
+    private int y;
+    private int z;
+    private int sectionMaxY;
+
+    ChunkSectionSpliterator(final IChunk chunk, final BiFunction<IChunk, ChunkSection, Function<BlockPos, T>> sectionReader,
+        final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ
+    ) {
+        this.chunk = chunk;
+        this.sections = chunk.getSections();
+        this.sectionReader = sectionReader;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.sectionIndex = Math.max(minY >> 4, 0);
+        this.sectionFence = Math.min((maxY >> 4) + 1, this.sections.length);
+    }
+
+    /**
+     * Moves to the next position, entering the next present section when the
+     * current one is exhausted.
+     *
+     * @return Whether there was a next position
+     */
+    private boolean advance() {
+        if (this.reader != null) {
+            if (++this.y <= this.sectionMaxY) {
+                return true;
+            }
+            this.y = Math.max(this.minY, this.sections[this.sectionIndex].bottomBlockY());
+            if (++this.x <= this.maxX) {
+                return true;
+            }
+            this.x = this.minX;
+            if (++this.z <= this.maxZ) {
+                return true;
+            }
+            this.reader = null;
+            this.sectionIndex++;
+        }
+        while (this.sectionIndex < this.sectionFence) {
+            final @Nullable ChunkSection section = this.sections[this.sectionIndex];
+            if (section == null || this.minX > this.maxX || this.minZ > this.maxZ) {
+                this.sectionIndex++;
+                continue;
+            }
+            final int bottom = section.bottomBlockY();
+            this.reader = this.sectionReader.apply(this.chunk, section);
+            this.x = this.minX;
+            this.y = Math.max(this.minY, bottom);
+            this.z = this.minZ;
+            this.sectionMaxY = Math.min(this.maxY, bottom + 15);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Map.Entry<BlockPos, T>> action) {
+        if (!this.advance()) {
+            return false;
+        }
+        this.pos.set(this.x, this.y, this.z);
+        this.entry.value = Objects.requireNonNull(this.reader.apply(this.pos), "Element cannot be null");
+        action.accept(this.entry);
+        return true;
+    }
+
+    @Override
+    public @Nullable Spliterator<Map.Entry<BlockPos, T>> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long columns = (long) Math.max(this.maxX - this.minX + 1, 0) * Math.max(this.maxZ - this.minZ + 1, 0);
+        final long layers = Math.max(Math.min(this.maxY, (this.sections.length << 4) - 1) - Math.max(this.minY, 0) + 1, 0);
+        return columns * layers;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    private static final class ReusedEntry<T> implements Map.Entry<BlockPos, T> {
+
+        private final BlockPos key;
+        @Nullable T value;
+
+        ReusedEntry(final BlockPos key) {
+            this.key = key;
+        }
+
+        @Override
+        public BlockPos getKey() {
+            return this.key;
+        }
+
+        @Override
+        public T getValue() {
+            return this.value;
+        }
+
+        @Override
+        public T setValue(final T value) {
+            throw new UnsupportedOperationException("Volume stream entries are read only");
+        }
+
+    }
+
+}
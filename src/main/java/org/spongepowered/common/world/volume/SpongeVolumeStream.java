@@ -37,6 +37,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -66,15 +67,16 @@ public V getVolume() {
     @Override
     public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
         return new SpongeVolumeStream<>(this.stream
-            .filter(element ->
-                predicate.test(
+            .filter(element -> {
+                final Vector3i position = element.getPosition();
+                return predicate.test(
                     this.volumeSupplier.get(),
                     element::getType,
-                    element.getPosition().getX(),
-                    element.getPosition().getY(),
-                    element.getPosition().getZ()
-                )
-            ), this.volumeSupplier);
+                    position.getX(),
+                    position.getY(),
+                    position.getZ()
+                );
+            }), this.volumeSupplier);
     }
 
     @Override
@@ -84,33 +86,37 @@ public VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> pr
 
     @Override
     public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
-        return new SpongeVolumeStream<>(this.stream.map(element ->
-            VolumeElement.of(this.volumeSupplier.get(), mapper.map(
-                this.volumeSupplier.get(),
+        return new SpongeVolumeStream<>(this.stream.map(element -> {
+            final V volume = this.volumeSupplier.get();
+            final Vector3i position = element.getPosition();
+            return VolumeElement.of(volume, mapper.map(
+                volume,
                 element::getType,
-                element.getPosition().getX(),
-                element.getPosition().getY(),
-                element.getPosition().getZ()
-            ), element.getPosition())
-        ), this.volumeSupplier);
+                position.getX(),
+                position.getY(),
+                position.getZ()
+            ), position);
+        }), this.volumeSupplier);
     }
 
     @Override
     public VolumeStream<V, Optional<? extends T>> flatMap(final VolumeFlatMapper<V, T> mapper) {
         return new SpongeVolumeStream<>(
-            this.stream.map(element ->
-                VolumeElement.of(
-                    this.volumeSupplier.get(),
+            this.stream.map(element -> {
+                final V volume = this.volumeSupplier.get();
+                final Vector3i position = element.getPosition();
+                return VolumeElement.of(
+                    volume,
                     mapper.map(
-                        this.volumeSupplier.get(),
+                        volume,
                         element::getType,
-                        element.getPosition().getX(),
-                        element.getPosition().getY(),
-                        element.getPosition().getZ()
+                        position.getX(),
+                        position.getY(),
+                        position.getZ()
                     ),
-                    element.getPosition()
-                )
-            ),
+                    position
+                );
+            }),
             this.volumeSupplier
         );
     }
@@ -132,13 +138,16 @@ public long count() {
     @Override
     public boolean allMatch(final VolumePredicate<V, ? super T> predicate) {
         return this.stream
-            .allMatch(element -> predicate.test(
-                this.getVolume(),
-                element::getType,
-                element.getPosition().getX(),
-                element.getPosition().getY(),
-                element.getPosition().getZ()
-            ));
+            .allMatch(element -> {
+                final Vector3i position = element.getPosition();
+                return predicate.test(
+                    this.getVolume(),
+                    element::getType,
+                    position.getX(),
+                    position.getY(),
+                    position.getZ()
+                );
+            });
     }
 
     @Override
@@ -148,13 +157,16 @@ public boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate)
 
     @Override
     public boolean noneMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.noneMatch(element -> predicate.test(
-            this.getVolume(),
-            element::getType,
-            element.getPosition().getX(),
-            element.getPosition().getY(),
-            element.getPosition().getZ()
-        ));
+        return this.stream.noneMatch(element -> {
+            final Vector3i position = element.getPosition();
+            return predicate.test(
+                this.getVolume(),
+                element::getType,
+                position.getX(),
+                position.getY(),
+                position.getZ()
+            );
+        });
     }
 
     @Override
@@ -164,13 +176,16 @@ public boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate)
 
     @Override
     public boolean anyMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.anyMatch(element -> predicate.test(
-            this.getVolume(),
-            element::getType,
-            element.getPosition().getX(),
-            element.getPosition().getY(),
-            element.getPosition().getZ()
-        ));
+        return this.stream.anyMatch(element -> {
+            final Vector3i position = element.getPosition();
+            return predicate.test(
+                this.getVolume(),
+                element::getType,
+                position.getX(),
+                position.getY(),
+                position.getZ()
+            );
+        });
     }
 
     @Override
@@ -229,13 +244,16 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
-        this.stream.forEach(element -> visitor.consume(
-            element.getVolume(),
-            element.getType(),
-            element.getPosition().getX(),
-            element.getPosition().getY(),
-            element.getPosition().getZ()
-        ));
+        this.stream.forEach(element -> {
+            final Vector3i position = element.getPosition();
+            visitor.consume(
+                element.getVolume(),
+                element.getType(),
+                position.getX(),
+                position.getY(),
+                position.getZ()
+            );
+        });
     }
 
     @Override
@@ -25,9 +25,11 @@
 package org.spongepowered.common.world.volume;
 
 import net.minecraft.block.BlockState;
+import net.minecraft.util.BitArray;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.palette.IPalette;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
@@ -43,13 +45,12 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.accessor.util.palette.PalettedContainerAccessor;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
-import java.util.AbstractMap;
-import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +62,7 @@
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class VolumeStreamUtils {
 
@@ -125,14 +127,15 @@ public static <T> Predicate<T> filterPositions(final Function<T, Vector3i> pos,
     public static Function<IChunk, Stream<Map.Entry<BlockPos, Biome>>> getBiomesForChunkByPos(final IWorldReader reader, final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader), min, max);
+        final TriFunction<IChunk, ChunkSection, BlockPos, Biome> biomeGetter = VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader);
+        return VolumeStreamUtils.getElementByPosition((chunk, section) -> pos -> biomeGetter.apply(chunk, section, pos), min, max);
     }
 
     public static Function<IChunk, Stream<Map.Entry<BlockPos, BlockState>>> getBlockStatesForSections(
         final Vector3i min,
         final Vector3i max
     ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
+        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateReader(), min, max);
     }
 
     public static void validateStreamArgs(final Vector3i min, final Vector3i max, final StreamOptions options) {
@@ -190,70 +193,37 @@ private static QuadFunction<IChunk, ChunkSection, BlockPos, IWorldReader, Biome>
         );
     }
 
-    private static TriFunction<IChunk, ChunkSection, BlockPos, BlockState> chunkSectionBlockStateGetter() {
-        return ((chunk, chunkSection, pos) -> chunkSection.getBlockState(
-            pos.getX() - (chunk.getPos().x << 4),
-            pos.getY() & 15,
-            pos.getZ() - (chunk.getPos().z << 4)));
+    @SuppressWarnings("unchecked")
+    private static BiFunction<IChunk, ChunkSection, Function<BlockPos, BlockState>> chunkSectionBlockStateReader() {
+        return (chunk, chunkSection) -> {
+            // Resolve the palette once per section and read the packed indices directly,
+            // in the same y, z, x layout the container stores them in.
+            final PalettedContainerAccessor<BlockState> states = (PalettedContainerAccessor<BlockState>) chunkSection.getStates();
+            final IPalette<BlockState> palette = states.accessor$palette();
+            final BitArray storage = states.accessor$storage();
+            return pos -> palette.valueFor(storage.get((pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15)));
+        };
     }
 
     private static <T> Function<IChunk, Stream<Map.Entry<BlockPos, T>>> getElementByPosition(
-        final TriFunction<IChunk, ChunkSection, BlockPos, T> elementAccessor, final Vector3i min,
+        final BiFunction<IChunk, ChunkSection, Function<BlockPos, T>> sectionReader, final Vector3i min,
         final Vector3i max
     ) {
-        // Get the mins
-        final int minChunkX = min.getX() >> 4;
-        final int minXOffset = min.getX() & 15;
-        final int minChunkZ = min.getZ() >> 4;
-        final int minZOffset = min.getZ() & 15;
-        final int minYSection = min.getY() >> 4 << 4;
-        final int minYOffset = min.getY() & 15;
-
-        // Now for the maxes
-        final int maxChunkX = max.getX() >> 4;
-        final int maxXOffset = max.getX() & 15;
-        final int maxChunkZ = max.getZ() >> 4;
-        final int maxZOffset = max.getZ() & 15;
-        final int maxYSection = max.getY() >> 4 << 4;
-        final int maxYOffset = max.getY() & 15;
-
         return chunk -> {
             final ChunkPos pos = chunk.getPos();
-
-            final int xStart = pos.x == minChunkX ? minXOffset : 0;
-            final int xEnd = pos.x == maxChunkX ? maxXOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-            final int zStart = pos.z == minChunkZ ? minZOffset : 0;
-            final int zEnd = pos.z == maxChunkZ ? maxZOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
-
             final int chunkMinX = pos.x << 4;
             final int chunkMinZ = pos.z << 4;
 
-            return Arrays.stream(chunk.getSections())
-                .filter(Objects::nonNull)
-                .filter(chunkSection -> chunkSection.bottomBlockY() >= minYSection && chunkSection.bottomBlockY() <= maxYSection)
-                .flatMap(
-                chunkSection -> IntStream.range(zStart, zEnd)
-                    .mapToObj(z -> IntStream.range(xStart, xEnd)
-                        .mapToObj(x -> {
-                            final int sectionY = chunkSection.bottomBlockY();
-                            final int yStart = sectionY == minYSection ? minYOffset : 0;
-                            final int yEnd = sectionY == maxYSection ? maxYOffset + 1 : 16; // plus 1 because of IntStream range exclusive
-                            return IntStream.range(yStart, yEnd)
-                                .mapToObj(y ->
-                                    {
-                                        final int adjustedX = x + chunkMinX;
-                                        final int adjustedY = y + sectionY;
-                                        final int adjustedZ = z + chunkMinZ;
-
-                                        final BlockPos blockPos = new BlockPos(adjustedX, adjustedY, adjustedZ);
-                                        final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
-                                        return new AbstractMap.SimpleEntry<>(blockPos, apply);
-                                    }
-                                );
-                        }))
-                    .flatMap(Function.identity())
-                    .flatMap(Function.identity())
-            );
+            return StreamSupport.stream(new ChunkSectionSpliterator<>(
+                chunk,
+                sectionReader,
+                Math.max(min.getX(), chunkMinX),
+                min.getY(),
+                Math.max(min.getZ(), chunkMinZ),
+                Math.min(max.getX(), chunkMinX + 15),
+                max.getY(),
+                Math.min(max.getZ(), chunkMinZ + 15)
+            ), false);
         };
     }
 
@@ -292,10 +262,9 @@ public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R,
         // to the identity function whether the entity is to be "cloned" or merely retained by key. This is useful
         // compared to a traditional filter operation since the identity function renders the entity completely
         // separated from the volume target in the event of transformational operations being run on the VolumeStream
-        // itself.
+        // itself. Entries read from chunk sections reuse their position, so the key function has to copy it.
         final BiConsumer<Map.Entry<BlockPos, MC>, Set<KeyReference>> entryConsumer = (entry, poses) -> {
             final BlockPos pos = entry.getKey();
-            final Vector3i v = VecHelper.toVector3i(pos);
             final KeyReference keyRef = entityToKey.apply(pos, entry.getValue());
             poses.add(keyRef);
             identityFunction.accept(keyRef, entry.getValue());
@@ -81,7 +81,7 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
 
         final int dataSize = this.area();
         this.defaultState = defaultState;
-        this.data = new BlockBackingData.PackedBackingData(dataSize, palette.getHighestId());
+        this.data = BlockBackingData.packed(dataSize, mutablePalette.getHighestId());
 
         // all blocks default to air
         if (airId != 0) {
@@ -123,14 +123,7 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
         this.checkRange(x, y, z);
         final int id = this.palette.getOrAssign(block);
         if (id > this.data.getMax()) {
-
-            final int highId = this.palette.getHighestId();
-            final int dataSize = this.area();
-            final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
-            for (int i = 0; i < dataSize; i++) {
-                newdata.set(i, this.data.get(i));
-            }
-            this.data = newdata;
+            this.data = BlockBackingData.widen(this.data, this.area(), this.palette.getHighestId());
         }
         this.data.set(this.getIndex(x, y, z), id);
         return true;
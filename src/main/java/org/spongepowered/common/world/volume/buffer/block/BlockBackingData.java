@@ -27,6 +27,9 @@
 import net.minecraft.util.math.MathHelper;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -55,6 +58,44 @@ public interface BlockBackingData {
      */
     int getMax();
 
+    /**
+     * Volumes with at least this many entries are packed into direct memory
+     * instead of the heap.
+     */
+    int OFF_HEAP_THRESHOLD = Integer.getInteger("sponge.volume.offHeapThreshold", 1 << 24);
+
+    /**
+     * Creates packed backing data wide enough to store {@code highestValue},
+     * allocated off heap for large volumes.
+     *
+     * @param size The number of elements
+     * @param highestValue The highest value to prepare for
+     * @return The backing data
+     */
+    static BlockBackingData packed(final int size, final int highestValue) {
+        if (size >= BlockBackingData.OFF_HEAP_THRESHOLD) {
+            return new DirectPackedBackingData(size, highestValue);
+        }
+        return new PackedBackingData(size, highestValue);
+    }
+
+    /**
+     * Creates packed backing data wide enough to store {@code highestValue}
+     * holding the values of {@code data}.
+     *
+     * @param data The data to copy
+     * @param size The number of elements
+     * @param highestValue The highest value to prepare for
+     * @return The widened backing data
+     */
+    static BlockBackingData widen(final BlockBackingData data, final int size, final int highestValue) {
+        final BlockBackingData widened = BlockBackingData.packed(size, highestValue);
+        for (int i = 0; i < size; i++) {
+            widened.set(i, data.get(i));
+        }
+        return widened;
+    }
+
     class CharBackingData implements BlockBackingData {
 
         private final char[] data;
@@ -101,86 +142,113 @@ public int hashCode() {
         }
     }
 
-    class PackedBackingData implements BlockBackingData {
+    /**
+     * Entries packed into 64 bit words, an entry may span two words.
+     */
+    abstract class AbstractPackedBackingData implements BlockBackingData {
 
-        /** A long array used to store the packed values */
-        private final long[] longArray;
         /** Number of bits a single entry takes up */
-        private final int bits;
+        final int bits;
         /**
          * The maximum value for a single entry. This also asks as a bitmask for a single entry.
          * For instance, if bits were 5, this value would be 31 (ie, {@code 0b00011111}).
          */
-        private final long maxValue;
-        /** Number of entries in this array (<b>not</b> the length of the long array that internally backs this array) */
-        private final int arraySize;
+        final long maxValue;
+        /** Number of entries in this array (<b>not</b> the number of words that internally back this array) */
+        final int arraySize;
 
-        /**
-         * Creates a new PackedBackingData starting out with enough bits to store values of {@code highestValue}.
-         *
-         * @param size The number of elements
-         * @param highestValue The highest value to prepare for
-         */
-        public PackedBackingData(final int size, final int highestValue) {
+        AbstractPackedBackingData(final int size, final int bits) {
             this.arraySize = size;
-            int bits;
-            bits = 0;
-            while (1 << bits <= highestValue) {
-                bits++;
-            }
             this.bits = bits;
+            this.maxValue = (1L << bits) - 1;
+        }
 
-            this.maxValue = (1 << bits) - 1;
-            this.longArray = new long[MathHelper.roundUp(size * bits, Long.SIZE) / Long.SIZE];
+        static int bitsFor(final int highestValue) {
+            // Always use at least one bit, a palette of only air still needs storage
+            return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(highestValue));
         }
 
-        private PackedBackingData(final int size, final int bits, final long[] array) {
-            this.arraySize = size;
-            this.bits = bits;
-            this.maxValue = (1 << bits) - 1;
-            this.longArray = array;
+        static int wordsFor(final int size, final int bits) {
+            return (int) ((long) size * bits + Long.SIZE - 1 >>> 6);
         }
 
+        abstract long getWord(int index);
+
+        abstract void setWord(int index, long word);
+
         @Override
         public void set(final int index, final int value) {
-            final int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            final int bitOffset = bitIndex % Long.SIZE;
+            final long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex >>> 6);
+            final int bitOffset = (int) (bitIndex & 63);
+            // Masked so that a full 32 bit entry does not sign extend into its neighbours
+            final long entry = value & this.maxValue;
 
-            this.longArray[longIndex] = this.longArray[longIndex] & ~(this.maxValue << bitOffset) | (long) value << bitOffset;
+            this.setWord(longIndex, this.getWord(longIndex) & ~(this.maxValue << bitOffset) | entry << bitOffset);
 
             if (bitOffset + this.bits > Long.SIZE) {
                 // The entry is split between two longs (lets call them left long, and right long)
                 final int bitsInLeft = Long.SIZE - bitOffset;
                 final int bitsInRight = this.bits - bitsInLeft;
                 longIndex++;
-                this.longArray[longIndex] = this.longArray[longIndex] >>> bitsInRight << bitsInRight | (long) value >> bitsInLeft;
+                this.setWord(longIndex, this.getWord(longIndex) >>> bitsInRight << bitsInRight | entry >>> bitsInLeft);
             }
         }
 
         @Override
         public int get(final int index) {
-            final int bitIndex = index * this.bits;
-            final int longIndex = bitIndex / Long.SIZE;
-            final int rightLongIndex = (bitIndex + this.bits - 1) / 64;
-            final int bitOffset = bitIndex % 64;
+            final long bitIndex = (long) index * this.bits;
+            final int longIndex = (int) (bitIndex >>> 6);
+            final int bitOffset = (int) (bitIndex & 63);
 
             if (bitOffset + this.bits > Long.SIZE) {
                 // The entry is split between two longs
                 final int bitsInLeft = Long.SIZE - bitOffset;
-                return (int) ((this.longArray[longIndex] >>> bitOffset | this.longArray[rightLongIndex] << bitsInLeft) & this.maxValue);
+                return (int) ((this.getWord(longIndex) >>> bitOffset | this.getWord(longIndex + 1) << bitsInLeft) & this.maxValue);
             }
-            return (int) (this.longArray[longIndex] >>> bitOffset & this.maxValue);
+            return (int) (this.getWord(longIndex) >>> bitOffset & this.maxValue);
         }
 
         @Override
-        public PackedBackingData copyOf() {
-            return new PackedBackingData(this.arraySize, this.bits, this.longArray.clone());
+        public int getMax() {
+            return (int) this.maxValue;
+        }
+    }
+
+    class PackedBackingData extends AbstractPackedBackingData {
+
+        /** A long array used to store the packed values */
+        private final long[] longArray;
+
+        /**
+         * Creates a new PackedBackingData starting out with enough bits to store values of {@code highestValue}.
+         *
+         * @param size The number of elements
+         * @param highestValue The highest value to prepare for
+         */
+        public PackedBackingData(final int size, final int highestValue) {
+            this(size, AbstractPackedBackingData.bitsFor(highestValue),
+                new long[AbstractPackedBackingData.wordsFor(size, AbstractPackedBackingData.bitsFor(highestValue))]);
+        }
+
+        PackedBackingData(final int size, final int bits, final long[] array) {
+            super(size, bits);
+            this.longArray = array;
         }
 
         @Override
-        public int getMax() {
-            return (int) this.maxValue;
+        long getWord(final int index) {
+            return this.longArray[index];
+        }
+
+        @Override
+        void setWord(final int index, final long word) {
+            this.longArray[index] = word;
+        }
+
+        @Override
+        public PackedBackingData copyOf() {
+            return new PackedBackingData(this.arraySize, this.bits, this.longArray.clone());
         }
 
         @Override
@@ -205,4 +273,103 @@ public int hashCode() {
             return result;
         }
     }
+
+    /**
+     * Packed entries stored in direct memory, so that very large volumes do
+     * not have to live on the heap. A single direct buffer is limited to 2GB,
+     * so the words are sharded across as many buffers as needed.
+     */
+    class DirectPackedBackingData extends AbstractPackedBackingData {
+
+        /** Words per shard by default, 512MB per buffer */
+        static final int DEFAULT_SHARD_BITS = 26;
+
+        private final int shardBits;
+        private final int shardMask;
+        private final LongBuffer[] shards;
+
+        /**
+         * Creates a new DirectPackedBackingData starting out with enough bits to store values of {@code highestValue}.
+         *
+         * @param size The number of elements
+         * @param highestValue The highest value to prepare for
+         */
+        public DirectPackedBackingData(final int size, final int highestValue) {
+            this(size, highestValue, DirectPackedBackingData.DEFAULT_SHARD_BITS);
+        }
+
+        DirectPackedBackingData(final int size, final int highestValue, final int shardBits) {
+            super(size, AbstractPackedBackingData.bitsFor(highestValue));
+            this.shardBits = shardBits;
+            this.shardMask = (1 << shardBits) - 1;
+            this.shards = DirectPackedBackingData.allocate(AbstractPackedBackingData.wordsFor(size, this.bits), shardBits);
+        }
+
+        private DirectPackedBackingData(final DirectPackedBackingData from) {
+            super(from.arraySize, from.bits);
+            this.shardBits = from.shardBits;
+            this.shardMask = from.shardMask;
+            this.shards = DirectPackedBackingData.allocate(AbstractPackedBackingData.wordsFor(from.arraySize, from.bits), from.shardBits);
+            for (int i = 0; i < this.shards.length; i++) {
+                final LongBuffer source = from.shards[i].duplicate();
+                source.clear();
+                this.shards[i].put(source);
+                this.shards[i].clear();
+            }
+        }
+
+        private static LongBuffer[] allocate(final int words, final int shardBits) {
+            final int shardWords = 1 << shardBits;
+            final LongBuffer[] shards = new LongBuffer[(int) (((long) words + shardWords - 1) >>> shardBits)];
+            for (int i = 0; i < shards.length; i++) {
+                // Only the last shard may be partially used
+                final int length = Math.min(shardWords, words - (i << shardBits));
+                shards[i] = ByteBuffer.allocateDirect(length * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+            }
+            return shards;
+        }
+
+        int getShardCount() {
+            return this.shards.length;
+        }
+
+        @Override
+        long getWord(final int index) {
+            return this.shards[index >>> this.shardBits].get(index & this.shardMask);
+        }
+
+        @Override
+        void setWord(final int index, final long word) {
+            this.shards[index >>> this.shardBits].put(index & this.shardMask, word);
+        }
+
+        @Override
+        public DirectPackedBackingData copyOf() {
+            return new DirectPackedBackingData(this);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final DirectPackedBackingData that = (DirectPackedBackingData) o;
+            return this.bits == that.bits &&
+                   this.arraySize == that.arraySize &&
+                   this.shardBits == that.shardBits &&
+                   Arrays.equals(this.shards, that.shards);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(this.bits, this.arraySize);
+            result = 31 * result + Arrays.hashCode(this.shards);
+            return result;
+        }
+    }
 }
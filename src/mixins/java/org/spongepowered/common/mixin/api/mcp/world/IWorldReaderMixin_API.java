@@ -232,8 +232,8 @@ default VolumeStream<R, Biome> getBiomeStream(final Vector3i min, final Vector3i
             },
             // ChunkAccessor
             VolumeStreamUtils.getChunkAccessorByStatus((IWorldReader) (Object) this, options.loadingStyle().generateArea()),
-            // Biome by key
-            (key, biome) -> key,
+            // Biome by key, copied out of the reused stream position
+            (key, biome) -> key.immutable(),
             // Entity Accessor
             VolumeStreamUtils.getBiomesForChunkByPos((IWorldReader) (Object) this, min, max)
             ,
@@ -274,8 +274,8 @@ default VolumeStream<R, BlockState> getBlockStateStream(final Vector3i min, fina
             },
             // ChunkAccessor
             VolumeStreamUtils.getChunkAccessorByStatus((IWorldReader) (Object) this, options.loadingStyle().generateArea()),
-            // Biome by block position
-            (key, biome) -> key,
+            // BlockState by block position, copied out of the reused stream position
+            (key, blockState) -> key.immutable(),
             // Entity Accessor
             VolumeStreamUtils.getBlockStatesForSections(min, max),
             // Filtered Position Entity Accessor
@@ -39,6 +39,7 @@
 import net.minecraft.command.arguments.SuggestionProviders;
 import net.minecraft.command.impl.AdvancementCommand;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
@@ -60,13 +61,17 @@
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
 import org.spongepowered.common.command.brigadier.tree.SpongeNode;
 import org.spongepowered.common.command.brigadier.tree.SuggestionArgumentNode;
+import org.spongepowered.common.command.brigadier.tree.SuggestionTreeTemplate;
 import org.spongepowered.common.command.manager.SpongeCommandManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +94,12 @@ public abstract class CommandsMixin {
     private CauseStackManager.StackFrame impl$initFrame = null;
     private final WeakHashMap<ServerPlayerEntity, Map<CommandNode<CommandSource>, List<CommandNode<ISuggestionProvider>>>> impl$playerNodeCache =
             new WeakHashMap<>();
+    // Client command trees, keyed by which nodes the players they were built for could use. Players that can use the same nodes
+    // get the same tree, so it is only built once for each distinct set.
+    private final Map<BitSet, SuggestionTreeTemplate> impl$treeTemplates = new HashMap<>();
+    private int impl$treeTemplatesVersion = -1;
+    // Whether the source the tree is being built for can use each node, as found while fingerprinting it
+    @Nullable private Map<CommandNode<CommandSource>, Boolean> impl$knownPermissions = null;
 
     // We augment the CommandDispatcher with our own methods using a wrapper, so we need to make sure it's replaced here.
     @Redirect(method = "<init>", at = @At(
@@ -209,7 +220,8 @@ public abstract class CommandsMixin {
             final CommandSource sourceButTyped,
             final Map<CommandNode<CommandSource>, CommandNode<ISuggestionProvider>> commandNodeToSuggestionNode
     ) {
-        if (SpongeNodePermissionCache.canUse(
+        final Boolean knownPermission = this.impl$knownPermissions == null ? null : this.impl$knownPermissions.get(commandNode);
+        if (knownPermission != null ? knownPermission : SpongeNodePermissionCache.canUse(
                 rootCommandNode instanceof RootCommandNode, this.shadow$getDispatcher(), commandNode, sourceButTyped)) {
 
             boolean shouldContinue = true;
@@ -300,21 +312,103 @@ public abstract class CommandsMixin {
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.addContext(EventContextKeys.SUBJECT, (Subject) playerEntity);
             final CommandCause sourceToUse = ((CommandSourceBridge) p_197052_3_).bridge$withCurrentCause();
-            try {
-                this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
-                // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
-                final IdentityHashMap<CommandNode<CommandSource>, CommandNode<ISuggestionProvider>> idMap = new IdentityHashMap<>(p_197052_4_);
-                this.shadow$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSource) sourceToUse, idMap);
-            } finally {
-                this.impl$playerNodeCache.remove(playerEntity);
+            final SpongeCommandManager commandManager = (SpongeCommandManager) Sponge.getGame().getCommandManager();
+            final Collection<CommandNode<ISuggestionProvider>> nonBrigadierSuggestions = commandManager.getNonBrigadierSuggestions(sourceToUse);
+
+            // Fingerprints that no player has any more are never removed on their own, so start over if too many build up.
+            if (this.impl$treeTemplatesVersion != commandManager.getCommandTreeVersion() || this.impl$treeTemplates.size() >= 64) {
+                this.impl$treeTemplates.clear();
+                this.impl$treeTemplatesVersion = commandManager.getCommandTreeVersion();
+            }
+            final Map<CommandNode<CommandSource>, Boolean> permissions = new IdentityHashMap<>();
+            final BitSet fingerprint = this.impl$createPermissionFingerprint(p_197052_1_, (CommandSource) sourceToUse, permissions);
+            SuggestionTreeTemplate template = this.impl$treeTemplates.get(fingerprint);
+            if (template == null) {
+                final RootCommandNode<ISuggestionProvider> templateRoot = new RootCommandNode<>();
+                this.impl$fillUsableCommands(p_197052_1_, templateRoot, (CommandSource) sourceToUse, playerEntity, permissions);
+                template = new SuggestionTreeTemplate(templateRoot);
+                this.impl$treeTemplates.put(fingerprint, template);
+            }
+
+            // Adding a node with the same name as an existing one merges into the existing node, which would alter the shared
+            // template. Should that happen, build this player's tree on its own.
+            boolean canShareTemplate = true;
+            for (final CommandNode<ISuggestionProvider> node : nonBrigadierSuggestions) {
+                if (template.hasChild(node.getName())) {
+                    canShareTemplate = false;
+                    break;
+                }
             }
-            for (final CommandNode<ISuggestionProvider> node :
-                    ((SpongeCommandManager) Sponge.getGame().getCommandManager()).getNonBrigadierSuggestions(sourceToUse)) {
+            if (canShareTemplate) {
+                template.copyTo(p_197052_2_);
+            } else {
+                this.impl$fillUsableCommands(p_197052_1_, p_197052_2_, (CommandSource) sourceToUse, playerEntity, permissions);
+            }
+            for (final CommandNode<ISuggestionProvider> node : nonBrigadierSuggestions) {
                 p_197052_2_.addChild(node);
             }
         }
     }
 
+    private void impl$fillUsableCommands(final CommandNode<CommandSource> rootCommandNode, final CommandNode<ISuggestionProvider> rootSuggestion,
+            final CommandSource source, final ServerPlayerEntity playerEntity, final Map<CommandNode<CommandSource>, Boolean> permissions) {
+        try {
+            this.impl$knownPermissions = permissions;
+            this.impl$playerNodeCache.put(playerEntity, new IdentityHashMap<>());
+            // We use this because the redirects should be a 1:1 mapping (which is what this map is for).
+            final IdentityHashMap<CommandNode<CommandSource>, CommandNode<ISuggestionProvider>> idMap = new IdentityHashMap<>();
+            idMap.put(rootCommandNode, rootSuggestion);
+            this.shadow$fillUsableCommands(rootCommandNode, rootSuggestion, source, idMap);
+        } finally {
+            this.impl$playerNodeCache.remove(playerEntity);
+            this.impl$knownPermissions = null;
+        }
+    }
+
+    /*
+     * Records whether the source can use the nodes that fillUsableCommands would visit, in the order it would visit them. The
+     * client tree is built from nothing but the command tree and these results, so two sources with the same fingerprint get
+     * the same tree.
+     *
+     * Each node is only walked once, and nodes with the same requirement and permission share one check and one bit. The
+     * result for every node is put into the given map so that building the tree does not have to check it again.
+     */
+    private BitSet impl$createPermissionFingerprint(final CommandNode<CommandSource> rootCommandNode, final CommandSource source,
+            final Map<CommandNode<CommandSource>, Boolean> permissions) {
+        final BitSet fingerprint = new BitSet();
+        final Map<List<Object>, Integer> checks = new HashMap<>();
+        this.impl$collectPermissionFingerprint(rootCommandNode, source, fingerprint, permissions, checks);
+        // Mark the end, so that fingerprints of differently sized trees can never be equal
+        fingerprint.set(checks.size());
+        return fingerprint;
+    }
+
+    private void impl$collectPermissionFingerprint(final CommandNode<CommandSource> parentNode, final CommandSource source,
+            final BitSet fingerprint, final Map<CommandNode<CommandSource>, Boolean> permissions, final Map<List<Object>, Integer> checks) {
+        final CommandDispatcher<CommandSource> dispatcher = this.shadow$getDispatcher();
+        for (final CommandNode<CommandSource> node : this.impl$getChildrenFromNode(parentNode)) {
+            if (permissions.containsKey(node)) {
+                continue;
+            }
+            final List<Object> check = Arrays.asList(node.getRequirement(), SpongeNodePermissionCache.getPermission(dispatcher, node));
+            final Integer index = checks.get(check);
+            final boolean canUse;
+            if (index == null) {
+                canUse = SpongeNodePermissionCache.canUse(parentNode instanceof RootCommandNode, dispatcher, node, source);
+                if (canUse) {
+                    fingerprint.set(checks.size());
+                }
+                checks.put(check, checks.size());
+            } else {
+                canUse = fingerprint.get(index);
+            }
+            permissions.put(node, canUse);
+            if (canUse && !node.getChildren().isEmpty()) {
+                this.impl$collectPermissionFingerprint(node, source, fingerprint, permissions, checks);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Redirect(method = "fillUsableCommands",
             at = @At(value = "INVOKE", target = "Lcom/mojang/brigadier/builder/ArgumentBuilder;build()Lcom/mojang/brigadier/tree/CommandNode;", remap = false))
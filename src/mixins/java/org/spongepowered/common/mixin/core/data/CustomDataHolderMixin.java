@@ -27,6 +27,7 @@
 import com.google.common.collect.Lists;
 import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.persistence.DataView;
@@ -38,6 +39,7 @@
 import org.spongepowered.common.entity.SpongeEntitySnapshot;
 import org.spongepowered.common.entity.player.SpongeUser;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 @Mixin({TileEntity.class, Entity.class, SpongeUser.class, ItemStack.class,
@@ -49,6 +51,8 @@ public abstract class CustomDataHolderMixin implements CustomDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private List<DataView> impl$failedData = Lists.newArrayList();
+    private boolean impl$customDataDirty = true;
+    @Nullable private CompoundNBT impl$customDataSyncedTo;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -65,12 +69,14 @@ public abstract class CustomDataHolderMixin implements CustomDataHolderBridge {
             this.impl$manipulator = DataManipulator.mutableOf();
         }
         this.impl$manipulator.copyFrom(manipulator);
+        this.impl$customDataDirty = true;
     }
 
     @Override
     public void bridge$clearCustomData() {
         this.impl$manipulator = null;
         this.impl$failedData = Lists.newArrayList();
+        this.impl$customDataDirty = true;
     }
 
     @Override
@@ -78,4 +84,20 @@ public abstract class CustomDataHolderMixin implements CustomDataHolderBridge {
         return this.impl$failedData;
     }
 
+    @Override
+    public void bridge$markCustomDataDirty() {
+        this.impl$customDataDirty = true;
+    }
+
+    @Override
+    public boolean bridge$isCustomDataSyncedTo(@Nullable final CompoundNBT compound) {
+        return !this.impl$customDataDirty && compound != null && compound == this.impl$customDataSyncedTo;
+    }
+
+    @Override
+    public void bridge$markCustomDataSyncedTo(@Nullable final CompoundNBT compound) {
+        this.impl$customDataSyncedTo = compound;
+        this.impl$customDataDirty = false;
+    }
+
 }
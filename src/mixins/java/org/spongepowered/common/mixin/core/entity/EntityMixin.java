@@ -103,6 +103,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.portal.NetherPortalType;
 import org.spongepowered.common.world.portal.PlatformTeleporter;
+import org.spongepowered.common.world.region.MovementRegionIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import javax.annotation.Nullable;
@@ -201,6 +202,8 @@ public abstract class EntityMixin implements EntityBridge, PlatformEntityBridge,
     private boolean impl$transient = false;
     private boolean impl$shouldFireRepositionEvent = true;
     private WeakReference<ServerWorld> impl$originalDestinationWorld = null;
+    @Nullable private MovementRegionIndex impl$lastMovementRegions = null;
+    private long impl$lastMovementRegionBlock;
     protected boolean impl$hasCustomFireImmuneTicks = false;
     protected boolean impl$dontCreateExitPortal = false;
     protected short impl$fireImmuneTicks = 0;
@@ -408,6 +411,23 @@ public abstract class EntityMixin implements EntityBridge, PlatformEntityBridge,
         this.impl$transient = value;
     }
 
+    @Nullable
+    @Override
+    public MovementRegionIndex bridge$getLastMovementRegions() {
+        return this.impl$lastMovementRegions;
+    }
+
+    @Override
+    public long bridge$getLastMovementRegionBlock() {
+        return this.impl$lastMovementRegionBlock;
+    }
+
+    @Override
+    public void bridge$setLastMovementRegionPosition(@Nullable final MovementRegionIndex regions, final long block) {
+        this.impl$lastMovementRegions = regions;
+        this.impl$lastMovementRegionBlock = block;
+    }
+
     @Override
     public void bridge$setFireImmuneTicks(final int ticks) {
         this.impl$hasCustomFireImmuneTicks = true;
@@ -306,7 +306,7 @@ public ItemEntity drop(final ItemStack itemStackIn, final boolean unused) {
 
     @Inject(method = "interactOn", at = @At(value = "HEAD"), cancellable = true)
     public void impl$onRightClickEntity(final Entity entityToInteractOn, final Hand hand, final CallbackInfoReturnable<ActionResultType> cir) {
-        if (!((PlayerEntity) (Object) this instanceof ServerPlayerEntity)) {
+        if (!((PlayerEntity) (Object) this instanceof ServerPlayerEntity) || !ShouldFire.hasListeners(InteractEntityEvent.Secondary.class)) {
             return;
         }
 
@@ -119,6 +119,7 @@
 import org.spongepowered.common.item.util.ItemStackUtil;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.region.MovementRegionIndex;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -274,6 +275,10 @@ public abstract class ServerPlayNetHandlerMixin implements NetworkManagerHolderB
         final boolean goodMovementPacket = this.receivedMovePacketCount - this.knownMovePacketCount <= 5;
         final boolean fireMoveEvent = goodMovementPacket && packetInAccessor.accessor$hasPos() && ShouldFire.MOVE_ENTITY_EVENT;
         final boolean fireRotationEvent = goodMovementPacket && packetInAccessor.accessor$hasRot() && ShouldFire.ROTATE_ENTITY_EVENT;
+        if (!fireMoveEvent && !fireRotationEvent) {
+            // Nobody is interested in this movement, don't bother building any positions
+            return;
+        }
 
         final ServerPlayer player = (ServerPlayer) this.player;
         final org.spongepowered.math.vector.Vector3d fromRotation = new org.spongepowered.math.vector.Vector3d(packetIn.getYRot(this.player
@@ -359,6 +364,17 @@ public abstract class ServerPlayNetHandlerMixin implements NetworkManagerHolderB
         }
     }
 
+    @Inject(method = "handleMovePlayer", at = @At("RETURN"))
+    private void impl$updateMovementRegionsAfterMove(final CPlayerPacket packetIn, final CallbackInfo ci) {
+        // Only now has vanilla either applied the movement or rejected it
+        MovementRegionIndex.update(this.player);
+    }
+
+    @Inject(method = "teleport(DDDFFLjava/util/Set;)V", at = @At("RETURN"))
+    private void impl$updateMovementRegionsAfterTeleport(final CallbackInfo ci) {
+        MovementRegionIndex.update(this.player);
+    }
+
     @Inject(
             method = "handleInteract",
             cancellable = true,
@@ -368,6 +384,10 @@ public abstract class ServerPlayNetHandlerMixin implements NetworkManagerHolderB
             )
     )
     public void impl$onRightClickAtEntity(final CUseEntityPacket p_147340_1, final CallbackInfo ci) {
+        if (!ShouldFire.hasListeners(InteractEntityEvent.Secondary.class)) {
+            this.impl$ignorePackets++;
+            return;
+        }
         final Entity entity = p_147340_1.getTarget(this.player.getLevel());
         final ItemStack itemInHand = p_147340_1.getHand() == null ? ItemStack.EMPTY : this.player.getItemInHand(p_147340_1.getHand());
         final InteractEntityEvent.Secondary event = SpongeCommonEventFactory
@@ -448,10 +468,14 @@ public abstract class ServerPlayNetHandlerMixin implements NetworkManagerHolderB
     @Redirect(method = "handlePlayerAction", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/PlayerInteractionManager;handleBlockBreakAction(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/network/play/client/CPlayerDiggingPacket$Action;Lnet/minecraft/util/Direction;I)V"))
     public void impl$callInteractBlockPrimaryEvent(final PlayerInteractionManager playerInteractionManager, final BlockPos p_225416_1_,
             final CPlayerDiggingPacket.Action p_225416_2_, final Direction p_225416_3_, final int p_225416_4_) {
-        final BlockSnapshot snapshot = ((org.spongepowered.api.world.server.ServerWorld) (playerInteractionManager.level)).createSnapshot(VecHelper.toVector3i(p_225416_1_));
-        final InteractBlockEvent.Primary event = SpongeCommonEventFactory.callInteractBlockEventPrimary(p_225416_2_, this.player, this.player.getItemInHand(
-                Hand.MAIN_HAND), snapshot, Hand.MAIN_HAND, p_225416_3_);
-        if (event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+        boolean cancelled = false;
+        if (ShouldFire.hasListeners(InteractBlockEvent.Primary.class)) {
+            final BlockSnapshot snapshot = ((org.spongepowered.api.world.server.ServerWorld) (playerInteractionManager.level)).createSnapshot(VecHelper.toVector3i(p_225416_1_));
+            final InteractBlockEvent.Primary event = SpongeCommonEventFactory.callInteractBlockEventPrimary(p_225416_2_, this.player, this.player.getItemInHand(
+                    Hand.MAIN_HAND), snapshot, Hand.MAIN_HAND, p_225416_3_);
+            cancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        if (cancelled) {
             this.player.connection.send(new SPlayerDiggingPacket(p_225416_1_, playerInteractionManager.level.getBlockState(p_225416_1_), p_225416_2_, false, "block action restricted"));
             this.impl$ignorePackets++;
         } else {
@@ -81,6 +81,7 @@
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.service.server.SpongeServerScopedServiceProvider;
+import org.spongepowered.common.user.SpongeUserManager;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -217,6 +218,11 @@ public String getServerModName() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$stopUserManager(final CallbackInfo ci) {
+        ((SpongeUserManager) this.getUserManager()).stop();
+    }
+
     @ModifyConstant(method = "tickServer", constant = @Constant(intValue = 6000, ordinal = 0))
     private int getSaveTickInterval(final int tickInterval) {
         if (!this.shadow$isDedicatedServer()) {
@@ -83,6 +83,7 @@
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.server.PerWorldBorderListener;
+import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
@@ -135,6 +136,8 @@ public abstract class PlayerListMixin implements PlayerListBridge {
             }
             user.invalidate();
         }
+        // The player file is read right below, any queued user save has to be on disk first
+        ((SpongeUserManager) SpongeCommon.getGame().getServer().getUserManager()).getDataWriter().await(playerIn.getUUID());
 
         final CompoundNBT compound = this.shadow$load(playerIn);
         if (compound == null) {
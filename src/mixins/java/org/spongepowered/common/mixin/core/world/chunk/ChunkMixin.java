@@ -29,6 +29,7 @@
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.fluid.Fluid;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.math.BlockPos;
@@ -40,6 +41,7 @@
 import net.minecraft.world.biome.BiomeContainer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkSection;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.asm.mixin.Final;
@@ -49,14 +51,17 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.chunk.CacheKeyBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.storage.BlockOwnershipStore;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +82,7 @@ public abstract class ChunkMixin implements ChunkBridge, CacheKeyBridge {
     @Shadow @Nullable public abstract TileEntity getBlockEntity(BlockPos pos, net.minecraft.world.chunk.Chunk.CreateEntityType p_177424_2_);
 
     @Shadow public abstract BlockState getBlockState(BlockPos pos);
+    @Shadow public abstract ChunkSection[] getSections();
     // @formatter:on
 
     private long impl$scheduledForUnload = -1; // delay chunk unloads
@@ -84,6 +90,7 @@ public abstract class ChunkMixin implements ChunkBridge, CacheKeyBridge {
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.chunk.Chunk[] impl$neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long impl$cacheKey;
+    @Nullable private BlockOwnershipStore impl$ownershipStore;
 
     @Inject(method = "<init>(Lnet/minecraft/world/World;Lnet/minecraft/util/math/ChunkPos;Lnet/minecraft/world/biome/BiomeContainer;Lnet/minecraft/util/palette/UpgradeData;Lnet/minecraft/world/ITickList;Lnet/minecraft/world/ITickList;J[Lnet/minecraft/world/chunk/ChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -124,58 +131,92 @@ public abstract class ChunkMixin implements ChunkBridge, CacheKeyBridge {
     }
 
 
-    // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
-
-    @Override
-    public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
-    }
-
-    @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
+    @Nullable
+    private BlockOwnershipStore impl$getOwnershipStore(final boolean create) {
+        if (this.impl$ownershipStore == null && create && this.level instanceof ServerWorldBridge) {
+            this.impl$ownershipStore = new BlockOwnershipStore(((ServerWorldBridge) this.level).bridge$getOwnerIndex(), this.getSections().length);
+        }
+        return this.impl$ownershipStore;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
+        if (!PhaseTracker.getInstance().getCurrentState().tracksCreatorsAndNotifiers()) {
+            return;
+        }
+        if (trackerType == PlayerTracker.Type.CREATOR) {
+            this.bridge$setBlockCreator(pos, user.getUniqueId());
+        } else {
+            this.bridge$setBlockNotifier(pos, user.getUniqueId());
+        }
     }
 
     @Override
     public Optional<User> bridge$getBlockCreator(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockCreatorUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-        return Optional.empty();
+        final BlockOwnershipStore store = this.impl$ownershipStore;
+        return store == null ? Optional.empty() : Optional.ofNullable(store.getCreator(pos));
     }
 
     @Override
     public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockNotifierUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return Optional.empty();
+        final BlockOwnershipStore store = this.impl$ownershipStore;
+        return store == null ? Optional.empty() : Optional.ofNullable(store.getNotifier(pos));
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
+        final BlockOwnershipStore store = this.impl$getOwnershipStore(uuid != null);
+        if (store != null) {
+            store.setNotifier(pos, uuid);
+            this.unsaved = true;
+        }
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
+        final BlockOwnershipStore store = this.impl$getOwnershipStore(uuid != null);
+        if (store != null) {
+            store.setCreator(pos, uuid);
+            this.unsaved = true;
+        }
     }
 
     @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
+    public void bridge$writeBlockOwnership(final CompoundNBT compound) {
+        final BlockOwnershipStore store = this.impl$ownershipStore;
+        if (store != null && !store.isEmpty()) {
+            store.write(compound);
+        }
     }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
+    public void bridge$readBlockOwnership(final CompoundNBT compound) {
+        if (compound.contains(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_LIST)) {
+            final BlockOwnershipStore store = this.impl$getOwnershipStore(true);
+            if (store != null) {
+                store.read(compound);
+            }
+        }
     }
 
+    @Override
+    public void bridge$releaseBlockOwnership() {
+        final BlockOwnershipStore store = this.impl$ownershipStore;
+        if (store != null) {
+            store.release();
+            this.impl$ownershipStore = null;
+        }
+    }
 
     // Fast neighbor methods for internal use
     @Override
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.village.PointOfInterestManager;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.ChunkPrimerWrapper;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.chunk.storage.ChunkSerializer;
+import net.minecraft.world.gen.feature.template.TemplateManager;
+import net.minecraft.world.server.ServerWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.util.Constants;
+
+@Mixin(ChunkSerializer.class)
+public abstract class ChunkSerializerMixin {
+
+    @Inject(method = "write", at = @At("RETURN"))
+    private static void impl$writeBlockOwnership(final ServerWorld world, final IChunk chunk, final CallbackInfoReturnable<CompoundNBT> cir) {
+        if (!(chunk instanceof Chunk)) {
+            return;
+        }
+        final CompoundNBT level = cir.getReturnValue().getCompound("Level");
+        final CompoundNBT spongeData = new CompoundNBT();
+        ((ChunkBridge) chunk).bridge$writeBlockOwnership(spongeData);
+        if (!spongeData.isEmpty()) {
+            level.put(Constants.Sponge.SPONGE_DATA, spongeData);
+        }
+    }
+
+    @Inject(method = "read", at = @At("RETURN"))
+    private static void impl$readBlockOwnership(final ServerWorld world, final TemplateManager templateManager,
+            final PointOfInterestManager poiManager, final ChunkPos pos, final CompoundNBT compound,
+            final CallbackInfoReturnable<ChunkPrimer> cir) {
+        final ChunkPrimer primer = cir.getReturnValue();
+        if (!(primer instanceof ChunkPrimerWrapper)) {
+            return;
+        }
+        final CompoundNBT level = compound.getCompound("Level");
+        if (level.contains(Constants.Sponge.SPONGE_DATA, Constants.NBT.TAG_COMPOUND)) {
+            ((ChunkBridge) ((ChunkPrimerWrapper) primer).getWrapped()).bridge$readBlockOwnership(level.getCompound(Constants.Sponge.SPONGE_DATA));
+        }
+    }
+}
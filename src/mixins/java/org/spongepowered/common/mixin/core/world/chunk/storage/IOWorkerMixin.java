@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.IOWorker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.chunk.storage.IOWorkerBridge;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Mixin(IOWorker.class)
+public abstract class IOWorkerMixin implements IOWorkerBridge {
+
+    // @formatter:off
+    @Shadow protected abstract void shadow$tellStorePending();
+    // @formatter:on
+
+    private final AtomicInteger impl$writePauses = new AtomicInteger();
+
+    @Inject(method = "storePendingChunk", at = @At("HEAD"), cancellable = true)
+    private void impl$holdPendingChunksWhilePaused(final CallbackInfo ci) {
+        if (this.impl$writePauses.get() > 0) {
+            // The chunk stays in pendingWrites, resuming picks it up again
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public void bridge$pauseWrites() {
+        this.impl$writePauses.incrementAndGet();
+    }
+
+    @Override
+    public void bridge$resumeWrites() {
+        if (this.impl$writePauses.decrementAndGet() == 0) {
+            this.shadow$tellStorePending();
+        }
+    }
+}
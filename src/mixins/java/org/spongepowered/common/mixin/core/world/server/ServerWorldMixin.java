@@ -36,6 +36,7 @@
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.DimensionType;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.listener.IChunkStatusListener;
 import net.minecraft.world.gen.ChunkGenerator;
 import net.minecraft.world.server.ServerChunkProvider;
@@ -79,6 +80,8 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.mixin.core.world.WorldMixin;
 import org.spongepowered.common.registry.SpongeRegistryHolder;
+import org.spongepowered.common.world.region.MovementRegionIndex;
+import org.spongepowered.common.world.storage.OwnerIndex;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -105,6 +108,8 @@ public abstract class ServerWorldMixin extends WorldMixin implements ServerWorld
     private Map<Entity, Vector3d> impl$rotationUpdates;
 
     private boolean impl$isManualSave = false;
+    private final OwnerIndex impl$ownerIndex = new OwnerIndex();
+    private final MovementRegionIndex impl$movementRegions = new MovementRegionIndex();
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void impl$cacheLevelSave(final MinecraftServer p_i241885_1_, final Executor p_i241885_2_, final SaveFormat.LevelSave p_i241885_3_,
@@ -117,11 +122,27 @@ public abstract class ServerWorldMixin extends WorldMixin implements ServerWorld
         this.impl$registerHolder = new SpongeRegistryHolder(((DynamicRegistries.Impl) p_i241885_1_.registryAccess()));
     }
 
+    @Inject(method = "unload", at = @At("TAIL"))
+    private void impl$releaseBlockOwnership(final Chunk chunk, final CallbackInfo ci) {
+        // The chunk map saves a chunk before unloading it, so its owners have already been written
+        ((ChunkBridge) chunk).bridge$releaseBlockOwnership();
+    }
+
     @Override
     public SaveFormat.LevelSave bridge$getLevelSave() {
         return this.impl$levelSave;
     }
 
+    @Override
+    public OwnerIndex bridge$getOwnerIndex() {
+        return this.impl$ownerIndex;
+    }
+
+    @Override
+    public MovementRegionIndex bridge$getMovementRegions() {
+        return this.impl$movementRegions;
+    }
+
     @Override
     public IChunkStatusListener bridge$getChunkStatusListener() {
         return this.impl$chunkStatusListener;
@@ -63,6 +63,7 @@
 import org.spongepowered.common.bridge.world.DimensionBridge;
 import org.spongepowered.common.bridge.world.gen.DimensionGeneratorSettingsBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.EntityCollisionTable;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.server.BootstrapProperties;
@@ -98,6 +99,7 @@ public abstract class ServerWorldInfoMixin implements IServerConfiguration, Serv
     private UUID impl$uniqueId = UUID.randomUUID();
     private Boolean impl$pvp;
     private InheritableConfigHandle<WorldConfig> impl$configAdapter;
+    @Nullable private EntityCollisionTable impl$entityCollisionTable;
 
     private boolean impl$customDifficulty = false, impl$customGameType = false, impl$customSpawnPosition = false, impl$loadOnStartup,
         impl$performsSpawnLogic;
@@ -255,6 +257,15 @@ public abstract class ServerWorldInfoMixin implements IServerConfiguration, Serv
     @Override
     public void bridge$configAdapter(final InheritableConfigHandle<WorldConfig> adapter) {
         this.impl$configAdapter = adapter;
+        this.impl$entityCollisionTable = null;
+    }
+
+    @Override
+    public EntityCollisionTable bridge$entityCollisionTable() {
+        if (this.impl$entityCollisionTable == null) {
+            this.impl$entityCollisionTable = new EntityCollisionTable(this.impl$configAdapter);
+        }
+        return this.impl$entityCollisionTable;
     }
 
     @Override
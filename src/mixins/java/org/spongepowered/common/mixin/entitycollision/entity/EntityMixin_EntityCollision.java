@@ -35,22 +35,17 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.applaunch.config.common.CommonConfig;
-import org.spongepowered.common.applaunch.config.core.ConfigHandle;
-import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
-import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
-import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.EntityCollisionTable;
 
 @Mixin(value = net.minecraft.entity.Entity.class, priority = 1002)
 public abstract class EntityMixin_EntityCollision implements CollisionCapabilityBridge {
 
     @Shadow public abstract net.minecraft.world.World shadow$getCommandSenderWorld();
+    @Shadow public abstract net.minecraft.entity.EntityType<?> shadow$getType();
 
-    private ResourceKey entityCollision$key;
     private int entityCollision$maxCollisions = 8;
     private boolean entityCollision$refreshCache = false;
 
@@ -58,24 +53,24 @@ public abstract class EntityMixin_EntityCollision implements CollisionCapability
     private void collisions$InjectActivationInformation(net.minecraft.entity.EntityType<?> type, net.minecraft.world.World world, CallbackInfo ci) {
         if (world != null && !((WorldBridge) world).bridge$isFake() && ((ServerWorldInfoBridge) world.getLevelData()).bridge$valid()) {
             if ((net.minecraft.entity.Entity) (Object) this instanceof ItemEntity) {
-                final ItemEntity item = (ItemEntity) (Object) this;
-                final ItemStack itemstack = item.getItem();
-                if (!itemstack.isEmpty()) {
-                    this.entityCollision$key =
-                            Sponge.getGame().registries().registry(RegistryTypes.ITEM_TYPE).valueKey(((org.spongepowered.api.item.inventory.ItemStack) (Object) itemstack).getType());
-                }
-            } else {
-                this.entityCollision$key = Sponge.getGame().registries().registry(RegistryTypes.ENTITY_TYPE).valueKey(((Entity) this).getType());
-            }
-            if (!this.shadow$getCommandSenderWorld().isClientSide()) {
-                this.collision$initializeCollisionState(this.shadow$getCommandSenderWorld());
+                // The stack of an item is only set after construction, resolve it on first use instead
+                this.entityCollision$refreshCache = true;
+            } else if (!world.isClientSide()) {
+                this.collision$initializeCollisionState(world);
             }
         }
     }
 
     @Override
     public ResourceKey collision$getKey() {
-        return this.entityCollision$key;
+        if ((net.minecraft.entity.Entity) (Object) this instanceof ItemEntity) {
+            final ItemStack itemstack = ((ItemEntity) (Object) this).getItem();
+            if (!itemstack.isEmpty()) {
+                return Sponge.getGame().registries().registry(RegistryTypes.ITEM_TYPE)
+                        .valueKey(((org.spongepowered.api.item.inventory.ItemStack) (Object) itemstack).getType());
+            }
+        }
+        return Sponge.getGame().registries().registry(RegistryTypes.ENTITY_TYPE).valueKey(((Entity) this).getType());
     }
 
     @Override
@@ -90,60 +85,16 @@ public abstract class EntityMixin_EntityCollision implements CollisionCapability
 
     @Override
     public void collision$initializeCollisionState(final net.minecraft.world.World world) {
-        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter();
-        final ConfigHandle<CommonConfig> globalConfigAdapter = SpongeConfigs.getCommon();
-        final EntityCollisionCategory.ModSubCategory worldCollMod =
-                worldConfigAdapter.getOrCreateValue(s -> s.entityCollision.mods.get(this.entityCollision$key.getNamespace()),
-                c -> {
-                    // TODO: save after populating?
-                    final EntityCollisionCategory.ModSubCategory globalCollision = new EntityCollisionCategory.ModSubCategory(this.entityCollision$key.getNamespace());
-                    c.entityCollision.mods.put(this.entityCollision$key.getNamespace(), globalCollision);
-                    globalCollision.entities.put(this.entityCollision$key.getNamespace(), this.collision$getMaxCollisions());
-                }, worldConfigAdapter.get().entityCollision.autoPopulate);
-        final EntityCollisionCategory worldCollCat = worldConfigAdapter.get().entityCollision;
-
-        this.collision$setMaxCollisions(worldCollCat.maxEntitiesWithinAABB);
-
-        boolean requiresSave = false;
-        if (worldCollMod != null) {
-            if (!worldCollMod.enabled) {
-                this.collision$setMaxCollisions(-1);
+        final EntityCollisionTable table = ((ServerWorldInfoBridge) world.getLevelData()).bridge$entityCollisionTable();
+        if ((net.minecraft.entity.Entity) (Object) this instanceof ItemEntity) {
+            // check if all items are overridden
+            final ItemStack itemstack = ((ItemEntity) (Object) this).getItem();
+            if (!itemstack.isEmpty()) {
+                this.collision$setMaxCollisions(table.getMaxCollisions(itemstack.getItem()));
                 return;
             }
-            // check mod overrides
-            final Integer modCollisionMax = worldCollMod.entityDefault;
-            if (modCollisionMax != null) {
-                this.collision$setMaxCollisions(modCollisionMax);
-            }
-
-            Integer entityMaxCollision = null;
-            if ((net.minecraft.entity.Entity) (Object) this instanceof ItemEntity) {
-                // check if all items are overridden
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.getValue());
-            }
-
-            if (entityMaxCollision == null) {
-                entityMaxCollision = worldCollMod.entities.get(this.entityCollision$key.getValue());
-            }
-
-            // entity overrides
-            if (entityMaxCollision == null && worldCollCat.autoPopulate) {
-                // TODO(zml): Populate better
-                //globalCollMod.getEntityList().put(this.entityCollision$key.getValue(), this.collision$getMaxCollisions());
-                requiresSave = true;
-            } else if (entityMaxCollision != null) {
-                this.collision$setMaxCollisions(entityMaxCollision);
-            }
-        }
-
-        // don't bother saving for negative values
-        if (this.collision$getMaxCollisions() <= 0) {
-            return;
-        }
-
-        if (requiresSave) {
-            globalConfigAdapter.save();
         }
+        this.collision$setMaxCollisions(table.getMaxCollisions(this.shadow$getType()));
     }
 
     @Override
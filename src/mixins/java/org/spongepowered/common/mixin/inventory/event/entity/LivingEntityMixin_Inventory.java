@@ -43,6 +43,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.bridge.entity.player.PlayerInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.adapter.impl.slots.SlotAdapter;
@@ -75,6 +76,9 @@ public abstract class LivingEntityMixin_Inventory {
         if (this instanceof ServerPlayer) {
             return; // For players ChangeInventoryEvent.SwapHand is called somewhere else
         }
+        if (!ShouldFire.hasListeners(ChangeEntityEquipmentEvent.class)) {
+            return;
+        }
         final SlotAdapter mainHand = this.impl$getSpongeSlot(EquipmentSlotType.MAINHAND);
         final boolean customMainHand = this.impl$throwEquipmentEvent(EquipmentSlotType.MAINHAND, mainHand, map.get(EquipmentSlotType.MAINHAND), this.shadow$getLastHandItem(EquipmentSlotType.MAINHAND));
         final SlotAdapter offHand = this.impl$getSpongeSlot(EquipmentSlotType.OFFHAND);
@@ -87,6 +91,9 @@ public abstract class LivingEntityMixin_Inventory {
     @Inject(method = "handleEquipmentChanges",
             at = @At(value = "INVOKE", target = "Ljava/util/Map;forEach(Ljava/util/function/BiConsumer;)V"))
     private void inventory$onHandleEquipmentChanges(Map<EquipmentSlotType, ItemStack> map, CallbackInfo ci) {
+        if (!ShouldFire.hasListeners(ChangeEntityEquipmentEvent.class)) {
+            return;
+        }
         if ((Object) this instanceof PlayerEntity && ((Entity) (Object) this).tickCount == 1) {
             // Ignore Equipment on player spawn/respawn
             return;
@@ -28,6 +28,7 @@
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.ItemStack;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -35,6 +36,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 
 @Mixin(ItemEntity.class)
@@ -59,6 +61,9 @@ public abstract class ItemEntityMixin_Inventory {
     @Redirect(method = "playerTouch", at = @At(value = "INVOKE",
             target = "Lnet/minecraft/entity/player/PlayerInventory;add(Lnet/minecraft/item/ItemStack;)Z"))
     private boolean spongeImpl$throwPikcupEventForAddItem(final PlayerInventory inventory, final ItemStack itemStack, final PlayerEntity player) {
+        if (!ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.class)) {
+            return inventory.add(itemStack);
+        }
         final TrackedInventoryBridge inv = (TrackedInventoryBridge) inventory;
         inv.bridge$setCaptureInventory(true);
         final boolean added = inventory.add(itemStack);
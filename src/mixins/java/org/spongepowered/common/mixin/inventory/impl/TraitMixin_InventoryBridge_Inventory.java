@@ -45,6 +45,7 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.CustomInventory;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.ItemTypeIndex;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -74,6 +75,7 @@ public abstract class TraitMixin_InventoryBridge_Inventory implements InventoryA
 
     @Nullable private SlotLensProvider impl$provider;
     @Nullable private Lens impl$lens;
+    @Nullable private ItemTypeIndex impl$itemTypeIndex;
 
     @Override
     public Fabric inventoryAdapter$getFabric() {
@@ -104,4 +106,12 @@ public abstract class TraitMixin_InventoryBridge_Inventory implements InventoryA
         return this.impl$lens;
     }
 
+    @Override
+    public ItemTypeIndex inventoryAdapter$getItemTypeIndex() {
+        if (this.impl$itemTypeIndex == null) {
+            this.impl$itemTypeIndex = new ItemTypeIndex(this.inventoryAdapter$getFabric(), this.inventoryAdapter$getRootLens());
+        }
+        return this.impl$itemTypeIndex;
+    }
+
 }
@@ -39,6 +39,7 @@
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.fabric.ItemTypeIndex;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
@@ -73,6 +74,7 @@ public abstract class ContainerMixin_Adapter_Inventory implements InventoryBridg
         this.impl$isLensInitialized = false;
         this.impl$provider = null;
         this.impl$lens = null;
+        this.impl$itemTypeIndex = null;
         this.impl$slots.clear();
     }
 
@@ -111,6 +113,7 @@ public abstract class ContainerMixin_Adapter_Inventory implements InventoryBridg
 
     @Nullable private SlotLensProvider impl$provider;
     @Nullable private Lens impl$lens;
+    @Nullable private ItemTypeIndex impl$itemTypeIndex;
 
     @Override
     public Fabric inventoryAdapter$getFabric() {
@@ -133,4 +136,17 @@ public abstract class ContainerMixin_Adapter_Inventory implements InventoryBridg
         return this.impl$lens;
     }
 
+    @Nullable
+    @Override
+    public ItemTypeIndex inventoryAdapter$getItemTypeIndex() {
+        if (this.impl$itemTypeIndex == null) {
+            final Lens rootLens = this.inventoryAdapter$getRootLens();
+            if (rootLens == null) {
+                return null;
+            }
+            this.impl$itemTypeIndex = new ItemTypeIndex(this.inventoryAdapter$getFabric(), rootLens);
+        }
+        return this.impl$itemTypeIndex;
+    }
+
 }
@@ -64,6 +64,8 @@ public abstract class CampfireMixin_Fabric_Inventory implements Fabric, Inventor
     @Override
     public void fabric$setStack(int index, ItemStack stack) {
         this.items.set(index, stack);
+        // Like placing food, this also lets item type indexes know the contents changed
+        this.shadow$markUpdated();
     }
 
     @Override
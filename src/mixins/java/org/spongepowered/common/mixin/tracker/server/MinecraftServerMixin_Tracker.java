@@ -41,6 +41,7 @@
 import org.spongepowered.common.event.tracking.CauseTrackerCrashHandler;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.mixin.tracker.util.concurrent.ThreadTaskExecutorMixin_Tracker;
@@ -74,6 +75,7 @@ public abstract class MinecraftServerMixin_Tracker extends ThreadTaskExecutorMix
         )
     )
     private void tracker$wrapUpdateTimeLightAndEntities(final MinecraftServer minecraftServer, final BooleanSupplier hasTimeLeft) {
+        TrackingUtil.refreshTickElision();
         try (
             final PhaseContext<@NonNull ?> context = TickPhase.Tick.SERVER_TICK
                 .createPhaseContext(PhaseTracker.SERVER)
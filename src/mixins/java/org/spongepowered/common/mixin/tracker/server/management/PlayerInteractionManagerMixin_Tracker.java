@@ -53,6 +53,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.inventory.InventoryEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -77,6 +78,9 @@ public abstract class PlayerInteractionManagerMixin_Tracker {
     public void impl$callInteractItemSecondary(final ServerPlayerEntity player, final World p_187250_2_, final ItemStack stack, final Hand hand,
         final CallbackInfoReturnable<ActionResultType> cir
     ) {
+        if (!ShouldFire.hasListeners(InteractItemEvent.Secondary.class)) {
+            return;
+        }
         final InteractItemEvent.Secondary event = SpongeCommonEventFactory.callInteractItemEventSecondary(player, stack, hand);
         if (event.isCancelled()) {
             cir.setReturnValue(ActionResultType.FAIL);
@@ -92,15 +96,22 @@ public ActionResultType useItemOn(final ServerPlayerEntity playerIn, final World
         final BlockPos blockpos = blockRaytraceResultIn.getBlockPos();
         final BlockState blockstate = worldIn.getBlockState(blockpos);
         // Sponge start
-        final BlockSnapshot snapshot = ((ServerWorld) (worldIn)).createSnapshot(VecHelper.toVector3i(blockpos));
-        final Vector3d hitVec = Vector3d.from(blockRaytraceResultIn.getBlockPos().getX(), blockRaytraceResultIn.getBlockPos().getY(), blockRaytraceResultIn.getBlockPos().getZ());
-        final org.spongepowered.api.util.Direction direction = DirectionFacingProvider.INSTANCE.getKey(blockRaytraceResultIn.getDirection()).get();
-        final InteractBlockEvent.Secondary event = SpongeCommonEventFactory.callInteractBlockEventSecondary(playerIn, stackIn, hitVec, snapshot, direction, handIn);
-        if (event.isCancelled()) {
-            return ActionResultType.FAIL;
+        final Tristate useItem;
+        final Tristate useBlock;
+        if (ShouldFire.hasListeners(InteractBlockEvent.Secondary.class)) {
+            final BlockSnapshot snapshot = ((ServerWorld) (worldIn)).createSnapshot(VecHelper.toVector3i(blockpos));
+            final Vector3d hitVec = Vector3d.from(blockRaytraceResultIn.getBlockPos().getX(), blockRaytraceResultIn.getBlockPos().getY(), blockRaytraceResultIn.getBlockPos().getZ());
+            final org.spongepowered.api.util.Direction direction = DirectionFacingProvider.INSTANCE.getKey(blockRaytraceResultIn.getDirection()).get();
+            final InteractBlockEvent.Secondary event = SpongeCommonEventFactory.callInteractBlockEventSecondary(playerIn, stackIn, hitVec, snapshot, direction, handIn);
+            if (event.isCancelled()) {
+                return ActionResultType.FAIL;
+            }
+            useItem = event.getUseItemResult();
+            useBlock = event.getUseBlockResult();
+        } else {
+            useItem = Tristate.UNDEFINED;
+            useBlock = Tristate.UNDEFINED;
         }
-        final Tristate useItem = event.getUseItemResult();
-        final Tristate useBlock = event.getUseBlockResult();
         // Sponge end
         if (this.gameModeForPlayer == GameType.SPECTATOR) {
             final INamedContainerProvider inamedcontainerprovider = blockstate.getMenuProvider(worldIn, blockpos);
@@ -51,6 +51,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.block.BlockStateBridge;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
@@ -68,9 +69,7 @@
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -143,9 +142,8 @@ public abstract class ChunkMixin_Tracker implements TrackedChunkBridge {
         final PhaseContext<@NonNull ?> context = PhaseTracker.getInstance().getPhaseContext();
         final @Nullable TileEntity existing = this.shadow$getBlockEntity(pos, Chunk.CreateEntityType.CHECK);
         // Build a transaction maybe?
-        final WeakReference<ServerWorld> ref = new WeakReference<>((ServerWorld) this.level);
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
-            () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
+            ((TrackedWorldBridge) this.level).bridge$weakSupplier(),
             Optional::empty, Optional::empty
         );
 
@@ -57,7 +57,7 @@ public abstract class ChunkManagerMixin_Tracker {
     private IllegalStateException tracker$reportEntityAlreadyTrackedWithWorld(final String string, final Entity entityIn) {
         final IllegalStateException exception = new IllegalStateException(String.format("Entity %s is already tracked for world: %s", entityIn,
                 ((org.spongepowered.api.world.server.ServerWorld) this.level).getKey()));
-        if (SpongeConfigs.getCommon().get().phaseTracker.verboseErrors) {
+        if (SpongeConfigs.getCommonSnapshot().phaseTrackerVerboseErrors) {
             PhasePrinter.printMessageWithCaughtException(PhaseTracker.getInstance(), "Exception tracking entity", "An entity that was already tracked was added to the tracker!", exception);
         }
         return exception;
@@ -124,13 +124,14 @@
 import org.spongepowered.common.mixin.tracker.world.WorldMixin_Tracker;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -145,6 +146,24 @@ public abstract class ServerWorldMixin_Tracker extends WorldMixin_Tracker implem
     @Shadow @Final private List<ServerPlayerEntity> players;
     // @formatting:on
 
+    private final WeakReference<ServerWorld> tracker$weakReference = new WeakReference<>((ServerWorld) (Object) this);
+    private final Supplier<ServerWorld> tracker$weakSupplier = ServerWorldMixin_Tracker.tracker$createWeakSupplier(this.tracker$weakReference);
+
+    // Static so the supplier only captures the reference and never the world itself,
+    // snapshots and transactions holding on to it must not keep an unloaded world alive
+    private static Supplier<ServerWorld> tracker$createWeakSupplier(final WeakReference<ServerWorld> reference) {
+        return () -> Objects.requireNonNull(reference.get(), "ServerWorld dereferenced");
+    }
+
+    @Override
+    public WeakReference<ServerWorld> bridge$weakReference() {
+        return this.tracker$weakReference;
+    }
+
+    @Override
+    public Supplier<ServerWorld> bridge$weakSupplier() {
+        return this.tracker$weakSupplier;
+    }
 
     @Inject(method = "add", at = @At("TAIL"))
     private void tracker$setEntityTrackedInWorld(final net.minecraft.entity.Entity entityIn, final CallbackInfo ci) {
@@ -572,7 +591,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         builder.reset();
         builder.blockState(state)
             .world((ServerWorld) (Object) this)
-            .position(VecHelper.toVector3i(pos));
+            .position(pos.immutable());
         final Chunk chunk = this.shadow$getChunkAt(pos);
         if (chunk == null) {
             return builder.flag(updateFlag).build();
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+final class KnownUserIndexTest {
+
+    private static final long DIRECTORY_TIME = 1_600_000_000_000L;
+
+    private static UUID uniqueId(final int i) {
+        return new UUID(0x5350_4F4E_4745L, i + 1);
+    }
+
+    @Test
+    void testWriteReopenRead(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("users.idx");
+        final KnownUserIndex index = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        Assertions.assertFalse(index.isCurrent());
+        index.put(KnownUserIndexTest.uniqueId(0), "Notch", 1000L);
+        index.put(KnownUserIndexTest.uniqueId(1), null, 2000L);
+        index.flush(KnownUserIndexTest.DIRECTORY_TIME);
+        index.close();
+
+        final KnownUserIndex reopened = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        Assertions.assertTrue(reopened.isCurrent());
+        Assertions.assertEquals(2, reopened.size());
+        Assertions.assertTrue(reopened.contains(KnownUserIndexTest.uniqueId(0)));
+        Assertions.assertTrue(reopened.contains(KnownUserIndexTest.uniqueId(1)));
+        Assertions.assertFalse(reopened.contains(KnownUserIndexTest.uniqueId(2)));
+        Assertions.assertEquals(1000L, reopened.getLastSeen(KnownUserIndexTest.uniqueId(0)));
+        Assertions.assertEquals(2000L, reopened.getLastSeen(KnownUserIndexTest.uniqueId(1)));
+        Assertions.assertEquals(1, reopened.streamUnnamed().count());
+        reopened.close();
+    }
+
+    @Test
+    void testStaleFileStartsEmpty(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("users.idx");
+        final KnownUserIndex index = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        index.put(KnownUserIndexTest.uniqueId(0), "Notch", 1000L);
+        index.flush(KnownUserIndexTest.DIRECTORY_TIME);
+        index.close();
+
+        // The player directory changed since the last flush
+        final KnownUserIndex changed = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME + 1);
+        Assertions.assertFalse(changed.isCurrent());
+        Assertions.assertEquals(0, changed.size());
+        changed.close();
+    }
+
+    @Test
+    void testUnflushedFileStartsEmpty(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("users.idx");
+        final KnownUserIndex index = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        index.put(KnownUserIndexTest.uniqueId(0), "Notch", 1000L);
+        index.flush(KnownUserIndexTest.DIRECTORY_TIME);
+        index.close();
+
+        // Opening without flushing again, as after a crash, leaves the file unusable for the next start
+        KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME).close();
+        final KnownUserIndex afterCrash = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        Assertions.assertFalse(afterCrash.isCurrent());
+        Assertions.assertEquals(0, afterCrash.size());
+        afterCrash.close();
+    }
+
+    @Test
+    void testGrowsPastInitialSize(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("users.idx");
+        final int users = 5000;
+        final KnownUserIndex index = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        final long initialSize = Files.size(file);
+        for (int i = 0; i < users; i++) {
+            index.put(KnownUserIndexTest.uniqueId(i), "user" + i, i + 1);
+        }
+        Assertions.assertEquals(users, index.size());
+        index.flush(KnownUserIndexTest.DIRECTORY_TIME);
+        index.close();
+        Assertions.assertTrue(Files.size(file) > initialSize);
+
+        final KnownUserIndex reopened = KnownUserIndex.open(file, KnownUserIndexTest.DIRECTORY_TIME);
+        Assertions.assertTrue(reopened.isCurrent());
+        Assertions.assertEquals(users, reopened.size());
+        for (int i = 0; i < users; i++) {
+            Assertions.assertTrue(reopened.contains(KnownUserIndexTest.uniqueId(i)));
+            Assertions.assertEquals(i + 1, reopened.getLastSeen(KnownUserIndexTest.uniqueId(i)));
+        }
+        final Set<UUID> streamed = reopened.stream().collect(Collectors.toSet());
+        Assertions.assertEquals(users, streamed.size());
+        reopened.close();
+    }
+
+    @Test
+    void testRemoveKeepsRecordsDense(@TempDir final Path directory) throws IOException {
+        final KnownUserIndex index = KnownUserIndex.open(directory.resolve("users.idx"), KnownUserIndexTest.DIRECTORY_TIME);
+        for (int i = 0; i < 3; i++) {
+            index.put(KnownUserIndexTest.uniqueId(i), null, 100L * (i + 1));
+        }
+        index.remove(KnownUserIndexTest.uniqueId(0));
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertFalse(index.contains(KnownUserIndexTest.uniqueId(0)));
+        // The last record moved into the removed one's place and must still be found
+        Assertions.assertEquals(300L, index.getLastSeen(KnownUserIndexTest.uniqueId(2)));
+        Assertions.assertEquals(200L, index.getLastSeen(KnownUserIndexTest.uniqueId(1)));
+        index.close();
+    }
+
+    @Test
+    void testNameBackfill(@TempDir final Path directory) throws IOException {
+        final KnownUserIndex index = KnownUserIndex.open(directory.resolve("users.idx"), KnownUserIndexTest.DIRECTORY_TIME);
+        final UUID named = KnownUserIndexTest.uniqueId(0);
+        final UUID unnamed = KnownUserIndexTest.uniqueId(1);
+        index.put(named, "Notch", 0L);
+        index.put(unnamed, null, 0L);
+        Assertions.assertEquals(1, index.streamUnnamed().count());
+        Assertions.assertEquals(unnamed, index.streamUnnamed().findFirst().orElse(null));
+
+        // Seeing a user again without a name keeps the known one
+        index.put(named, null, 0L);
+        Assertions.assertEquals(1, index.streamUnnamed().count());
+
+        // Backfilling the missing name
+        index.put(unnamed, "jeb_", 0L);
+        Assertions.assertEquals(0, index.streamUnnamed().count());
+        index.close();
+    }
+
+    @Test
+    void testLastSeenOnlyMovesForward(@TempDir final Path directory) throws IOException {
+        final KnownUserIndex index = KnownUserIndex.open(directory.resolve("users.idx"), KnownUserIndexTest.DIRECTORY_TIME);
+        final UUID user = KnownUserIndexTest.uniqueId(0);
+        Assertions.assertEquals(0L, index.getLastSeen(user));
+
+        index.put(user, "Notch", 0L);
+        Assertions.assertEquals(0L, index.getLastSeen(user));
+        index.put(user, null, 5000L);
+        Assertions.assertEquals(5000L, index.getLastSeen(user));
+        index.put(user, null, 4000L);
+        Assertions.assertEquals(5000L, index.getLastSeen(user));
+        index.put(user, null, 0L);
+        Assertions.assertEquals(5000L, index.getLastSeen(user));
+        index.put(user, null, 6000L);
+        Assertions.assertEquals(6000L, index.getLastSeen(user));
+        index.close();
+    }
+
+}
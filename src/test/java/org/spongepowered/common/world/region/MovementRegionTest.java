@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.common.util.SpongeAABB;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class MovementRegionTest {
+
+    @Test
+    void testBlockAlignedBounds() {
+        final AABB aabb = new SpongeAABB(new Vector3d(0, 0, 0), new Vector3d(10, 10, 10));
+        final MovementRegion region = new MovementRegion(aabb, (entity, crossed, entered) -> {});
+        Assertions.assertEquals(aabb.getMin(), region.getBounds().getMin());
+        Assertions.assertEquals(aabb.getMax(), region.getBounds().getMax());
+    }
+
+    @Test
+    void testPartialBlockBounds() {
+        final AABB aabb = new SpongeAABB(new Vector3d(-0.5, 1.25, 2), new Vector3d(3.5, 4, 5.75));
+        final MovementRegion region = new MovementRegion(aabb, (entity, crossed, entered) -> {});
+        Assertions.assertEquals(new Vector3d(-1, 1, 2), region.getBounds().getMin());
+        Assertions.assertEquals(new Vector3d(4, 4, 6), region.getBounds().getMax());
+    }
+
+    @Test
+    void testCrossingMaxEdge() {
+        final List<Boolean> crossings = new ArrayList<>();
+        final MovementRegion region = new MovementRegion(new SpongeAABB(new Vector3d(0, 0, 0), new Vector3d(10, 10, 10)),
+            (entity, crossed, entered) -> crossings.add(entered));
+
+        // Block 9 is the last one inside, block 10 starts on the max edge and is outside
+        region.notifyCrossing(null, 8, 5, 5, 9, 5, 5);
+        Assertions.assertTrue(crossings.isEmpty());
+        region.notifyCrossing(null, 9, 5, 5, 10, 5, 5);
+        region.notifyCrossing(null, 10, 5, 5, 9, 5, 5);
+        Assertions.assertEquals(2, crossings.size());
+        Assertions.assertFalse(crossings.get(0));
+        Assertions.assertTrue(crossings.get(1));
+    }
+
+    @Test
+    void testChunkCoverage() {
+        final MovementRegion region = new MovementRegion(new SpongeAABB(new Vector3d(0, 0, 0), new Vector3d(16, 16, 16)),
+            (entity, crossed, entered) -> {});
+        Assertions.assertTrue(region.coversChunk(0, 0));
+        Assertions.assertFalse(region.coversChunk(1, 0));
+        Assertions.assertFalse(region.coversChunk(0, 1));
+    }
+
+}
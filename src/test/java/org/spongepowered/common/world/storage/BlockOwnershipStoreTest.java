@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+final class BlockOwnershipStoreTest {
+
+    private static final UUID FIRST = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final UUID SECOND = UUID.fromString("853c80ef-3c37-49fd-aa49-938b674adae6");
+
+    @Test
+    void testEntryRoundTrip() {
+        final int maxLocal = 0xFFFFFF - 1;
+        final int[][] cases = {
+            {0, 0, 0},
+            {4095, maxLocal, maxLocal},
+            {1234, OwnerIndex.NONE, 7},
+            {2048, 42, OwnerIndex.NONE},
+            {17, OwnerIndex.NONE, OwnerIndex.NONE},
+        };
+        for (final int[] entryCase : cases) {
+            final long entry = BlockOwnershipStore.encodeEntry(entryCase[0], entryCase[1], entryCase[2]);
+            Assertions.assertEquals(entryCase[0], BlockOwnershipStore.entryKey(entry));
+            Assertions.assertEquals(entryCase[1], BlockOwnershipStore.entryCreator(entry));
+            Assertions.assertEquals(entryCase[2], BlockOwnershipStore.entryNotifier(entry));
+        }
+    }
+
+    @Test
+    void testWriteReadRoundTrip() {
+        final BlockOwnershipStore store = new BlockOwnershipStore(new OwnerIndex(), 16);
+        final BlockPos low = new BlockPos(3, 5, 7);
+        final BlockPos high = new BlockPos(15, 255, 0);
+        store.setCreator(low, BlockOwnershipStoreTest.FIRST);
+        store.setNotifier(low, BlockOwnershipStoreTest.SECOND);
+        store.setNotifier(high, BlockOwnershipStoreTest.FIRST);
+
+        final CompoundNBT compound = new CompoundNBT();
+        store.write(compound);
+        final BlockOwnershipStore read = new BlockOwnershipStore(new OwnerIndex(), 16);
+        read.read(compound);
+
+        Assertions.assertEquals(BlockOwnershipStoreTest.FIRST, read.getCreator(low));
+        Assertions.assertEquals(BlockOwnershipStoreTest.SECOND, read.getNotifier(low));
+        Assertions.assertNull(read.getCreator(high));
+        Assertions.assertEquals(BlockOwnershipStoreTest.FIRST, read.getNotifier(high));
+        Assertions.assertNull(read.getCreator(new BlockPos(3, 6, 7)));
+    }
+
+    @Test
+    void testSectionCountFromChunk() {
+        final BlockOwnershipStore store = new BlockOwnershipStore(new OwnerIndex(), 4);
+        final BlockPos inside = new BlockPos(0, 63, 0);
+        final BlockPos outside = new BlockPos(0, 64, 0);
+        store.setCreator(inside, BlockOwnershipStoreTest.FIRST);
+        store.setCreator(outside, BlockOwnershipStoreTest.FIRST);
+        Assertions.assertEquals(BlockOwnershipStoreTest.FIRST, store.getCreator(inside));
+        Assertions.assertNull(store.getCreator(outside));
+    }
+
+    @Test
+    void testOwnersReleased() {
+        final OwnerIndex index = new OwnerIndex();
+        final BlockOwnershipStore first = new BlockOwnershipStore(index, 16);
+        final BlockOwnershipStore second = new BlockOwnershipStore(index, 16);
+        first.setCreator(BlockPos.ZERO, BlockOwnershipStoreTest.FIRST);
+        first.setNotifier(BlockPos.ZERO, BlockOwnershipStoreTest.SECOND);
+        second.setCreator(BlockPos.ZERO, BlockOwnershipStoreTest.FIRST);
+        Assertions.assertEquals(2, index.getOwnerCount());
+
+        // Replacing the only notifier frees its owner
+        first.setNotifier(BlockPos.ZERO, null);
+        Assertions.assertEquals(1, index.getOwnerCount());
+
+        // An owner stays while any loaded chunk still refers to it
+        first.release();
+        Assertions.assertEquals(1, index.getOwnerCount());
+        Assertions.assertNull(first.getCreator(BlockPos.ZERO));
+        Assertions.assertEquals(BlockOwnershipStoreTest.FIRST, second.getCreator(BlockPos.ZERO));
+
+        second.release();
+        Assertions.assertEquals(0, index.getOwnerCount());
+    }
+
+    @Test
+    void testFreedIndexReused() {
+        final OwnerIndex index = new OwnerIndex();
+        final int first = index.acquire(BlockOwnershipStoreTest.FIRST);
+        index.release(first, 1);
+        Assertions.assertNull(index.getOwner(first));
+        final int second = index.acquire(BlockOwnershipStoreTest.SECOND);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(BlockOwnershipStoreTest.SECOND, index.getOwner(second));
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume.buffer.block;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+final class BlockBackingDataTest {
+
+    private static final int SIZE = 1000;
+
+    private static int[] randomValues(final int size, final int bits, final long seed) {
+        final Random random = new Random(seed);
+        final int[] values = new int[size];
+        final long bound = 1L << bits;
+        for (int i = 0; i < size; i++) {
+            // At 32 bits this covers negative ints too, which must not leak into neighbouring entries
+            values[i] = (int) (random.nextLong() & bound - 1);
+        }
+        return values;
+    }
+
+    private static void assertRoundTrip(final BlockBackingData data, final int[] values) {
+        for (int i = 0; i < values.length; i++) {
+            data.set(i, values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(values[i], data.get(i), "entry " + i);
+        }
+    }
+
+    @Test
+    void testPackedRoundTripAllWidths() {
+        for (int bits = 1; bits <= Integer.SIZE; bits++) {
+            final BlockBackingData data = new BlockBackingData.PackedBackingData(BlockBackingDataTest.SIZE, bits,
+                new long[BlockBackingData.AbstractPackedBackingData.wordsFor(BlockBackingDataTest.SIZE, bits)]);
+            BlockBackingDataTest.assertRoundTrip(data, BlockBackingDataTest.randomValues(BlockBackingDataTest.SIZE, bits, bits));
+        }
+    }
+
+    @Test
+    void testDirectRoundTripAllWidths() {
+        // 31 bits is the widest a non negative id can need
+        for (int bits = 1; bits < Integer.SIZE; bits++) {
+            final int highest = (int) ((1L << bits) - 1);
+            final BlockBackingData data = new BlockBackingData.DirectPackedBackingData(BlockBackingDataTest.SIZE, highest);
+            Assertions.assertEquals(highest, data.getMax());
+            BlockBackingDataTest.assertRoundTrip(data, BlockBackingDataTest.randomValues(BlockBackingDataTest.SIZE, bits, bits));
+        }
+    }
+
+    @Test
+    void testHighestIdWidth() {
+        final BlockBackingData data = new BlockBackingData.PackedBackingData(BlockBackingDataTest.SIZE, Integer.MAX_VALUE);
+        Assertions.assertEquals(Integer.MAX_VALUE, data.getMax());
+        BlockBackingDataTest.assertRoundTrip(data, BlockBackingDataTest.randomValues(BlockBackingDataTest.SIZE, Integer.SIZE - 1, 31));
+    }
+
+    @Test
+    void testEntrySpanningTwoWords() {
+        // With 5 bits per entry, entry 12 covers bits 60 to 64 and so spans the first two words
+        final BlockBackingData data = new BlockBackingData.PackedBackingData(64, 31);
+        data.set(11, 0b10101);
+        data.set(12, 0b11011);
+        data.set(13, 0b01110);
+        Assertions.assertEquals(0b10101, data.get(11));
+        Assertions.assertEquals(0b11011, data.get(12));
+        Assertions.assertEquals(0b01110, data.get(13));
+
+        // Overwriting the spanning entry must not touch its neighbours
+        data.set(12, 0);
+        Assertions.assertEquals(0b10101, data.get(11));
+        Assertions.assertEquals(0, data.get(12));
+        Assertions.assertEquals(0b01110, data.get(13));
+    }
+
+    @Test
+    void testEntrySpanningTwoShards() {
+        // Two words per shard, so with 7 bits per entry, entry 18 spans the words 1 and 2 and therefore the first two shards
+        final BlockBackingData.DirectPackedBackingData data = new BlockBackingData.DirectPackedBackingData(BlockBackingDataTest.SIZE, 127, 1);
+        Assertions.assertEquals((BlockBackingData.AbstractPackedBackingData.wordsFor(BlockBackingDataTest.SIZE, 7) + 1) / 2, data.getShardCount());
+        BlockBackingDataTest.assertRoundTrip(data, BlockBackingDataTest.randomValues(BlockBackingDataTest.SIZE, 7, 18));
+        data.set(18, 0b1010101);
+        Assertions.assertEquals(0b1010101, data.get(18));
+
+        final BlockBackingData copy = data.copyOf();
+        Assertions.assertEquals(data, copy);
+        copy.set(18, 0);
+        Assertions.assertNotEquals(data, copy);
+        Assertions.assertEquals(0b1010101, data.get(18));
+    }
+
+    @Test
+    void testWidenOnPaletteGrowth() {
+        final int[] values = BlockBackingDataTest.randomValues(BlockBackingDataTest.SIZE, 3, 3);
+        final BlockBackingData narrow = new BlockBackingData.PackedBackingData(BlockBackingDataTest.SIZE, 7);
+        BlockBackingDataTest.assertRoundTrip(narrow, values);
+
+        // Growing the palette past the current width keeps every existing entry
+        final BlockBackingData wide = BlockBackingData.widen(narrow, BlockBackingDataTest.SIZE, 1000);
+        Assertions.assertEquals(1023, wide.getMax());
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(values[i], wide.get(i), "entry " + i);
+        }
+        wide.set(0, 1000);
+        Assertions.assertEquals(1000, wide.get(0));
+        Assertions.assertEquals(values[1], wide.get(1));
+    }
+
+}
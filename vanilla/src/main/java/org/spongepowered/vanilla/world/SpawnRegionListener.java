@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.vanilla.world;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.listener.IChunkStatusListener;
+import net.minecraft.world.server.ServerChunkProvider;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Wraps the chunk status listener of a world so that the preparation of its
+ * spawn region can complete as soon as the last chunk of it is loaded, rather
+ * than polling the chunk provider for how many chunks are ready.
+ *
+ * <p>Status changes are reported from the chunk loading threads, so the
+ * returned future is not completed on the server thread.</p>
+ */
+final class SpawnRegionListener implements IChunkStatusListener {
+
+    private final IChunkStatusListener delegate;
+    private volatile @Nullable Region region;
+
+    SpawnRegionListener(final IChunkStatusListener delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Starts waiting for every chunk within a ticket of the given radius
+     * around the center to be fully loaded. Must be called on the server
+     * thread, before the ticket is added.
+     *
+     * @param center The center of the region
+     * @param radius The radius of the region ticket
+     * @param chunkProvider The chunk provider of the world, used to count chunks that are already loaded
+     * @return A future completed once the whole region is loaded
+     */
+    CompletableFuture<Void> awaitRegion(final ChunkPos center, final int radius, final ServerChunkProvider chunkProvider) {
+        final Region region = new Region(center, radius - 1);
+        this.region = region;
+        for (int x = -region.extent; x <= region.extent; x++) {
+            for (int z = -region.extent; z <= region.extent; z++) {
+                if (chunkProvider.getChunkNow(center.x + x, center.z + z) != null) {
+                    region.loaded(center.x + x, center.z + z);
+                }
+            }
+        }
+        return region.future.whenComplete((v, t) -> {
+            if (this.region == region) {
+                this.region = null;
+            }
+        });
+    }
+
+    @Override
+    public void updateSpawnPos(final ChunkPos center) {
+        this.delegate.updateSpawnPos(center);
+    }
+
+    @Override
+    public void onStatusChange(final ChunkPos chunkPosition, @Nullable final ChunkStatus newStatus) {
+        this.delegate.onStatusChange(chunkPosition, newStatus);
+        final Region region = this.region;
+        if (region != null && newStatus == ChunkStatus.FULL) {
+            region.loaded(chunkPosition.x, chunkPosition.z);
+        }
+    }
+
+    @Override
+    public void stop() {
+        this.delegate.stop();
+    }
+
+    private static final class Region {
+
+        final int centerX;
+        final int centerZ;
+        final int extent;
+        final int diameter;
+        final AtomicIntegerArray loaded;
+        final AtomicInteger remaining;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Region(final ChunkPos center, final int extent) {
+            this.centerX = center.x;
+            this.centerZ = center.z;
+            this.extent = Math.max(0, extent);
+            this.diameter = this.extent * 2 + 1;
+            this.loaded = new AtomicIntegerArray(this.diameter * this.diameter);
+            this.remaining = new AtomicInteger(this.diameter * this.diameter);
+        }
+
+        void loaded(final int chunkX, final int chunkZ) {
+            final int x = chunkX - this.centerX + this.extent;
+            final int z = chunkZ - this.centerZ + this.extent;
+            if (x < 0 || z < 0 || x >= this.diameter || z >= this.diameter) {
+                return;
+            }
+            if (this.loaded.compareAndSet(x * this.diameter + z, 0, 1) && this.remaining.decrementAndGet() == 0) {
+                this.future.complete(null);
+            }
+        }
+    }
+}
@@ -59,6 +59,7 @@
 import net.minecraft.world.WorldSettings;
 import net.minecraft.world.biome.BiomeManager;
 import net.minecraft.world.chunk.listener.IChunkStatusListener;
+import net.minecraft.world.chunk.storage.IOWorker;
 import net.minecraft.world.gen.feature.Features;
 import net.minecraft.world.gen.settings.DimensionGeneratorSettings;
 import net.minecraft.world.server.ServerChunkProvider;
@@ -81,18 +82,20 @@
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryEntry;
 import org.spongepowered.api.registry.RegistryTypes;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.world.WorldType;
 import org.spongepowered.api.world.server.WorldTemplate;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
+import org.spongepowered.common.accessor.world.chunk.storage.ChunkLoaderAccessor;
+import org.spongepowered.common.accessor.world.chunk.storage.RegionSectionCacheAccessor;
 import org.spongepowered.common.accessor.world.gen.DimensionGeneratorSettingsAccessor;
 import org.spongepowered.common.accessor.world.storage.SaveFormat_LevelSaveAccessor;
 import org.spongepowered.common.accessor.world.storage.ServerWorldInfoAccessor;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.world.DimensionBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.IOWorkerBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.gen.DimensionGeneratorSettingsBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
@@ -101,29 +104,26 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 import org.spongepowered.common.datapack.DataPackSerializer;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.server.BootstrapProperties;
 import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 import org.spongepowered.common.world.server.SpongeWorldTemplate;
+import org.spongepowered.common.world.server.WorldFileOperations;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -131,8 +131,11 @@
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public final class VanillaWorldManager implements SpongeWorldManager {
@@ -140,6 +143,7 @@ public final class VanillaWorldManager implements SpongeWorldManager {
     private final MinecraftServer server;
     private final Path dimensionsDataPackDirectory, defaultWorldDirectory, customWorldsDirectory;
     private final Map<RegistryKey<World>, ServerWorld> worlds;
+    private final Map<RegistryKey<World>, Integer> spawnRegionRadii = new HashMap<>();
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", (i, o) -> i.compareTo(o));
 
@@ -366,16 +370,18 @@ private CompletableFuture<org.spongepowered.api.world.server.ServerWorld> loadWo
         final boolean isDebugGeneration = levelData.worldGenSettings().isDebug();
         final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
 
-        final IChunkStatusListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$getProgressListenerFactory().create(11);
+        final IChunkStatusListener chunkStatusListener = new SpawnRegionListener(((MinecraftServerAccessor) this.server)
+                .accessor$getProgressListenerFactory().create(VanillaWorldManager.getSpawnRegionRadius(configAdapter.get())));
 
         final ServerWorld world = new ServerWorld(this.server, ((MinecraftServerAccessor) this.server).accessor$executor(), storageSource, levelData,
                 registryKey, (DimensionType) worldType, chunkStatusListener, template.generator(), isDebugGeneration, seed, ImmutableList.of(), true);
         this.worlds.put(registryKey, world);
 
-        return SpongeCommon.getAsyncScheduler().submit(() -> this.prepareWorld(world, isDebugGeneration)).thenApply(w -> {
+        // Back onto the server thread, the spawn region is awaited through the chunk provider and spawnRegionRadii is only used there
+        return SpongeCommon.getAsyncScheduler().submit(SpongeCommon.getPlugin(), () -> this.prepareWorld(world, isDebugGeneration)).thenComposeAsync(w -> {
             ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
-            return w;
-        }).thenCompose(w -> this.postWorldLoad(w, false))
+            return this.postWorldLoad(w);
+        }, this.server)
           .thenApply(w -> (org.spongepowered.api.world.server.ServerWorld) w);
     }
 
@@ -562,110 +568,92 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerWorld loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
-
-        if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.save(null, true, loadedWorld.noSave);
-            loadedWorld.noSave = true;
-        }
-
         final boolean isDefaultWorld = this.isDefaultWorld(key);
-        final boolean isVanillaWorld = this.isVanillaWorld(key);
-        final String directoryName = this.getDirectoryName(key);
-
-        final Path originalDirectory = isDefaultWorld ? this.defaultWorldDirectory : isVanillaWorld ? this.defaultWorldDirectory
-                .resolve(directoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
+        final Path originalDirectory = this.getWorldDirectory(key);
+        final Path copyDirectory = this.getWorldDirectory(copyKey);
 
-        final boolean isVanillaCopyWorld = this.isVanillaWorld(copyKey);
-        final String copyDirectoryName = this.getDirectoryName(copyKey);
-
-        final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
-                .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final Supplier<CompletableFuture<Void>> copyFiles = () -> WorldFileOperations.copyDirectory(originalDirectory, copyDirectory,
+                dir -> {
+                    final String directoryName = dir.getFileName().toString();
                     // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
+                    if (directoryName.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                        return true;
                     }
 
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && VanillaWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    return isDefaultWorld && this.isVanillaSubWorld(directoryName);
+                },
+                file -> {
                     final String fileName = file.getFileName().toString();
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
+                    return fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) || fileName.equals(Constants.World.LEVEL_DAT_OLD);
+                },
+                WorldFileOperations.logging(String.format("Copying world '%s' to '%s'", key, copyKey)));
+
+        final CompletableFuture<Void> filesCopied;
+        if (loadedWorld == null) {
+            // The files are copied on the world IO threads, nothing else touches them while the world is not loaded
+            filesCopied = copyFiles.get();
+        } else {
+            // A loaded world keeps writing chunks as they unload, noSave only stops ServerWorld#save. Save it and write out
+            // everything its IO workers still have queued on the server thread, then hold back further region writes and
+            // level saves while the files are copied on the world IO threads. Held back chunks stay queued in memory.
+            filesCopied = CompletableFuture.supplyAsync(() -> {
+                final ServerChunkProvider chunkSource = loadedWorld.getChunkSource();
+                final IOWorkerBridge chunkWorker = (IOWorkerBridge) ((ChunkLoaderAccessor) chunkSource.chunkMap).accessor$worker();
+                final IOWorker poiWorker = ((RegionSectionCacheAccessor) chunkSource.getPoiManager()).accessor$worker();
+                loadedWorld.save(null, true, loadedWorld.noSave);
+                chunkSource.chunkMap.flushWorker();
+                poiWorker.synchronize().join();
+
+                final boolean disableLevelSaving = loadedWorld.noSave;
+                loadedWorld.noSave = true;
+                chunkWorker.bridge$pauseWrites();
+                ((IOWorkerBridge) poiWorker).bridge$pauseWrites();
+                return copyFiles.get().whenComplete((v, throwable) -> {
+                    // Resumed from the IO threads, a server thread waiting on a flush must not be what keeps them paused
+                    chunkWorker.bridge$resumeWrites();
+                    ((IOWorkerBridge) poiWorker).bridge$resumeWrites();
+                    this.server.execute(() -> loadedWorld.noSave = disableLevelSaving);
+                });
+            }, this.server).thenCompose(Function.identity());
+        }
+
+        return filesCopied
+                .thenCompose(v -> WorldFileOperations.run(() -> this.copyDimensionTemplate(key, copyKey)))
+                .handleAsync((v, throwable) -> {
+                    if (throwable != null) {
+                        // Bail the whole deal if we hit IO problems!
+                        WorldFileOperations.deleteDirectory(copyDirectory, null);
+                        throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
-            }
-
-            return FutureUtil.completedWithException(e);
-        }
+                    return true;
+                }, this.server);
+    }
 
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
+    private void copyDimensionTemplate(final ResourceKey key, final ResourceKey copyKey) throws IOException {
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        if (Files.notExists(dimensionTemplate)) {
+            return;
         }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
+        Files.createDirectories(copiedDimensionTemplate.getParent());
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        final JsonObject fixedObject;
-        try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
+        final JsonObject root;
+        try (final InputStream stream = Files.newInputStream(dimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
             final JsonParser parser = new JsonParser();
-            final JsonElement element = parser.parse(reader);
+            root = parser.parse(reader).getAsJsonObject();
+        }
 
-            final JsonObject root = element.getAsJsonObject();
-            final JsonObject spongeData = root.getAsJsonObject("#sponge");
+        final JsonObject spongeData = root.getAsJsonObject("#sponge");
+        if (spongeData != null) {
             spongeData.remove("unique_id");
-            fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
         }
 
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.getAsString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
-            }
+        try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
+            writer.write(root.toString());
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
@@ -693,49 +681,26 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             }
         }
 
-        final boolean isVanillaWorld = this.isVanillaWorld(key);
-        final String directoryName = this.getDirectoryName(key);
+        final Path originalDirectory = this.getWorldDirectory(key);
+        final Path moveDirectory = this.getWorldDirectory(movedKey);
 
-        final Path originalDirectory = isVanillaWorld ? this.defaultWorldDirectory
-                .resolve(directoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        final boolean isVanillaMoveWorld = this.isVanillaWorld(movedKey);
-        final String moveDirectoryName = this.getDirectoryName(movedKey);
-
-        final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key
-                .getNamespace()).resolve(key.getValue() + ".conf");
-
-        final Path copiedConfigFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds")
-                .resolve(movedKey.getNamespace()).resolve(movedKey.getValue() + ".conf");
-
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        final Path configFile = this.getWorldConfigFile(key);
+        final Path movedConfigFile = this.getWorldConfigFile(movedKey);
 
         final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
+        final Path movedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        return WorldFileOperations.moveDirectory(originalDirectory, moveDirectory)
+                .thenCompose(v -> WorldFileOperations.run(() -> {
+                    Files.createDirectories(movedConfigFile.getParent());
+                    Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
 
-        return CompletableFuture.completedFuture(true);
+                    if (Files.exists(dimensionTemplate)) {
+                        Files.createDirectories(movedDimensionTemplate.getParent());
+                        Files.move(dimensionTemplate, movedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }))
+                .thenApplyAsync(v -> true, this.server);
     }
 
     @Override
@@ -762,38 +727,31 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             }
         }
 
-        final boolean isVanillaWorld = this.isVanillaWorld(key);
-        final String directoryName = this.getDirectoryName(key);
-
-        final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
+        final Path directory = this.getWorldDirectory(key);
+        final Path configFile = this.getWorldConfigFile(key);
+        final Path dimensionTemplate = this.getDataPackFile(key);
 
-        final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key.getNamespace()).resolve(key.getValue() + ".conf");
+        return WorldFileOperations.deleteDirectory(directory, WorldFileOperations.logging(String.format("Deleting world '%s'", key)))
+                .thenCompose(v -> WorldFileOperations.run(() -> {
+                    Files.deleteIfExists(configFile);
+                    Files.deleteIfExists(dimensionTemplate);
+                }))
+                .thenApplyAsync(v -> true, this.server);
+    }
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+    private Path getWorldDirectory(final ResourceKey key) {
+        if (this.isDefaultWorld(key)) {
+            return this.defaultWorldDirectory;
         }
-
-        final Path dimensionTemplate = this.getDataPackFile(key);
-
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
+        if (this.isVanillaWorld(key)) {
+            return this.defaultWorldDirectory.resolve(this.getDirectoryName(key));
         }
+        return this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
+    }
 
-        return CompletableFuture.completedFuture(true);
+    private Path getWorldConfigFile(final ResourceKey key) {
+        return SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key.getNamespace())
+                .resolve(key.getValue() + ".conf");
     }
 
     @Override
@@ -807,7 +765,10 @@ public void unloadWorld0(final ServerWorld world) throws IOException {
         SpongeCommon.getLogger().info("Unloading World '{}' ({})", registryKey.location(), RegistryTypes.WORLD_TYPE.get().valueKey((WorldType) world.dimensionType()));
 
         final BlockPos spawnPoint = world.getSharedSpawnPos();
-        world.getChunkSource().removeRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
+        final Integer spawnRegionRadius = this.spawnRegionRadii.remove(registryKey);
+        if (spawnRegionRadius != null) {
+            world.getChunkSource().removeRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), spawnRegionRadius, registryKey.location());
+        }
 
         ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter().save();
         ((ServerWorldBridge) world).bridge$setManualSave(true);
@@ -922,7 +883,8 @@ public void loadLevel() {
             final long seed = BiomeManager.obfuscateSeed(levelData.worldGenSettings().seed());
 
             final RegistryKey<World> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
-            final IChunkStatusListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$getProgressListenerFactory().create(11);
+            final IChunkStatusListener chunkStatusListener = new SpawnRegionListener(((MinecraftServerAccessor) this.server)
+                    .accessor$getProgressListenerFactory().create(VanillaWorldManager.getSpawnRegionRadius(configAdapter.get())));
             final List<ISpecialSpawner> spawners;
             if (isDefaultWorld) {
                 spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
@@ -939,12 +901,21 @@ public void loadLevel() {
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (final Map.Entry<RegistryKey<World>, ServerWorld> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
-            }
+        // Prepare the spawn regions of every world at once, the server thread only has to keep the chunk system running until
+        // the last one is done.
+        final List<CompletableFuture<ServerWorld>> preparations = new ArrayList<>();
+        for (final ServerWorld world : this.worlds.values()) {
+            preparations.add(this.postWorldLoad(world));
+        }
+        final CompletableFuture<Void> allPrepared = CompletableFuture.allOf(preparations.toArray(new CompletableFuture<?>[0]));
+        while (!allPrepared.isDone()) {
+            ((MinecraftServerAccessor) this.server).accessor$setNextTickTime(Util.getMillis() + 10L);
+            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+        }
+        try {
+            allPrepared.get();
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
         }
 
         ((SpongeUserManager) Sponge.getServer().getUserManager()).init();
@@ -1012,91 +983,52 @@ private ServerWorld prepareWorld(final ServerWorld world, final boolean isDebugG
         return world;
     }
 
-    private CompletableFuture<ServerWorld> postWorldLoad(final ServerWorld world, final boolean blocking) {
+    private CompletableFuture<ServerWorld> postWorldLoad(final ServerWorld world) {
         final ServerWorldInfo levelData = (ServerWorldInfo) world.getLevelData();
         final ServerWorldInfoBridge levelBridge = (ServerWorldInfoBridge) levelData;
         final boolean isDefaultWorld = this.isDefaultWorld((ResourceKey) (Object) world.dimension().location());
         if (isDefaultWorld || levelBridge.bridge$performsSpawnLogic()) {
             MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
                     RegistryTypes.WORLD_TYPE.get().valueKey((WorldType) world.dimensionType()));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
+            return this.loadSpawnChunks(world); // Chunks are NOT generated yet BUT will be when the future returns
         }
         return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
 
-    private CompletableFuture<ServerWorld> loadSpawnChunksAsync(final ServerWorld world) {
-
+    private CompletableFuture<ServerWorld> loadSpawnChunks(final ServerWorld world) {
+        final long startTime = System.nanoTime();
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         final ChunkPos chunkPos = new ChunkPos(spawnPoint);
+        final int radius = VanillaWorldManager.getSpawnRegionRadius(((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter().get());
+        final IChunkStatusListener chunkStatusListener = ((ServerWorldBridge) world).bridge$getChunkStatusListener();
+        chunkStatusListener.updateSpawnPos(chunkPos);
         final ServerChunkProvider serverChunkProvider = world.getChunkSource();
         serverChunkProvider.getLightEngine().setTaskPerBatch(500);
 
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerWorld> generationFuture = new CompletableFuture<>();
-        Sponge.getAsyncScheduler().submit(
-                Task.builder().plugin(Launch.getInstance().getPlatformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.getServer().getScheduler().submit(Task.builder().plugin(Launch.getInstance().getPlatformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world
-                                        .dimension().location(), RegistryTypes.WORLD_TYPE.get().valueKey((WorldType) world.dimensionType()));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
+        // The listener completes this from the chunk loading threads as soon as the last chunk of the region is loaded
+        final CompletableFuture<Void> regionFuture = ((SpawnRegionListener) chunkStatusListener).awaitRegion(chunkPos, radius, serverChunkProvider);
+        serverChunkProvider.addRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, radius, world.dimension().location());
+        this.spawnRegionRadii.put(world.dimension(), radius);
+
+        return regionFuture.thenApplyAsync(v -> {
             this.updateForcedChunks(world, serverChunkProvider);
+            chunkStatusListener.stop();
             serverChunkProvider.getLightEngine().setTaskPerBatch(5);
 
             // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
             if (!((ServerWorldInfoBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+                serverChunkProvider.removeRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, radius, world.dimension().location());
+                this.spawnRegionRadii.remove(world.dimension());
             }
+            MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({}) in {} ms", world.dimension().location(),
+                    RegistryTypes.WORLD_TYPE.get().valueKey((WorldType) world.dimensionType()),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
             return world;
-        });
+        }, this.server);
     }
 
-    private void loadSpawnChunks(final ServerWorld world) {
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final IChunkStatusListener chunkStatusListener = ((ServerWorldBridge) world).bridge$getChunkStatusListener();
-        chunkStatusListener.updateSpawnPos(chunkPos);
-        final ServerChunkProvider serverChunkProvider = world.getChunkSource();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(500);
-        ((MinecraftServerAccessor) this.server).accessor$setNextTickTime(Util.getMillis());
-        serverChunkProvider.addRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-
-        while (serverChunkProvider.getTickingGenerated() != 441) {
-            ((MinecraftServerAccessor) this.server).accessor$setNextTickTime(Util.getMillis() + 10L);
-            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        }
-
-        ((MinecraftServerAccessor) this.server).accessor$setNextTickTime(Util.getMillis() + 10L);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-
-        this.updateForcedChunks(world, serverChunkProvider);
-
-        ((MinecraftServerAccessor) this.server).accessor$setNextTickTime(Util.getMillis() + 10L);
-        ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
-        chunkStatusListener.stop();
-        serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-        // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-        if (!((ServerWorldInfoBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-            serverChunkProvider.removeRegionTicket(VanillaWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-        }
+    private static int getSpawnRegionRadius(final WorldConfig config) {
+        return Math.max(1, Math.min(32, config.world.spawnChunkRadius));
     }
 
     private void updateForcedChunks(final ServerWorld world, final ServerChunkProvider serverChunkProvider) {